@@ -0,0 +1,115 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ErrorResponseDto;
+import com.example.demo.entity.Task;
+import com.example.demo.entity.User;
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.exception.TaskAlreadyExistsException;
+import com.example.demo.exception.TaskDoesntExistException;
+import com.example.demo.exception.TaskListIsEmptyException;
+import com.example.demo.exception.UserDoesNotExistException;
+
+import jakarta.validation.Valid;
+
+/**
+ * GlobalExceptionHandler error paths: exception construction plus the handler on its
+ * own, and the full Spring MVC dispatch (handler lookup, advice resolution, JSON
+ * error body) through MockMvc for not-found, empty-list and validation failures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+	static final String INVALID_USER = "{\"userId\":1,\"userName\":\"ab\",\"password\":\"weak\",\"email\":\"not-an-email\",\"fullName\":\"A\"}";
+
+	GlobalExceptionHandler handler;
+
+	MockMvc mockMvc;
+
+	@RestController
+	static class FailingController {
+
+		@GetMapping("/tasks")
+		Task getAllTasks() throws TaskListIsEmptyException {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		}
+
+		@PutMapping("/tasks/{taskId}")
+		Task updateTask(@PathVariable("taskId") int taskId) throws TaskDoesntExistException {
+			throw new TaskDoesntExistException("Task doesn't exist");
+		}
+
+		@GetMapping("/users/{userId}")
+		User getUser(@PathVariable("userId") int userId) throws UserDoesNotExistException {
+			throw new UserDoesNotExistException("User doesn't exist");
+		}
+
+		@PostMapping("/users")
+		User createUser(@Valid @RequestBody User user) {
+			return user;
+		}
+
+	}
+
+	@Setup
+	public void setUp() {
+		handler = new GlobalExceptionHandler();
+		mockMvc = MockMvcBuilders.standaloneSetup(new FailingController()).setControllerAdvice(handler).build();
+	}
+
+	@Benchmark
+	public ResponseEntity<ErrorResponseDto> handlerOnly() {
+		return handler.handleTaskAlreadyExistsException(new TaskAlreadyExistsException("Task already exist"), null);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse listIsEmpty() throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.get("/tasks")).andReturn().getResponse();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse updateNotFound() throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.put("/tasks/1")).andReturn().getResponse();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse userNotFound() throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.get("/users/1")).andReturn().getResponse();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse validationFailure() throws Exception {
+		return mockMvc.perform(MockMvcRequestBuilders.post("/users").contentType(MediaType.APPLICATION_JSON)
+				.content(INVALID_USER)).andReturn().getResponse();
+	}
+
+}
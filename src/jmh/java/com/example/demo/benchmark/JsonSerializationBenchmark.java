@@ -0,0 +1,82 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.demo.dto.ProjectUserDto;
+import com.example.demo.dto.UserUserRoleDto;
+import com.example.demo.entity.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Jackson serialization of the list payloads returned by the task, project and
+ * user endpoints, using an ObjectMapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	@Param({ "100", "1000" })
+	int size;
+
+	ObjectMapper objectMapper;
+
+	List<Task> tasks;
+
+	List<ProjectUserDto> projects;
+
+	List<UserUserRoleDto> users;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		tasks = new ArrayList<>();
+		projects = new ArrayList<>();
+		users = new ArrayList<>();
+		for (int i = 1; i <= size; i++) {
+			tasks.add(new Task(i, "Task " + i, "Description of task " + i, LocalDate.now().plusDays(i % 30), "High", "Pending"));
+			projects.add(new ProjectUserDto(i, "Project " + i, "Description of project " + i, LocalDate.now(),
+					LocalDate.now().plusDays(90), i));
+			users.add(new UserUserRoleDto(i, "User " + i, "user" + i + "@example.com", Arrays.asList("Admin", "Developer")));
+		}
+	}
+
+	@Benchmark
+	public byte[] serializeTasks() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(tasks);
+	}
+
+	@Benchmark
+	public byte[] serializeProjectUserDtos() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(projects);
+	}
+
+	@Benchmark
+	public byte[] serializeUserUserRoleDtos() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(users);
+	}
+
+}
@@ -0,0 +1,127 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.TaskManagementSystemApplication;
+import com.example.demo.dto.CursorPageDto;
+import com.example.demo.dto.TaskSummaryDto;
+import com.example.demo.entity.Task;
+import com.example.demo.exception.TaskDoesntExistException;
+import com.example.demo.exception.TaskListIsEmptyException;
+import com.example.demo.service.ProjectStatisticsService;
+import com.example.demo.service.TaskService;
+
+/**
+ * TaskServiceImpl read paths against the full Spring context on an embedded H2
+ * database (MySQL mode, schema from the Flyway migrations) seeded with
+ * {@value #USERS} users, {@value #PROJECTS} projects and {@value #TASKS} tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceReadBenchmark {
+
+	static final int USERS = 1000;
+	static final int PROJECTS = 200;
+	static final int TASKS = 100_000;
+
+	static final String[] STATUSES = { "Pending", "InProgress", "Completed" };
+	static final String[] PRIORITIES = { "Low", "Medium", "High" };
+
+	ConfigurableApplicationContext context;
+
+	TaskService taskService;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+				.web(WebApplicationType.NONE).profiles("benchmark").run();
+		seed(context.getBean(JdbcTemplate.class));
+		// The statistics were built on startup, before the seed data existed
+		context.getBean(ProjectStatisticsService.class).rebuild();
+		taskService = context.getBean(TaskService.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	private static void seed(JdbcTemplate jdbcTemplate) {
+		List<Object[]> users = new ArrayList<>();
+		for (int i = 1; i <= USERS; i++)
+			users.add(new Object[] { i, "user" + i, "User " + i, "user" + i + "@example.com", "example.com", "Secret@1" });
+		jdbcTemplate.batchUpdate("insert into user (userid, username, fullname, email, emaildomain, password) values (?, ?, ?, ?, ?, ?)", users);
+
+		List<Object[]> projects = new ArrayList<>();
+		for (int i = 1; i <= PROJECTS; i++)
+			projects.add(new Object[] { i, "Project " + i, "Project " + i, LocalDate.now(), LocalDate.now().plusDays(90), i % USERS + 1 });
+		jdbcTemplate.batchUpdate("insert into project (projectid, projectname, description, startdate, enddate, userid) values (?, ?, ?, ?, ?, ?)", projects);
+
+		List<Object[]> tasks = new ArrayList<>();
+		for (int i = 1; i <= TASKS; i++) {
+			tasks.add(new Object[] { i, "Task " + i, "Description of task " + i, LocalDate.now().plusDays(i % 60 - 30),
+					PRIORITIES[i % 3], STATUSES[i % 3], i % USERS + 1, (i * 7) % PROJECTS + 1 });
+			if (tasks.size() == 5000) {
+				insertTasks(jdbcTemplate, tasks);
+				tasks.clear();
+			}
+		}
+		insertTasks(jdbcTemplate, tasks);
+		jdbcTemplate.update("update user u set taskcount = (select count(*) from task t where t.userid = u.userid)");
+	}
+
+	private static void insertTasks(JdbcTemplate jdbcTemplate, List<Object[]> tasks) {
+		jdbcTemplate.batchUpdate("insert into task (taskid, taskname, description, duedate, priority, status, userid, projectid) values (?, ?, ?, ?, ?, ?, ?, ?)", tasks);
+	}
+
+	@Benchmark
+	public Task getTaskById() throws TaskDoesntExistException {
+		return taskService.getTasksByTaskId(ThreadLocalRandom.current().nextInt(1, TASKS + 1));
+	}
+
+	@Benchmark
+	public List<Task> getTasksByUserId() throws TaskListIsEmptyException {
+		return taskService.getTasksByUserId(ThreadLocalRandom.current().nextInt(1, USERS + 1));
+	}
+
+	@Benchmark
+	public CursorPageDto<Task> getTaskPageByStatus() throws TaskListIsEmptyException {
+		return taskService.getTaskBystatus("Pending", ThreadLocalRandom.current().nextInt(TASKS - 1000), 100);
+	}
+
+	@Benchmark
+	public CursorPageDto<TaskSummaryDto> getTaskSummaryPage() throws TaskListIsEmptyException {
+		return taskService.getTaskSummaries(ThreadLocalRandom.current().nextInt(TASKS - 1000), 500);
+	}
+
+	@Benchmark
+	public int getTaskCountOfProject() throws TaskListIsEmptyException {
+		return taskService.getTaskCountOfProject(ThreadLocalRandom.current().nextInt(1, PROJECTS + 1));
+	}
+
+}
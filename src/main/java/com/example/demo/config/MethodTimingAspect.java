@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public service method, and the JDBC batch repository, as
+ * {@code app.service.invocations} tagged by class, method and exception. Spring Data
+ * repository methods are already timed by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+	static final String METRIC_NAME = "app.service.invocations";
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Around("execution(public * com.example.demo.service.*ServiceImpl.*(..))"
+			+ " || execution(public * com.example.demo.repository.TaskCategoryBatchRepository.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String exception = "none";
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+					.tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+					.tag("method", joinPoint.getSignature().getName())
+					.tag("exception", exception)
+					.publishPercentileHistogram()
+					.register(meterRegistry));
+		}
+	}
+
+}
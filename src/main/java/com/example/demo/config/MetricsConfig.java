@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link QueryCounter} with Hibernate so {@link QueryCountFilter} can report
+ * statements per request.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer queryCounterCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+	}
+
+}
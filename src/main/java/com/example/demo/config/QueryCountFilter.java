@@ -0,0 +1,144 @@
+package com.example.demo.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Records how many SQL statements each request ran as {@code http.server.requests.queries},
+ * tagged by URI pattern. With {@code app.query-count.header.enabled=true} (the dev profile)
+ * the count is also returned in the {@value #HEADER} response header, to spot N+1
+ * regressions while developing. The header is written just before the first byte of the
+ * body, so it covers the queries run while serializing the response as well; for streamed
+ * (async) responses it covers only the request thread.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Query-Count";
+
+	static final String METRIC_NAME = "http.server.requests.queries";
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Value("${app.query-count.header.enabled:false}")
+	boolean headerEnabled;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		QueryCounter.reset();
+		try {
+			filterChain.doFilter(request, headerEnabled ? new QueryCountResponse(response) : response);
+		} finally {
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder(METRIC_NAME)
+					.tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+					.publishPercentileHistogram()
+					.register(meterRegistry)
+					.record(QueryCounter.get());
+			QueryCounter.clear();
+		}
+	}
+
+	/**
+	 * Sets the query-count header as late as possible: on the first write or flush of the
+	 * body, or when a writer is requested.
+	 */
+	static class QueryCountResponse extends HttpServletResponseWrapper {
+
+		private final Thread requestThread = Thread.currentThread();
+
+		private ServletOutputStream outputStream;
+
+		QueryCountResponse(HttpServletResponse response) {
+			super(response);
+		}
+
+		void setQueryCountHeader() {
+			if (Thread.currentThread() == requestThread && !isCommitted())
+				setHeader(HEADER, String.valueOf(QueryCounter.get()));
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (outputStream == null)
+				outputStream = new QueryCountOutputStream(super.getOutputStream());
+			return outputStream;
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			setQueryCountHeader();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			setQueryCountHeader();
+			super.flushBuffer();
+		}
+
+		private class QueryCountOutputStream extends ServletOutputStream {
+
+			private final ServletOutputStream delegate;
+
+			QueryCountOutputStream(ServletOutputStream delegate) {
+				this.delegate = delegate;
+			}
+
+			@Override
+			public void write(int b) throws IOException {
+				setQueryCountHeader();
+				delegate.write(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				setQueryCountHeader();
+				delegate.write(b, off, len);
+			}
+
+			@Override
+			public void flush() throws IOException {
+				setQueryCountHeader();
+				delegate.flush();
+			}
+
+			@Override
+			public void close() throws IOException {
+				setQueryCountHeader();
+				delegate.close();
+			}
+
+			@Override
+			public boolean isReady() {
+				return delegate.isReady();
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				delegate.setWriteListener(writeListener);
+			}
+
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so a request
+ * can report how many queries it ran. Statements issued through JdbcTemplate are not
+ * seen here.
+ */
+public class QueryCounter implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+
+	/**
+	 * Resets the current thread's count to zero.
+	 */
+	public static void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	/**
+	 * Retrieves the number of statements prepared on the current thread since the last reset.
+	 * @return The statement count.
+	 */
+	public static int get() {
+		return COUNT.get()[0];
+	}
+
+	/**
+	 * Releases the current thread's counter.
+	 */
+	public static void clear() {
+		COUNT.remove();
+	}
+
+}
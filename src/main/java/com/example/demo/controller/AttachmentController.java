@@ -1,9 +1,24 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,9 +27,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.example.demo.dto.AttachmentContentDto;
 import com.example.demo.dto.AttachmentTaskDto;
 import com.example.demo.dto.SuccessResponseDto;
 import com.example.demo.entity.Attachment;
@@ -25,6 +45,8 @@ import com.example.demo.exception.NoAttachmentFoundException;
 import com.example.demo.exception.TaskDoesntExistException;
 import com.example.demo.service.AttachmentService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 @RestController
@@ -117,10 +139,183 @@ public class AttachmentController {
 
 	}
 	
+	/**
+	 * Handles HTTP DELETE requests to delete all attachments of a task.
+	 * @param taskId
+	 * @return ResponseEntity containing a SuccessResponse object and an HTTP status code(200)
+	 */
+	@DeleteMapping("/bytaskId/{taskId}")
+	public ResponseEntity<SuccessResponseDto> deleteAttachmentsByTaskId(@PathVariable("taskId") int taskId) {
+		int deleted = attachmentService.deleteAttachmentsByTaskId(taskId);
+		SuccessResponseDto response = new SuccessResponseDto("DLTSUCCESS", deleted + " attachments deleted");
+		return new ResponseEntity<>(response, HttpStatus.OK);
+	}
+
 	@GetMapping("/allattachmentIds")
 	public ResponseEntity<int[]> getAllAttachmentIds()
 	{
 		return new ResponseEntity<int[]>(attachmentService.getAllAttachmentIds(), HttpStatus.OK);
 	}
 
+	/**
+	 * Handles HTTP POST multipart requests to upload an attachment's content (part "file").
+	 * The part is streamed from the container's temporary file into the content store.
+	 * @param attachmentId
+	 * @param file
+	 * @return ResponseEntity containing the updated Attachment object and an HTTP status code(200)
+	 * @throws NoAttachmentFoundException
+	 * @throws IOException
+	 */
+	@PostMapping(value = "/{attachmentId}/content", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<Attachment> uploadContent(@PathVariable("attachmentId") int attachmentId,
+			@RequestParam("file") MultipartFile file) throws NoAttachmentFoundException, IOException {
+		return new ResponseEntity<Attachment>(
+				attachmentService.storeContent(attachmentId, file.getContentType(), file.getInputStream()), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP PUT requests to upload an attachment's content as the raw request body,
+	 * streamed straight from the connection into the content store.
+	 * @param attachmentId
+	 * @param contentType
+	 * @param request
+	 * @return ResponseEntity containing the updated Attachment object and an HTTP status code(200)
+	 * @throws NoAttachmentFoundException
+	 * @throws IOException
+	 */
+	@PutMapping("/{attachmentId}/content")
+	public ResponseEntity<Attachment> uploadRawContent(@PathVariable("attachmentId") int attachmentId,
+			@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+			HttpServletRequest request) throws NoAttachmentFoundException, IOException {
+		return new ResponseEntity<Attachment>(
+				attachmentService.storeContent(attachmentId, contentType, request.getInputStream()), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP PUT requests to point an attachment at content already stored under the
+	 * given SHA-256, without uploading it again. Answers 404 if the content is unknown, in
+	 * which case the client uploads it.
+	 * @param attachmentId
+	 * @param contentHash
+	 * @param contentType
+	 * @return ResponseEntity containing the updated Attachment object and an HTTP status code(200)
+	 * @throws NoAttachmentFoundException
+	 */
+	@PutMapping("/{attachmentId}/content/{contentHash}")
+	public ResponseEntity<Attachment> linkContent(@PathVariable("attachmentId") int attachmentId,
+			@PathVariable("contentHash") String contentHash,
+			@RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType)
+			throws NoAttachmentFoundException {
+		return new ResponseEntity<Attachment>(attachmentService.linkContent(attachmentId, contentHash, contentType),
+				HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to fetch the PNG thumbnail of an image attachment's content,
+	 * by the contentHash listed with the attachment. Thumbnails are generated in the
+	 * background after upload (404 until then); a hash always names the same image, so
+	 * responses may be cached for a year.
+	 * @param contentHash
+	 * @return ResponseEntity containing the thumbnail and an HTTP status code(200)
+	 * @throws NoAttachmentFoundException
+	 */
+	@GetMapping("/thumbnails/{contentHash}")
+	public ResponseEntity<Resource> getThumbnail(@PathVariable("contentHash") String contentHash)
+			throws NoAttachmentFoundException {
+		return ResponseEntity.ok()
+				.cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+				.eTag(contentHash)
+				.contentType(MediaType.IMAGE_PNG)
+				.body(new FileSystemResource(attachmentService.getThumbnail(contentHash)));
+	}
+
+	/**
+	 * Handles HTTP GET requests to download an attachment's content. Supports a single
+	 * byte range (Range, If-Range) and conditional requests on the content hash (ETag)
+	 * and upload time (Last-Modified). The file is sent by Tomcat's sendfile when the
+	 * connector supports it, otherwise copied with FileChannel.transferTo.
+	 * @param attachmentId
+	 * @param request
+	 * @param response
+	 * @throws NoAttachmentFoundException
+	 * @throws IOException
+	 */
+	@GetMapping("/{attachmentId}/content")
+	public void downloadContent(@PathVariable("attachmentId") int attachmentId, HttpServletRequest request,
+			HttpServletResponse response) throws NoAttachmentFoundException, IOException {
+		AttachmentContentDto content = attachmentService.getContent(attachmentId);
+		String etag = "\"" + content.getContentHash() + "\"";
+		long lastModified = content.getContentUpdatedAt() == null ? -1
+				: content.getContentUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified))
+			return;
+
+		long length = content.getContentLength();
+		long start = 0;
+		long end = length - 1;
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		String range = request.getHeader(HttpHeaders.RANGE);
+		if (range != null && ifRangeMatches(request, etag, lastModified)) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			// Multiple ranges are answered with the whole file, which RFC 9110 allows
+			if (ranges.size() == 1) {
+				start = ranges.get(0).getRangeStart(length);
+				end = ranges.get(0).getRangeEnd(length);
+				if (start >= length || start > end) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+					response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					return;
+				}
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+			}
+		}
+		long count = end - start + 1;
+		response.setContentType(content.getContentType() == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE
+				: content.getContentType());
+		response.setContentLengthLong(count);
+		String fileName = content.getFileName();
+		ContentDisposition disposition = StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)
+				? ContentDisposition.attachment().filename(fileName).build()
+				: ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build();
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+		if ("HEAD".equals(request.getMethod()) || count == 0)
+			return;
+
+		if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+			request.setAttribute("org.apache.tomcat.sendfile.filename", content.getPath().toString());
+			request.setAttribute("org.apache.tomcat.sendfile.start", start);
+			request.setAttribute("org.apache.tomcat.sendfile.end", end + 1);
+			return;
+		}
+		try (FileChannel file = FileChannel.open(content.getPath(), StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			while (count > 0) {
+				long sent = file.transferTo(start, count, out);
+				if (sent <= 0)
+					break;
+				start += sent;
+				count -= sent;
+			}
+		}
+	}
+
+	private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null)
+			return true;
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/"))
+			return ifRange.equals(etag);
+		try {
+			return request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified / 1000 * 1000;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
 }
@@ -0,0 +1,34 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.CacheRegionStatisticsDto;
+import com.example.demo.service.CacheStatisticsService;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin("http://localhost:4200")
+public class CacheStatisticsController {
+
+	@Autowired
+	CacheStatisticsService cacheStatisticsService;
+
+	/**
+	 * Handles HTTP GET requests to fetch second-level cache statistics per region.
+	 * @return ResponseEntity containing List of CacheRegionStatisticsDto and an HTTP status code(200)
+	 */
+	@GetMapping("/statistics")
+	public ResponseEntity<List<CacheRegionStatisticsDto>> getCacheStatistics() {
+		return new ResponseEntity<List<CacheRegionStatisticsDto>>(
+				cacheStatisticsService.getSecondLevelCacheStatistics(), HttpStatus.OK);
+	}
+
+}
@@ -13,16 +13,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.dto.MarkNotificationsReadDto;
+import com.example.demo.dto.NotificationFanOutDto;
+import com.example.demo.dto.NotificationInboxPageDto;
 import com.example.demo.dto.NotificationUserDto;
 import com.example.demo.dto.SuccessResponseDto;
 import com.example.demo.entity.Notification;
 import com.example.demo.exception.AttachmentListEmptyException;
 import com.example.demo.exception.CommentListIsEmptyException;
+import com.example.demo.exception.InvalidCursorException;
 import com.example.demo.exception.AttachmentDoesNotExistsException;
 import com.example.demo.exception.NotificationAlreadyExistException;
 import com.example.demo.exception.NotificationDoesntExistException;
+import com.example.demo.exception.NotificationQueueFullException;
+import com.example.demo.exception.ProjectDoesNotExistException;
 import com.example.demo.exception.NotificationListIsEmptyException;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.service.NotificationService;
@@ -102,4 +109,80 @@ public class NotificationController {
 		notificationService.deleteNotification(notificationId);
 		return new ResponseEntity<>(responseDto,HttpStatus.NO_CONTENT);
 	}
+
+	/**
+	 * Handles HTTP POST requests to notify every user on a project. The notifications are
+	 * written in the background.
+	 * @param projectId
+	 * @param notificationFanOutDto
+	 * @return ResponseEntity containing a SuccessResponse object and an HTTP status code(202)
+	 * @throws ProjectDoesNotExistException
+	 * @throws NotificationQueueFullException
+	 */
+	@PostMapping("/fanout/project/{projectId}")
+	public ResponseEntity<SuccessResponseDto> fanOutToProject(@PathVariable("projectId") int projectId,
+			@RequestBody @Valid NotificationFanOutDto notificationFanOutDto)
+			throws ProjectDoesNotExistException, NotificationQueueFullException {
+		int queued = notificationService.fanOutToProject(projectId, notificationFanOutDto.getText());
+		SuccessResponseDto responseDto = new SuccessResponseDto("FANOUTACCEPTED", queued + " notifications queued");
+		return new ResponseEntity<>(responseDto, HttpStatus.ACCEPTED);
+	}
+
+	/**
+	 * Handles HTTP GET requests to retrieve one page of a user's inbox, unread
+	 * notifications first, newest first.
+	 * @param userId
+	 * @param cursor nextCursor of the previous page; omit for the first page
+	 * @param limit
+	 * @return ResponseEntity containing the page, the next cursor and the unread count, and an HTTP status code(200)
+	 * @throws UserDoesNotExistException
+	 * @throws InvalidCursorException
+	 */
+	@GetMapping("/inbox/{userId}")
+	public ResponseEntity<NotificationInboxPageDto> getInbox(@PathVariable("userId") int userId,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "limit", defaultValue = "20") int limit)
+			throws UserDoesNotExistException, InvalidCursorException {
+		return new ResponseEntity<>(notificationService.getInbox(userId, cursor, limit), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to retrieve the number of unread notifications of a user.
+	 * @param userId
+	 * @return ResponseEntity containing the count and an HTTP status code(200)
+	 * @throws UserDoesNotExistException
+	 */
+	@GetMapping("/inbox/{userId}/unread-count")
+	public ResponseEntity<Long> getUnreadCount(@PathVariable("userId") int userId) throws UserDoesNotExistException {
+		return new ResponseEntity<>(notificationService.getUnreadCount(userId), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP PUT requests to mark some of a user's notifications as read.
+	 * @param userId
+	 * @param markNotificationsReadDto
+	 * @return ResponseEntity containing a SuccessResponse object and an HTTP status code(200)
+	 * @throws UserDoesNotExistException
+	 */
+	@PutMapping("/inbox/{userId}/read")
+	public ResponseEntity<SuccessResponseDto> markAsRead(@PathVariable("userId") int userId,
+			@RequestBody @Valid MarkNotificationsReadDto markNotificationsReadDto) throws UserDoesNotExistException {
+		int marked = notificationService.markAsRead(userId, markNotificationsReadDto.getNotificationIds());
+		SuccessResponseDto responseDto = new SuccessResponseDto("UPDATESUCCESS", marked + " notifications marked as read");
+		return new ResponseEntity<>(responseDto, HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP PUT requests to mark all of a user's notifications as read.
+	 * @param userId
+	 * @return ResponseEntity containing a SuccessResponse object and an HTTP status code(200)
+	 * @throws UserDoesNotExistException
+	 */
+	@PutMapping("/inbox/{userId}/read-all")
+	public ResponseEntity<SuccessResponseDto> markAllAsRead(@PathVariable("userId") int userId)
+			throws UserDoesNotExistException {
+		int marked = notificationService.markAllAsRead(userId);
+		SuccessResponseDto responseDto = new SuccessResponseDto("UPDATESUCCESS", marked + " notifications marked as read");
+		return new ResponseEntity<>(responseDto, HttpStatus.OK);
+	}
 }
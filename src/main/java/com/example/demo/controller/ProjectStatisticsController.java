@@ -0,0 +1,44 @@
+package com.example.demo.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.ProjectStatisticsConsistencyDto;
+import com.example.demo.service.ProjectStatisticsService;
+
+@RestController
+@RequestMapping("/api/projects/statistics")
+@CrossOrigin("http://localhost:4200")
+public class ProjectStatisticsController {
+
+	@Autowired
+	ProjectStatisticsService projectStatisticsService;
+
+	/**
+	 * Handles HTTP GET requests to compare the in-memory project statistics with the TASK table.
+	 * @return ResponseEntity containing ProjectStatisticsConsistencyDto and an HTTP status code(200)
+	 */
+	@GetMapping("/consistency")
+	public ResponseEntity<ProjectStatisticsConsistencyDto> checkConsistency() {
+		return new ResponseEntity<ProjectStatisticsConsistencyDto>(projectStatisticsService.checkConsistency(),
+				HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP POST requests to rebuild the in-memory project statistics from the TASK table.
+	 * @return ResponseEntity containing the post-rebuild ProjectStatisticsConsistencyDto and an HTTP status code(200)
+	 */
+	@PostMapping("/rebuild")
+	public ResponseEntity<ProjectStatisticsConsistencyDto> rebuild() {
+		projectStatisticsService.rebuild();
+		return new ResponseEntity<ProjectStatisticsConsistencyDto>(projectStatisticsService.checkConsistency(),
+				HttpStatus.OK);
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.dto.SearchPageDto;
+import com.example.demo.dto.SuccessResponseDto;
+import com.example.demo.exception.InvalidSearchQueryException;
+import com.example.demo.service.SearchService;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin("http://localhost:4200")
+public class SearchController {
+
+	@Autowired
+	SearchService searchService;
+
+	/**
+	 * Handles HTTP GET requests to search tasks, comments and projects by the words in them.
+	 * @param q the words to search for; every word must match
+	 * @param type "task", "comment" or "project" to search only one of them; omit for all
+	 * @param page zero-based page number
+	 * @param size hits per page
+	 * @return ResponseEntity containing the page of hits, best match first, and an HTTP status code(200)
+	 * @throws InvalidSearchQueryException
+	 * @throws IOException
+	 */
+	@GetMapping
+	public ResponseEntity<SearchPageDto> search(@RequestParam("q") String q,
+			@RequestParam(value = "type", required = false) String type,
+			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "20") int size)
+			throws InvalidSearchQueryException, IOException {
+		return new ResponseEntity<>(searchService.search(q, type, page, size), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP POST requests to rebuild the search index from the database.
+	 * @return ResponseEntity containing a SuccessResponse object with the number of documents indexed and an HTTP status code(200)
+	 * @throws IOException
+	 */
+	@PostMapping("/rebuild")
+	public ResponseEntity<SuccessResponseDto> rebuild() throws IOException {
+		long indexed = searchService.rebuild();
+		SuccessResponseDto responseDto = new SuccessResponseDto("UPDATESUCCESS", indexed + " documents indexed");
+		return new ResponseEntity<>(responseDto, HttpStatus.OK);
+	}
+
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.example.demo.dto.AssociateTaskWithCategoryDto;
 import com.example.demo.dto.SuccessResponseDto;
+import com.example.demo.dto.TaskCategoryAssociationResultDto;
 import com.example.demo.exception.CategoryDoesntExistException;
 import com.example.demo.exception.CategoryListIsEmptyException;
 import com.example.demo.exception.TaskDoesntExistException;
@@ -48,6 +49,17 @@ public class TaskCategoryController {
 		SuccessResponseDto response=new SuccessResponseDto("POSTSUCCESS","TaskCategory addded successfully");
 		return new ResponseEntity<>(response,HttpStatus.CREATED);
 	}
+	/**
+	 * Handles HTTP POST requests to associate many tasks with categories in one call.
+	 * @param request List of task IDs with the category IDs to associate with each
+	 * @return ResponseEntity containing a result per task/category pair and an HTTP status code(200)
+	 */
+	@PostMapping("/bulk")
+	public ResponseEntity<List<TaskCategoryAssociationResultDto>> associateTasksWithCategories(@RequestBody @Valid List<AssociateTaskWithCategoryDto> request)
+	{
+		return new ResponseEntity<List<TaskCategoryAssociationResultDto>>(taskService.associateTasksWithCategories(request),HttpStatus.OK);
+	}
+	
 	/**
 	 * Handles HTTP GET requests to fetch all tasks for Category.
 	 * @param categoryId
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,10 +14,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.dto.CursorPageDto;
 import com.example.demo.dto.SuccessResponseDto;
+import com.example.demo.dto.TaskCreationResultDto;
 import com.example.demo.dto.TaskProjectUserDto;
+import com.example.demo.dto.TaskSummaryDto;
 import com.example.demo.entity.Task;
 import com.example.demo.exception.ProjectDoesNotExistException;
 import com.example.demo.exception.TaskAlreadyExistsException;
@@ -52,6 +58,16 @@ public class TaskController {
 		return new ResponseEntity<>(response, HttpStatus.CREATED);
 	}
 
+	/**
+	 * Handles HTTP POST requests to create many Tasks in one call.
+	 * @param taskProjectUserDtos
+	 * @return ResponseEntity containing a result per task and an HTTP status code(200)
+	 */
+	@PostMapping("/bulk")
+	public ResponseEntity<List<TaskCreationResultDto>> createTasks(@RequestBody @Valid List<TaskProjectUserDto> taskProjectUserDtos) {
+		return new ResponseEntity<List<TaskCreationResultDto>>(taskService.createTasks(taskProjectUserDtos), HttpStatus.OK);
+	}
+
 	/**
 	 * Handles HTTP GET requests to fetch all available Tasks.
 	 * @return ResponseEntity containing a List of Task object and a HTTP status code(200s)
@@ -62,6 +78,33 @@ public class TaskController {
 		// Logic to return overdue tasks
 		return new ResponseEntity<List<Task>>(taskService.getAllTasks(), HttpStatus.OK);
 	}
+
+	/**
+	 * Handles HTTP GET requests to fetch one page of Tasks ordered by task id.
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of Task objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/all", params = { "limit", "view!=summary" })
+	public ResponseEntity<CursorPageDto<Task>> getAllTasks(@RequestParam(value = "after", defaultValue = "0") int after,
+			@RequestParam("limit") int limit) throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<Task>>(taskService.getAllTasks(after, limit), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to fetch one page of Task summaries ordered by task id.
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of TaskSummaryDto objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/all", params = "view=summary")
+	public ResponseEntity<CursorPageDto<TaskSummaryDto>> getTaskSummaries(
+			@RequestParam(value = "after", defaultValue = "0") int after,
+			@RequestParam(value = "limit", defaultValue = "500") int limit) throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<TaskSummaryDto>>(taskService.getTaskSummaries(after, limit), HttpStatus.OK);
+	}
 	
 	/**
 	 * Handles HTTP GET requests to get Task by task id.
@@ -86,6 +129,36 @@ public class TaskController {
 			throws TaskListIsEmptyException {
 		return new ResponseEntity<List<Task>>(taskService.getTasksByProject(projectId), HttpStatus.OK);
 	}
+
+	/**
+	 * Handles HTTP GET requests to get one page of Tasks assigned to a Project id.
+	 * @param projectId
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of Task objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/byprojectId/{projectId}", params = { "limit", "view!=summary" })
+	public ResponseEntity<CursorPageDto<Task>> getTasksByProject(@PathVariable("projectId") int projectId,
+			@RequestParam(value = "after", defaultValue = "0") int after, @RequestParam("limit") int limit)
+			throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<Task>>(taskService.getTasksByProject(projectId, after, limit), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to get one page of summaries of Tasks assigned to a Project id.
+	 * @param projectId
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of TaskSummaryDto objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/byprojectId/{projectId}", params = "view=summary")
+	public ResponseEntity<CursorPageDto<TaskSummaryDto>> getTaskSummariesByProject(@PathVariable("projectId") int projectId,
+			@RequestParam(value = "after", defaultValue = "0") int after,
+			@RequestParam(value = "limit", defaultValue = "500") int limit) throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<TaskSummaryDto>>(taskService.getTaskSummariesByProject(projectId, after, limit), HttpStatus.OK);
+	}
 	
 	/**
 	 * Handles HTTP GET requests to fetch Task count assigned to a Project.
@@ -120,6 +193,36 @@ public class TaskController {
 		return new ResponseEntity<List<Task>>(taskService.getTaskBystatus( status), HttpStatus.OK);
 	}
 
+	/**
+	 * Handles HTTP GET requests to get one page of Tasks by its status.
+	 * @param status
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of Task objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/status/{status}", params = { "limit", "view!=summary" })
+	public ResponseEntity<CursorPageDto<Task>> getTaskBystatus(@PathVariable("status") String status,
+			@RequestParam(value = "after", defaultValue = "0") int after, @RequestParam("limit") int limit)
+			throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<Task>>(taskService.getTaskBystatus(status, after, limit), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to fetch one page of summaries of Tasks by status.
+	 * @param status
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of TaskSummaryDto objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/status/{status}", params = "view=summary")
+	public ResponseEntity<CursorPageDto<TaskSummaryDto>> getTaskSummariesBystatus(@PathVariable("status") String status,
+			@RequestParam(value = "after", defaultValue = "0") int after,
+			@RequestParam(value = "limit", defaultValue = "500") int limit) throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<TaskSummaryDto>>(taskService.getTaskSummariesBystatus(status, after, limit), HttpStatus.OK);
+	}
+
 	/**
 	 * Handles HTTP GET requests to get all Tasks by priority and status.
 	 * @param priority
@@ -166,6 +269,36 @@ public class TaskController {
 		return new ResponseEntity<List<Task>>(taskService.getTasksByUserId(userId), HttpStatus.OK);
 	}
 
+	/**
+	 * Handles HTTP GET requests to fetch one page of Tasks by user id.
+	 * @param userId
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of Task objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/user/{userId}", params = { "limit", "view!=summary" })
+	public ResponseEntity<CursorPageDto<Task>> getTasksByUserId(@PathVariable("userId") int userId,
+			@RequestParam(value = "after", defaultValue = "0") int after, @RequestParam("limit") int limit)
+			throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<Task>>(taskService.getTasksByUserId(userId, after, limit), HttpStatus.OK);
+	}
+
+	/**
+	 * Handles HTTP GET requests to fetch one page of summaries of Tasks assigned to a User id.
+	 * @param userId
+	 * @param after
+	 * @param limit
+	 * @return ResponseEntity containing a CursorPageDto of TaskSummaryDto objects and a HTTP status code(200)
+	 * @throws TaskListIsEmptyException
+	 */
+	@GetMapping(value = "/user/{userId}", params = "view=summary")
+	public ResponseEntity<CursorPageDto<TaskSummaryDto>> getTaskSummariesByUserId(@PathVariable("userId") int userId,
+			@RequestParam(value = "after", defaultValue = "0") int after,
+			@RequestParam(value = "limit", defaultValue = "500") int limit) throws TaskListIsEmptyException {
+		return new ResponseEntity<CursorPageDto<TaskSummaryDto>>(taskService.getTaskSummariesByUserId(userId, after, limit), HttpStatus.OK);
+	}
+
 	/**
 	 * Handles HTTP GET requests to fetch all Tasks by category id.
 	 * @param categoryId
@@ -212,6 +345,18 @@ public class TaskController {
 
 	}
 	
+	/**
+	 * Handles HTTP GET requests to export all Tasks as newline-delimited JSON.
+	 * The response is streamed while tasks are read, so it starts immediately and
+	 * uses constant memory however many tasks there are.
+	 * @return ResponseEntity containing a StreamingResponseBody and a HTTP status code(200)
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportTasks() {
+		StreamingResponseBody body = outputStream -> taskService.exportTasks(outputStream);
+		return new ResponseEntity<StreamingResponseBody>(body, HttpStatus.OK);
+	}
+	
 	/**
 	 * Handles HTTP GET requests to fetch all Tasks id.
 	 * @return ResponseEntity containing a List of integer array object and a HTTP status code(200)
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.demo.dto.AuthenticateUserDto;
@@ -119,6 +120,17 @@ public class UserController {
 		return new ResponseEntity<List<User>>(userService.getUsersWithMostTasks(), HttpStatus.OK);
 	}
 
+	/**
+	 * Handles HTTP GET requests to fetch the top N Users by task count.
+	 * @param limit The number of users to return.
+	 * @return ResponseEntity containing a List of User object ordered by task count and a HTTP status code(200)
+	 * @throws UserListIsEmptyException
+	 */
+	@GetMapping(value = "/most-tasks", params = "limit")
+	public ResponseEntity<List<User>> getTopUsersByTaskCount(@RequestParam("limit") int limit) throws UserListIsEmptyException {
+		return new ResponseEntity<List<User>>(userService.getTopUsersByTaskCount(limit), HttpStatus.OK);
+	}
+
 	/**
 	 * Handles HTTP POST requests to authenticate a User.
 	 * @param request
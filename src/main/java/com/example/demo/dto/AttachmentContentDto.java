@@ -0,0 +1,77 @@
+package com.example.demo.dto;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+public class AttachmentContentDto {
+
+	private String fileName;
+	private String contentType;
+	private String contentHash;
+	private long contentLength;
+	private LocalDateTime contentUpdatedAt;
+	private Path path;
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public long getContentLength() {
+		return contentLength;
+	}
+
+	public void setContentLength(long contentLength) {
+		this.contentLength = contentLength;
+	}
+
+	public LocalDateTime getContentUpdatedAt() {
+		return contentUpdatedAt;
+	}
+
+	public void setContentUpdatedAt(LocalDateTime contentUpdatedAt) {
+		this.contentUpdatedAt = contentUpdatedAt;
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public void setPath(Path path) {
+		this.path = path;
+	}
+
+	public AttachmentContentDto() {
+	}
+
+	public AttachmentContentDto(String fileName, String contentType, String contentHash, long contentLength,
+			LocalDateTime contentUpdatedAt, Path path) {
+		super();
+		this.fileName = fileName;
+		this.contentType = contentType;
+		this.contentHash = contentHash;
+		this.contentLength = contentLength;
+		this.contentUpdatedAt = contentUpdatedAt;
+		this.path = path;
+	}
+
+}
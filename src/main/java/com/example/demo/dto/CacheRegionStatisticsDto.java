@@ -0,0 +1,65 @@
+package com.example.demo.dto;
+
+public class CacheRegionStatisticsDto {
+
+	private String regionName;
+	private long hitCount;
+	private long missCount;
+	private long putCount;
+	private long elementCountInMemory;
+
+	public String getRegionName() {
+		return regionName;
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public void setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public void setMissCount(long missCount) {
+		this.missCount = missCount;
+	}
+
+	public long getPutCount() {
+		return putCount;
+	}
+
+	public void setPutCount(long putCount) {
+		this.putCount = putCount;
+	}
+
+	public long getElementCountInMemory() {
+		return elementCountInMemory;
+	}
+
+	public void setElementCountInMemory(long elementCountInMemory) {
+		this.elementCountInMemory = elementCountInMemory;
+	}
+
+	public CacheRegionStatisticsDto() {
+		super();
+	}
+
+	public CacheRegionStatisticsDto(String regionName, long hitCount, long missCount, long putCount,
+			long elementCountInMemory) {
+		super();
+		this.regionName = regionName;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.putCount = putCount;
+		this.elementCountInMemory = elementCountInMemory;
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class CursorPageDto<T> {
+
+	private List<T> items;
+	private Integer nextCursor;
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public void setItems(List<T> items) {
+		this.items = items;
+	}
+
+	public Integer getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(Integer nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public CursorPageDto() {
+		super();
+	}
+
+	public CursorPageDto(List<T> items, Integer nextCursor) {
+		super();
+		this.items = items;
+		this.nextCursor = nextCursor;
+	}
+
+}
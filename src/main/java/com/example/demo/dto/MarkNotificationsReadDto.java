@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class MarkNotificationsReadDto {
+
+	@NotNull(message = "Notification IDs cannot be null")
+	@Size(max = 1000, message = "At most 1000 notifications can be marked at once")
+	private List<Integer> notificationIds;
+
+	public MarkNotificationsReadDto() {
+	}
+
+	public MarkNotificationsReadDto(List<Integer> notificationIds) {
+		super();
+		this.notificationIds = notificationIds;
+	}
+
+	public List<Integer> getNotificationIds() {
+		return notificationIds;
+	}
+
+	public void setNotificationIds(List<Integer> notificationIds) {
+		this.notificationIds = notificationIds;
+	}
+
+}
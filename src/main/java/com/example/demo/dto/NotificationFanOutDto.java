@@ -0,0 +1,28 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class NotificationFanOutDto {
+
+	@NotNull(message = "Text cannot be null")
+	@Size(min = 1, max = 1000, message = "Text must be between 1 and 1000 characters")
+	private String text;
+
+	public NotificationFanOutDto() {
+	}
+
+	public NotificationFanOutDto(String text) {
+		super();
+		this.text = text;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public void setText(String text) {
+		this.text = text;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import com.example.demo.entity.Notification;
+
+public class NotificationInboxPageDto {
+
+	private List<Notification> items;
+	private String nextCursor;
+	private long unreadCount;
+
+	public List<Notification> getItems() {
+		return items;
+	}
+
+	public void setItems(List<Notification> items) {
+		this.items = items;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public long getUnreadCount() {
+		return unreadCount;
+	}
+
+	public void setUnreadCount(long unreadCount) {
+		this.unreadCount = unreadCount;
+	}
+
+	public NotificationInboxPageDto() {
+		super();
+	}
+
+	public NotificationInboxPageDto(List<Notification> items, String nextCursor, long unreadCount) {
+		super();
+		this.items = items;
+		this.nextCursor = nextCursor;
+		this.unreadCount = unreadCount;
+	}
+
+}
@@ -40,6 +40,17 @@ public class NotificationUserDto {
 		this.userId = userId;
 	}
 
+	public NotificationUserDto() {
+	}
+
+	public NotificationUserDto(int notificationId, String text, LocalDateTime createdAt, int userId) {
+		super();
+		this.notificationId = notificationId;
+		this.text = text;
+		this.createdAt = createdAt;
+		this.userId = userId;
+	}
+
 
  
 }
\ No newline at end of file
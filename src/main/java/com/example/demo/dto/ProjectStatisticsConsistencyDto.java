@@ -0,0 +1,46 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class ProjectStatisticsConsistencyDto {
+
+	private boolean consistent;
+	private int projectsChecked;
+	private List<Integer> mismatchedProjectIds;
+
+	public boolean isConsistent() {
+		return consistent;
+	}
+
+	public void setConsistent(boolean consistent) {
+		this.consistent = consistent;
+	}
+
+	public int getProjectsChecked() {
+		return projectsChecked;
+	}
+
+	public void setProjectsChecked(int projectsChecked) {
+		this.projectsChecked = projectsChecked;
+	}
+
+	public List<Integer> getMismatchedProjectIds() {
+		return mismatchedProjectIds;
+	}
+
+	public void setMismatchedProjectIds(List<Integer> mismatchedProjectIds) {
+		this.mismatchedProjectIds = mismatchedProjectIds;
+	}
+
+	public ProjectStatisticsConsistencyDto() {
+		super();
+	}
+
+	public ProjectStatisticsConsistencyDto(boolean consistent, int projectsChecked, List<Integer> mismatchedProjectIds) {
+		super();
+		this.consistent = consistent;
+		this.projectsChecked = projectsChecked;
+		this.mismatchedProjectIds = mismatchedProjectIds;
+	}
+
+}
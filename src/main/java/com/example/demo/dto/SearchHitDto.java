@@ -0,0 +1,74 @@
+package com.example.demo.dto;
+
+public class SearchHitDto {
+
+	private String type;
+	private int id;
+	private Integer taskId;
+	private String title;
+	private String snippet;
+	private float score;
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public Integer getTaskId() {
+		return taskId;
+	}
+
+	public void setTaskId(Integer taskId) {
+		this.taskId = taskId;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getSnippet() {
+		return snippet;
+	}
+
+	public void setSnippet(String snippet) {
+		this.snippet = snippet;
+	}
+
+	public float getScore() {
+		return score;
+	}
+
+	public void setScore(float score) {
+		this.score = score;
+	}
+
+	public SearchHitDto() {
+		super();
+	}
+
+	public SearchHitDto(String type, int id, Integer taskId, String title, String snippet, float score) {
+		super();
+		this.type = type;
+		this.id = id;
+		this.taskId = taskId;
+		this.title = title;
+		this.snippet = snippet;
+		this.score = score;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class SearchPageDto {
+
+	private List<SearchHitDto> hits;
+	private int page;
+	private int size;
+	private long totalHits;
+
+	public List<SearchHitDto> getHits() {
+		return hits;
+	}
+
+	public void setHits(List<SearchHitDto> hits) {
+		this.hits = hits;
+	}
+
+	public int getPage() {
+		return page;
+	}
+
+	public void setPage(int page) {
+		this.page = page;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public long getTotalHits() {
+		return totalHits;
+	}
+
+	public void setTotalHits(long totalHits) {
+		this.totalHits = totalHits;
+	}
+
+	public SearchPageDto() {
+		super();
+	}
+
+	public SearchPageDto(List<SearchHitDto> hits, int page, int size, long totalHits) {
+		super();
+		this.hits = hits;
+		this.page = page;
+		this.size = size;
+		this.totalHits = totalHits;
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+public class TaskCategoryAssociationResultDto {
+
+	public static final String CREATED = "CREATED";
+	public static final String DUPLICATE = "DUPLICATE";
+	public static final String TASK_NOT_FOUND = "TASK_NOT_FOUND";
+	public static final String CATEGORY_NOT_FOUND = "CATEGORY_NOT_FOUND";
+
+	private int taskId;
+	private int categoryId;
+	private String status;
+
+	public int getTaskId() {
+		return taskId;
+	}
+
+	public void setTaskId(int taskId) {
+		this.taskId = taskId;
+	}
+
+	public int getCategoryId() {
+		return categoryId;
+	}
+
+	public void setCategoryId(int categoryId) {
+		this.categoryId = categoryId;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public TaskCategoryAssociationResultDto() {
+		super();
+	}
+
+	public TaskCategoryAssociationResultDto(int taskId, int categoryId, String status) {
+		super();
+		this.taskId = taskId;
+		this.categoryId = categoryId;
+		this.status = status;
+	}
+
+}
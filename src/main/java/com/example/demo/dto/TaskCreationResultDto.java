@@ -0,0 +1,42 @@
+package com.example.demo.dto;
+
+public class TaskCreationResultDto {
+
+	public static final String CREATED = "CREATED";
+	public static final String INVALID = "INVALID";
+	public static final String ALREADY_EXISTS = "ALREADY_EXISTS";
+	public static final String DUPLICATE_IN_REQUEST = "DUPLICATE_IN_REQUEST";
+	public static final String PROJECT_NOT_FOUND = "PROJECT_NOT_FOUND";
+	public static final String USER_NOT_FOUND = "USER_NOT_FOUND";
+	public static final String FAILED = "FAILED";
+
+	private int taskId;
+	private String status;
+
+	public int getTaskId() {
+		return taskId;
+	}
+
+	public void setTaskId(int taskId) {
+		this.taskId = taskId;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public TaskCreationResultDto() {
+		super();
+	}
+
+	public TaskCreationResultDto(int taskId, String status) {
+		super();
+		this.taskId = taskId;
+		this.status = status;
+	}
+
+}
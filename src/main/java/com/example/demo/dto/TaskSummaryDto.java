@@ -0,0 +1,87 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+public class TaskSummaryDto {
+
+	private int taskId;
+	private String taskName;
+	private String status;
+	private String priority;
+	private LocalDate dueDate;
+	private Integer projectId;
+	private Integer userId;
+
+	public int getTaskId() {
+		return taskId;
+	}
+
+	public void setTaskId(int taskId) {
+		this.taskId = taskId;
+	}
+
+	public String getTaskName() {
+		return taskName;
+	}
+
+	public void setTaskName(String taskName) {
+		this.taskName = taskName;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public String getPriority() {
+		return priority;
+	}
+
+	public void setPriority(String priority) {
+		this.priority = priority;
+	}
+
+	public LocalDate getDueDate() {
+		return dueDate;
+	}
+
+	public void setDueDate(LocalDate dueDate) {
+		this.dueDate = dueDate;
+	}
+
+	public Integer getProjectId() {
+		return projectId;
+	}
+
+	public void setProjectId(Integer projectId) {
+		this.projectId = projectId;
+	}
+
+	public Integer getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Integer userId) {
+		this.userId = userId;
+	}
+
+	public TaskSummaryDto() {
+		super();
+	}
+
+	public TaskSummaryDto(int taskId, String taskName, String status, String priority, LocalDate dueDate,
+			Integer projectId, Integer userId) {
+		super();
+		this.taskId = taskId;
+		this.taskName = taskName;
+		this.status = status;
+		this.priority = priority;
+		this.dueDate = dueDate;
+		this.projectId = projectId;
+		this.userId = userId;
+	}
+
+}
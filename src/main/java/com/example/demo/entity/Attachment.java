@@ -1,5 +1,7 @@
 package com.example.demo.entity;
 
+import java.time.LocalDateTime;
+
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -30,6 +32,19 @@ public class Attachment {
 	@NotNull(message = "cannot be null")
 	private String filePath;
 
+	// SHA-256 of the uploaded content in the attachment content store
+	@Column(name = "CONTENTHASH")
+	private String contentHash;
+
+	@Column(name = "CONTENTLENGTH")
+	private Long contentLength;
+
+	@Column(name = "CONTENTTYPE")
+	private String contentType;
+
+	@Column(name = "CONTENTUPDATEDAT")
+	private LocalDateTime contentUpdatedAt;
+
 	// Mapping MANY-ONE With TASK
 	@ManyToOne(cascade = CascadeType.ALL)
 	@JoinColumn(name = "TASKID")
@@ -61,6 +76,38 @@ public class Attachment {
 		this.filePath = filePath;
 	}
 
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public Long getContentLength() {
+		return contentLength;
+	}
+
+	public void setContentLength(Long contentLength) {
+		this.contentLength = contentLength;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public void setContentType(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public LocalDateTime getContentUpdatedAt() {
+		return contentUpdatedAt;
+	}
+
+	public void setContentUpdatedAt(LocalDateTime contentUpdatedAt) {
+		this.contentUpdatedAt = contentUpdatedAt;
+	}
+
 	public Task getTask() {
 		return task;
 	}
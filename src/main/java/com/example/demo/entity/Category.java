@@ -2,9 +2,13 @@ package com.example.demo.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +23,8 @@ import jakarta.validation.constraints.Size;
 @Entity
 @Table(name = "CATEGORY")
 @JsonIgnoreProperties
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 public class Category {
 	@Id
     @Column(name="CATEGORYID")
@@ -32,6 +38,7 @@ public class Category {
 
 	// Mapping MANY-MANY With CATEGORY
 	@ManyToMany(cascade = CascadeType.ALL)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category-tasks")
 	@JoinTable(name = "TASKCATEGORY", joinColumns = @JoinColumn(name = "CATEGORYID"), inverseJoinColumns = @JoinColumn(name = "TASKID"))
 	@JsonIgnore
 	private List<Task> tasks;
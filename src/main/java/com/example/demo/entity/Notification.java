@@ -33,6 +33,9 @@ public class Notification {
     @PastOrPresent(message = "Created At must be in the past or present")
     private LocalDateTime createdAt;
 
+    @Column(name = "ISREAD")
+    private boolean read;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "USERID")
 	@JsonIgnore
@@ -79,4 +82,12 @@ public class Notification {
 	public void setCreatedAt(LocalDateTime createdAt) {
 		this.createdAt = createdAt;
 	}
+
+	public boolean isRead() {
+		return read;
+	}
+
+	public void setRead(boolean read) {
+		this.read = read;
+	}
 }
\ No newline at end of file
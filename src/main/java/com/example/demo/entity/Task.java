@@ -12,6 +12,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
@@ -23,7 +24,12 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "TASK")
+@Table(name = "TASK", indexes = {
+		@Index(name = "idx_task_userid_status", columnList = "USERID, STATUS"),
+		@Index(name = "idx_task_projectid", columnList = "PROJECTID"),
+		@Index(name = "idx_task_duedate_status", columnList = "DUEDATE, STATUS"),
+		@Index(name = "idx_task_status", columnList = "STATUS, TASKID"),
+		@Index(name = "idx_task_priority", columnList = "PRIORITY") })
 public class Task {
 
 	@Id
@@ -1,24 +1,31 @@
 package com.example.demo.entity;
 
 import java.util.List;
+import java.util.Locale;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "USER")
+@Table(name = "USER", indexes = {
+		@Index(name = "idx_user_emaildomain", columnList = "EMAILDOMAIN"),
+		@Index(name = "idx_user_taskcount", columnList = "TASKCOUNT DESC, USERID DESC") })
 @JsonIgnoreProperties
 public class User {
 	@Id
@@ -39,6 +46,18 @@ public class User {
 	@Pattern(regexp = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$", message = "Email is not valid")
 	@NotNull(message="Email cannot be null")
 	private String email;
+
+	// Lower-cased part of EMAIL after the '@', kept in its own indexed column so
+	// domain lookups are an equality match instead of a LIKE '%domain' scan
+	@Column(name = "EMAILDOMAIN")
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private String emailDomain;
+
+	// Number of tasks assigned to the user. Maintained by the task service through
+	// UserRepository update queries (and reconciled periodically), never written from the entity
+	@Column(name = "TASKCOUNT", insertable = false, updatable = false)
+	@JsonProperty(access = JsonProperty.Access.READ_ONLY)
+	private int taskCount;
  
 	@Column(name = "FULLNAME")
 	@Size(min = 3, max = 20, message = "Full name must be between 3 and 20 characters")
@@ -146,6 +165,32 @@ public class User {
 		this.email = email;
 	}
 
+	public String getEmailDomain() {
+		return emailDomain;
+	}
+
+	public int getTaskCount() {
+		return taskCount;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void updateEmailDomain() {
+		this.emailDomain = domainOf(email);
+	}
+
+	/**
+	 * Normalises an email address or a bare domain to the value stored in EMAILDOMAIN.
+	 * @param emailOrDomain An email address, or a domain with or without a leading '@'.
+	 * @return The lower-cased domain, or null if none was given.
+	 */
+	public static String domainOf(String emailOrDomain) {
+		if (emailOrDomain == null)
+			return null;
+		String domain = emailOrDomain.substring(emailOrDomain.lastIndexOf('@') + 1).trim();
+		return domain.isEmpty() ? null : domain.toLowerCase(Locale.ROOT);
+	}
+
 	public String getFullName() {
 		return fullName;
 	}
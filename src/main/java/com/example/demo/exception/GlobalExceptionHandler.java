@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
@@ -251,6 +252,33 @@ public class GlobalExceptionHandler {
             return new ResponseEntity<ErrorResponseDto>(new ErrorResponseDto("AUTHFAILS",ex.getMessage()), HttpStatus.NOT_FOUND);
         }
 		
+		//***************************************************************************************************************************************************************
+		/** Bounded worker pools (e.g. password hashing) are saturated */
+		
+		@ExceptionHandler(TaskRejectedException.class)
+        public ResponseEntity<ErrorResponseDto> handleTaskRejectedException(TaskRejectedException ex, WebRequest request)
+        {
+            return new ResponseEntity<ErrorResponseDto>(new ErrorResponseDto("BUSY","Server is busy, please retry shortly"), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+		
+		@ExceptionHandler(NotificationQueueFullException.class)
+        public ResponseEntity<ErrorResponseDto> handleNotificationQueueFullException(NotificationQueueFullException ex, WebRequest request)
+        {
+            return new ResponseEntity<ErrorResponseDto>(new ErrorResponseDto("BUSY",ex.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+		@ExceptionHandler(InvalidCursorException.class)
+        public ResponseEntity<ErrorResponseDto> handleInvalidCursorException(InvalidCursorException ex, WebRequest request)
+        {
+            return new ResponseEntity<ErrorResponseDto>(new ErrorResponseDto("GETFAILS",ex.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+
+		@ExceptionHandler(InvalidSearchQueryException.class)
+        public ResponseEntity<ErrorResponseDto> handleInvalidSearchQueryException(InvalidSearchQueryException ex, WebRequest request)
+        {
+            return new ResponseEntity<ErrorResponseDto>(new ErrorResponseDto("GETFAILS",ex.getMessage()), HttpStatus.BAD_REQUEST);
+        }
+		
 		//***************************************************************************************************************************************************************
 		//VALIDATION EXCEPTION HANDLING
 		@ExceptionHandler(MethodArgumentNotValidException.class)
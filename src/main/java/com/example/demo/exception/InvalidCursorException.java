@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+
+public class InvalidCursorException extends Exception{
+	
+	private String message;
+	
+	public InvalidCursorException(String message) {
+		this.message=message;
+	}
+	
+	public String getMessage() {
+		return this.message;
+	}
+
+}
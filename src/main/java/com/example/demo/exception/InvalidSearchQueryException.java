@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+
+public class InvalidSearchQueryException extends Exception{
+	
+	private String message;
+	
+	public InvalidSearchQueryException(String message) {
+		this.message=message;
+	}
+	
+	public String getMessage() {
+		return this.message;
+	}
+
+}
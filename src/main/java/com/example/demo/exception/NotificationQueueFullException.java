@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+
+public class NotificationQueueFullException extends Exception{
+	
+	private String message;
+	
+	public NotificationQueueFullException(String message) {
+		this.message=message;
+	}
+	
+	public String getMessage() {
+		return this.message;
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.example.demo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the ATTACHMENTBLOB table, which counts the attachments referencing
+ * each distinct content in the attachment content store. Every statement touching a
+ * blob's row takes its row lock, so a reference being added and the blob being
+ * collected are serialized.
+ */
+@Repository
+public class AttachmentBlobRepository {
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Adds a reference to a blob, creating its row if this is the first.
+	 * @param contentHash The SHA-256 of the content.
+	 * @param contentLength The length of the content.
+	 */
+	public void acquire(String contentHash, long contentLength) {
+		jdbcTemplate.update("INSERT INTO ATTACHMENTBLOB (CONTENTHASH, CONTENTLENGTH, REFCOUNT, UPDATEDAT)"
+				+ " VALUES (:contentHash, :contentLength, 1, :now)"
+				+ " ON DUPLICATE KEY UPDATE REFCOUNT = REFCOUNT + 1, UPDATEDAT = :now",
+				new MapSqlParameterSource("contentHash", contentHash).addValue("contentLength", contentLength)
+						.addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+	}
+
+	/**
+	 * Adds a reference to a blob only if it is already stored.
+	 * @param contentHash The SHA-256 of the content.
+	 * @return The length of the content, or null if no such blob exists.
+	 */
+	public Long acquireExisting(String contentHash) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("contentHash", contentHash)
+				.addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+		if (jdbcTemplate.update("UPDATE ATTACHMENTBLOB SET REFCOUNT = REFCOUNT + 1, UPDATEDAT = :now"
+				+ " WHERE CONTENTHASH = :contentHash", parameters) == 0)
+			return null;
+		return jdbcTemplate.queryForObject("SELECT CONTENTLENGTH FROM ATTACHMENTBLOB WHERE CONTENTHASH = :contentHash",
+				parameters, Long.class);
+	}
+
+	/**
+	 * Removes one reference per occurrence of a hash.
+	 * @param contentHashes The SHA-256 hashes; a hash listed twice loses two references.
+	 */
+	public void release(Collection<String> contentHashes) {
+		if (contentHashes.isEmpty())
+			return;
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.getJdbcTemplate().batchUpdate(
+				"UPDATE ATTACHMENTBLOB SET REFCOUNT = REFCOUNT - 1, UPDATEDAT = ? WHERE CONTENTHASH = ?",
+				contentHashes, contentHashes.size(), (ps, contentHash) -> {
+					ps.setTimestamp(1, now);
+					ps.setString(2, contentHash);
+				});
+	}
+
+	/**
+	 * Deletes a blob's row if nothing references it any more. When nothing is deleted,
+	 * the row is looked up with a locking read, which waits for an upload that has
+	 * inserted it but not yet committed instead of reading the snapshot without it.
+	 * @param contentHash The SHA-256 of the content.
+	 * @return True if the row was deleted, or there was none.
+	 */
+	public boolean deleteIfUnreferenced(String contentHash) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("contentHash", contentHash);
+		return jdbcTemplate.update("DELETE FROM ATTACHMENTBLOB WHERE CONTENTHASH = :contentHash AND REFCOUNT <= 0",
+				parameters) > 0
+				|| jdbcTemplate.queryForList("SELECT CONTENTHASH FROM ATTACHMENTBLOB WHERE CONTENTHASH = :contentHash"
+						+ " FOR UPDATE", parameters, String.class).isEmpty();
+	}
+
+	/**
+	 * Fetches the content hashes of a task's attachments.
+	 * @param taskId The ID of the task.
+	 * @return One hash per attachment that has content.
+	 */
+	public List<String> findContentHashesByTaskId(int taskId) {
+		return jdbcTemplate.queryForList(
+				"SELECT CONTENTHASH FROM ATTACHMENT WHERE TASKID = :taskId AND CONTENTHASH IS NOT NULL",
+				new MapSqlParameterSource("taskId", taskId), String.class);
+	}
+
+	/**
+	 * Fetches blobs that nothing has referenced since before a given time.
+	 * @param before The cut-off time.
+	 * @return The SHA-256 hashes of the blobs.
+	 */
+	public List<String> findUnreferenced(LocalDateTime before) {
+		return jdbcTemplate.queryForList(
+				"SELECT CONTENTHASH FROM ATTACHMENTBLOB WHERE REFCOUNT <= 0 AND UPDATEDAT < :before",
+				new MapSqlParameterSource("before", Timestamp.valueOf(before)), String.class);
+	}
+
+	/**
+	 * Resets every reference count to the number of attachments using the blob, correcting
+	 * drift from attachments removed without going through the attachment service.
+	 * @return The number of blobs whose count was corrected.
+	 */
+	public int reconcileRefCounts() {
+		return jdbcTemplate.getJdbcTemplate().update("UPDATE ATTACHMENTBLOB B SET REFCOUNT ="
+				+ " (SELECT COUNT(*) FROM ATTACHMENT A WHERE A.CONTENTHASH = B.CONTENTHASH), UPDATEDAT = ?"
+				+ " WHERE REFCOUNT <> (SELECT COUNT(*) FROM ATTACHMENT A WHERE A.CONTENTHASH = B.CONTENTHASH)",
+				Timestamp.valueOf(LocalDateTime.now()));
+	}
+
+}
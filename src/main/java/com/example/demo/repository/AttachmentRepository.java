@@ -2,6 +2,8 @@ package com.example.demo.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -39,11 +41,12 @@ public interface AttachmentRepository extends JpaRepository<Attachment,Integer>{
 	 * Custom query to delete attachments by task id
 	 * 
 	 * @param taskId Id of the attachment to be deleted
+	 * @return The number of attachments deleted.
 	 */
 	
     @Modifying
 	@Query("DELETE from Attachment a where a.task.taskId=:taskId")
-	void deleteByTaskId(@Param("taskId")int taskId);
+	int deleteByTaskId(@Param("taskId")int taskId);
     
     /**
      * Custom query to fetch attachments by attachment id 
@@ -63,6 +66,22 @@ public interface AttachmentRepository extends JpaRepository<Attachment,Integer>{
     
     @Query("select a from Attachment a where a.task.taskId=:taskId")
     List<Attachment> getAttachmentByTaskId(@Param("taskId")int taskId);
-     
-    
-}
\ No newline at end of file
+
+	/**
+	 * Custom query to fetch attachment IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of attachment IDs on the requested page.
+	 */
+	@Query("Select a.attachmentId from Attachment a")
+	List<Integer> getAnyAttachmentId(Pageable pageable);
+
+	/**
+	 * Checks whether the ATTACHMENT table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one attachment exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyAttachmentId(PageRequest.of(0, 1)).isEmpty();
+	}
+}
@@ -2,6 +2,8 @@ package com.example.demo.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -37,4 +39,22 @@ public interface CategoryRepository extends JpaRepository<Category, Integer>{
 //            + "                      \"LEFT JOIN c.tasks t \" +\r\n"
 //            + "                      \"GROUP BY c.id, c.name\";")
 //    List<Object[]> findCategoriesWithTaskCount();
+
+	/**
+	 * Custom query to fetch category IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of category IDs on the requested page.
+	 */
+	@Query("Select c.categoryId from Category c")
+	List<Integer> getAnyCategoryId(Pageable pageable);
+
+	/**
+	 * Checks whether the CATEGORY table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one category exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyCategoryId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
@@ -2,6 +2,8 @@ package com.example.demo.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,5 +34,22 @@ public interface CommentRepository extends JpaRepository<Comment, Integer> {
 	 */
 	@Query("Select c.commentId from Comment c")
 	int[] getAllCommentIds();
-	
+
+	/**
+	 * Custom query to fetch comment IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of comment IDs on the requested page.
+	 */
+	@Query("Select c.commentId from Comment c")
+	List<Integer> getAnyCommentId(Pageable pageable);
+
+	/**
+	 * Checks whether the COMMENT table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one comment exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyCommentId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
@@ -0,0 +1,52 @@
+package com.example.demo.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.dto.NotificationUserDto;
+
+/**
+ * JDBC access to the NOTIFICATION table for fanned-out notifications. Rows are written
+ * in JDBC batches and the database assigns their IDs, so nothing has to be loaded or
+ * allocated per notification.
+ */
+@Repository
+public class NotificationBatchRepository {
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Fetches the users on a project: its owner and everyone with a task in it.
+	 * @param projectId The ID of the project.
+	 * @return The distinct user IDs.
+	 */
+	public List<Integer> findUserIdsOnProject(int projectId) {
+		return jdbcTemplate.queryForList(
+				"SELECT USERID FROM PROJECT WHERE PROJECTID = :projectId AND USERID IS NOT NULL"
+						+ " UNION SELECT USERID FROM TASK WHERE PROJECTID = :projectId AND USERID IS NOT NULL",
+				new MapSqlParameterSource("projectId", projectId), Integer.class);
+	}
+
+	/**
+	 * Inserts notifications using JDBC batches; their notificationId is ignored.
+	 * @param notifications The notifications to insert.
+	 * @param batchSize The number of rows sent per JDBC batch.
+	 */
+	public void batchInsert(List<NotificationUserDto> notifications, int batchSize) {
+		if (notifications.isEmpty())
+			return;
+		jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO NOTIFICATION (TEXT, CREATEDAT, USERID) VALUES (?, ?, ?)",
+				notifications, batchSize, (ps, notification) -> {
+					ps.setString(1, notification.getText());
+					ps.setTimestamp(2, Timestamp.valueOf(notification.getCreatedAt()));
+					ps.setInt(3, notification.getUserId());
+				});
+	}
+
+}
@@ -1,8 +1,14 @@
 package com.example.demo.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,4 +28,70 @@ public interface NotificationRepository extends JpaRepository<Notification,Integ
 	@Query("select n from Notification n where n.user.userId=:userId")
 	List<Notification> getNotificationByuserId(@Param("userId")int userId);
 
+	/**
+	 * Custom query to fetch one page of a user's inbox section (unread or read), newest
+	 * first, seeking past the last notification of the previous page. The plain upper
+	 * bound on createdAt lets the seek be a range scan of the inbox index.
+	 * 
+	 * @param userId The ID of the user.
+	 * @param read Whether to fetch read or unread notifications.
+	 * @param createdAt Creation time of the last notification on the previous page.
+	 * @param notificationId ID of the last notification on the previous page.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of notifications older than the given position.
+	 */
+	@Query("select n from Notification n where n.user.userId = :userId and n.read = :read"
+			+ " and n.createdAt <= :createdAt and (n.createdAt < :createdAt or n.notificationId < :notificationId)"
+			+ " order by n.createdAt desc, n.notificationId desc")
+	Slice<Notification> getInboxPage(@Param("userId") int userId, @Param("read") boolean read,
+			@Param("createdAt") LocalDateTime createdAt, @Param("notificationId") int notificationId, Pageable pageable);
+
+	/**
+	 * Counts a user's unread notifications.
+	 * 
+	 * @param userId The ID of the user.
+	 * @return The number of unread notifications.
+	 */
+	@Query("select count(n) from Notification n where n.user.userId = :userId and n.read = false")
+	long countUnreadByUserId(@Param("userId") int userId);
+
+	/**
+	 * Marks some of a user's notifications as read.
+	 * 
+	 * @param userId The ID of the user.
+	 * @param notificationIds The IDs of the notifications; IDs of other users' notifications are ignored.
+	 * @return The number of notifications that changed from unread to read.
+	 */
+	@Modifying
+	@Query("update Notification n set n.read = true where n.user.userId = :userId and n.read = false"
+			+ " and n.notificationId in :notificationIds")
+	int markAsRead(@Param("userId") int userId, @Param("notificationIds") Collection<Integer> notificationIds);
+
+	/**
+	 * Marks all of a user's notifications as read.
+	 * 
+	 * @param userId The ID of the user.
+	 * @return The number of notifications that changed from unread to read.
+	 */
+	@Modifying
+	@Query("update Notification n set n.read = true where n.user.userId = :userId and n.read = false")
+	int markAllAsRead(@Param("userId") int userId);
+
+	/**
+	 * Custom query to fetch notification IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of notification IDs on the requested page.
+	 */
+	@Query("Select n.notificationId from Notification n")
+	List<Integer> getAnyNotificationId(Pageable pageable);
+
+	/**
+	 * Checks whether the NOTIFICATION table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one notification exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyNotificationId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
@@ -1,8 +1,11 @@
 package com.example.demo.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -89,4 +92,30 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
 	@Query("SELECT p FROM Project p WHERE EXISTS(SELECT t FROM Task t WHERE t.project = p AND t.priority = 'HIGH')")
 	List<Project> getProjectsWithHighPriorityTasks();
 
+	/**
+	 * Custom query to fetch which of the given project IDs exist.
+	 * 
+	 * @param projectIds The project IDs to look up.
+	 * @return List of the project IDs that exist.
+	 */
+	@Query("Select p.projectId from Project p WHERE p.projectId IN :projectIds")
+	List<Integer> getExistingProjectIds(@Param("projectIds") Collection<Integer> projectIds);
+	
+	/**
+	 * Custom query to fetch project IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of project IDs on the requested page.
+	 */
+	@Query("Select p.projectId from Project p")
+	List<Integer> getAnyProjectId(Pageable pageable);
+
+	/**
+	 * Checks whether the PROJECT table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one project exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyProjectId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
@@ -0,0 +1,155 @@
+package com.example.demo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the SEARCHOUTBOX table, the queue of changes the search index has yet
+ * to apply. A row only names the changed row; the indexer reads the row's current state
+ * when it gets to it, so several changes to one row collapse into one index update.
+ */
+@Repository
+public class SearchOutboxRepository {
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Records a change to a row, in the caller's transaction.
+	 * @param type The kind of row, e.g. {@link SearchSourceRepository#TASK}.
+	 * @param id The ID of the row.
+	 */
+	public void record(String type, int id) {
+		jdbcTemplate.update("INSERT INTO SEARCHOUTBOX (ENTITYTYPE, ENTITYID, CREATEDAT) VALUES (:type, :id, :now)",
+				new MapSqlParameterSource("type", type).addValue("id", id)
+						.addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+	}
+
+	/**
+	 * Records changes to several rows of one kind with one JDBC batch, in the caller's transaction.
+	 * @param type The kind of row.
+	 * @param ids The IDs of the rows.
+	 */
+	public void recordAll(String type, List<Integer> ids) {
+		if (ids.isEmpty())
+			return;
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO SEARCHOUTBOX (ENTITYTYPE, ENTITYID, CREATEDAT) VALUES (?, ?, ?)",
+				ids, ids.size(), (ps, id) -> {
+					ps.setString(1, type);
+					ps.setInt(2, id);
+					ps.setTimestamp(3, now);
+				});
+	}
+
+	/**
+	 * Records a change to every task in a project and every comment on those tasks, with
+	 * one statement in the caller's transaction. Must run before the project is deleted.
+	 * @param projectId The ID of the project.
+	 */
+	public void recordCascadeOfProject(int projectId) {
+		recordCascade("SELECT " + literal(SearchSourceRepository.TASK) + " ENTITYTYPE, TASKID ENTITYID FROM TASK"
+				+ " WHERE PROJECTID = :projectId"
+				+ " UNION ALL SELECT " + literal(SearchSourceRepository.COMMENT) + ", COMMENTID FROM COMMENT"
+				+ " WHERE TASKID IN (SELECT TASKID FROM TASK WHERE PROJECTID = :projectId)",
+				new MapSqlParameterSource("projectId", projectId));
+	}
+
+	/**
+	 * Records a change to every row a user's deletion cascades to, with one statement in
+	 * the caller's transaction: the user's projects, the user's tasks and the tasks in
+	 * those projects, and the user's comments and the comments on any of those tasks.
+	 * Must run before the user is deleted.
+	 * @param userId The ID of the user.
+	 */
+	public void recordCascadeOfUser(int userId) {
+		String ofUser = "USERID = :userId OR PROJECTID IN (SELECT PROJECTID FROM PROJECT WHERE USERID = :userId)";
+		recordCascade("SELECT " + literal(SearchSourceRepository.PROJECT) + " ENTITYTYPE, PROJECTID ENTITYID FROM PROJECT"
+				+ " WHERE USERID = :userId"
+				+ " UNION ALL SELECT " + literal(SearchSourceRepository.TASK) + ", TASKID FROM TASK WHERE " + ofUser
+				+ " UNION ALL SELECT " + literal(SearchSourceRepository.COMMENT) + ", COMMENTID FROM COMMENT"
+				+ " WHERE USERID = :userId OR TASKID IN (SELECT TASKID FROM TASK WHERE " + ofUser + ")",
+				new MapSqlParameterSource("userId", userId));
+	}
+
+	/**
+	 * Fetches the oldest recorded changes.
+	 * @param limit The maximum number of changes to return.
+	 * @return The changes, oldest first.
+	 */
+	public List<Change> findOldest(int limit) {
+		return jdbcTemplate.query(
+				"SELECT OUTBOXID, ENTITYTYPE, ENTITYID FROM SEARCHOUTBOX ORDER BY OUTBOXID LIMIT :limit",
+				new MapSqlParameterSource("limit", limit),
+				(rs, rowNum) -> new Change(rs.getLong(1), rs.getString(2), rs.getInt(3)));
+	}
+
+	/**
+	 * Removes changes that the search index has applied and committed.
+	 * @param outboxIds The IDs of the changes.
+	 * @return The number of changes removed.
+	 */
+	public int delete(List<Long> outboxIds) {
+		if (outboxIds.isEmpty())
+			return 0;
+		return jdbcTemplate.update("DELETE FROM SEARCHOUTBOX WHERE OUTBOXID IN (:outboxIds)",
+				new MapSqlParameterSource("outboxIds", outboxIds));
+	}
+
+	/**
+	 * Counts the changes not yet applied to the search index.
+	 * @return The number of changes.
+	 */
+	public long countPending() {
+		return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM SEARCHOUTBOX", Long.class);
+	}
+
+	private void recordCascade(String changes, MapSqlParameterSource parameters) {
+		// The types are literals: a parameter inside a UNION has no type the database can infer
+		jdbcTemplate.update("INSERT INTO SEARCHOUTBOX (ENTITYTYPE, ENTITYID, CREATEDAT)"
+				+ " SELECT C.ENTITYTYPE, C.ENTITYID, :now FROM (" + changes + ") C",
+				parameters.addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+	}
+
+	private static String literal(String type) {
+		return "'" + type + "'";
+	}
+
+	/**
+	 * A change recorded in the outbox.
+	 */
+	public static final class Change {
+
+		private final long outboxId;
+
+		private final String type;
+
+		private final int id;
+
+		Change(long outboxId, String type, int id) {
+			this.outboxId = outboxId;
+			this.type = type;
+			this.id = id;
+		}
+
+		public long getOutboxId() {
+			return outboxId;
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+	}
+
+}
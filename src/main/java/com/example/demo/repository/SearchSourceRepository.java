@@ -0,0 +1,107 @@
+package com.example.demo.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC reads of the TASK, COMMENT and PROJECT text that the search index is built from.
+ * Rows are streamed to a callback with a server-side cursor instead of being loaded as
+ * entities, so a rebuild reads each table once without holding it in memory. Every
+ * kind of row is read as the same four columns: its ID, the ID of its task (null for
+ * projects), a title and a body.
+ */
+@Repository
+public class SearchSourceRepository {
+
+	public static final String TASK = "task";
+
+	public static final String COMMENT = "comment";
+
+	public static final String PROJECT = "project";
+
+	static final int FETCH_SIZE = 1000;
+
+	private static final Map<String, String> SELECT = Map.of(
+			TASK, "SELECT TASKID, TASKID, TASKNAME, DESCRIPTION FROM TASK",
+			COMMENT, "SELECT COMMENTID, TASKID, NULL, TEXT FROM COMMENT",
+			PROJECT, "SELECT PROJECTID, NULL, PROJECTNAME, DESCRIPTION FROM PROJECT");
+
+	private static final Map<String, String> ID_COLUMN = Map.of(TASK, "TASKID", COMMENT, "COMMENTID", PROJECT, "PROJECTID");
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Fetches the lowest and highest ID of one kind of row.
+	 * @param type {@link #TASK}, {@link #COMMENT} or {@link #PROJECT}.
+	 * @return The lowest and highest ID, or null if the table is empty.
+	 */
+	public int[] findIdRange(String type) {
+		String idColumn = idColumn(type);
+		return jdbcTemplate.getJdbcTemplate().queryForObject(
+				"SELECT MIN(" + idColumn + "), MAX(" + idColumn + ") FROM " + type.toUpperCase(),
+				(rs, rowNum) -> rs.getObject(1) == null ? null : new int[] { rs.getInt(1), rs.getInt(2) });
+	}
+
+	/**
+	 * Reads the rows of one kind with an ID in a range, in ID order.
+	 * @param type {@link #TASK}, {@link #COMMENT} or {@link #PROJECT}.
+	 * @param fromId The lowest ID to read.
+	 * @param toId The highest ID to read.
+	 * @param handler Called once per row.
+	 */
+	public void forEachInRange(String type, int fromId, int toId, RowHandler handler) {
+		String sql = SELECT.get(type) + " WHERE " + idColumn(type) + " BETWEEN ? AND ? ORDER BY " + idColumn(type);
+		jdbcTemplate.getJdbcTemplate().query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql);
+			statement.setInt(1, fromId);
+			statement.setInt(2, toId);
+			statement.setFetchSize(FETCH_SIZE);
+			return statement;
+		}, callback(handler));
+	}
+
+	/**
+	 * Reads the rows of one kind with the given IDs; IDs without a row are skipped.
+	 * @param type {@link #TASK}, {@link #COMMENT} or {@link #PROJECT}.
+	 * @param ids The IDs to read.
+	 * @param handler Called once per row found.
+	 */
+	public void forEachById(String type, Collection<Integer> ids, RowHandler handler) {
+		if (ids.isEmpty())
+			return;
+		jdbcTemplate.query(SELECT.get(type) + " WHERE " + idColumn(type) + " IN (:ids)",
+				new MapSqlParameterSource("ids", ids), callback(handler));
+	}
+
+	private static String idColumn(String type) {
+		String idColumn = ID_COLUMN.get(type);
+		if (idColumn == null)
+			throw new IllegalArgumentException("Not a searchable type: " + type);
+		return idColumn;
+	}
+
+	private static RowCallbackHandler callback(RowHandler handler) {
+		return rs -> handler.handle(rs.getInt(1), nullableInt(rs, 2), rs.getString(3), rs.getString(4));
+	}
+
+	private static Integer nullableInt(ResultSet rs, int column) throws SQLException {
+		int value = rs.getInt(column);
+		return rs.wasNull() ? null : value;
+	}
+
+	@FunctionalInterface
+	public interface RowHandler {
+		void handle(int id, Integer taskId, String title, String body);
+	}
+
+}
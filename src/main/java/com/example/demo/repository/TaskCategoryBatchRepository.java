@@ -0,0 +1,116 @@
+package com.example.demo.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.entity.Category;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * JDBC access to the TASKCATEGORY join table for bulk imports. Inserting through
+ * Hibernate would load every Category.tasks collection, so rows are written with
+ * plain JDBC batches and the cached collections are evicted once the transaction commits.
+ */
+@Repository
+public class TaskCategoryBatchRepository {
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Fetches which of the given task IDs exist.
+	 * @param taskIds The task IDs to look up.
+	 * @return The subset of IDs present in the TASK table.
+	 */
+	public Set<Integer> findExistingTaskIds(Collection<Integer> taskIds) {
+		if (taskIds.isEmpty())
+			return new HashSet<>();
+		return new HashSet<>(jdbcTemplate.queryForList("SELECT TASKID FROM TASK WHERE TASKID IN (:ids)",
+				new MapSqlParameterSource("ids", taskIds), Integer.class));
+	}
+
+	/**
+	 * Fetches which of the given category IDs exist.
+	 * @param categoryIds The category IDs to look up.
+	 * @return The subset of IDs present in the CATEGORY table.
+	 */
+	public Set<Integer> findExistingCategoryIds(Collection<Integer> categoryIds) {
+		if (categoryIds.isEmpty())
+			return new HashSet<>();
+		return new HashSet<>(jdbcTemplate.queryForList("SELECT CATEGORYID FROM CATEGORY WHERE CATEGORYID IN (:ids)",
+				new MapSqlParameterSource("ids", categoryIds), Integer.class));
+	}
+
+	/**
+	 * Fetches the task/category pairs already stored for the given tasks.
+	 * @param taskIds The task IDs whose associations are loaded.
+	 * @return Pairs encoded with {@link #pairKey(int, int)}.
+	 */
+	public Set<Long> findExistingPairs(Collection<Integer> taskIds) {
+		Set<Long> pairs = new HashSet<>();
+		if (taskIds.isEmpty())
+			return pairs;
+		jdbcTemplate.query("SELECT TASKID, CATEGORYID FROM TASKCATEGORY WHERE TASKID IN (:ids)",
+				new MapSqlParameterSource("ids", taskIds),
+				rs -> {
+					pairs.add(pairKey(rs.getInt(1), rs.getInt(2)));
+				});
+		return pairs;
+	}
+
+	/**
+	 * Inserts task/category pairs using JDBC batches.
+	 * @param pairs Pairs of {taskId, categoryId} to insert.
+	 * @param batchSize The number of rows sent per JDBC batch.
+	 */
+	public void batchInsert(List<int[]> pairs, int batchSize) {
+		if (pairs.isEmpty())
+			return;
+		jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT INTO TASKCATEGORY (TASKID, CATEGORYID) VALUES (?, ?)",
+				pairs, batchSize, (ps, pair) -> {
+					ps.setInt(1, pair[0]);
+					ps.setInt(2, pair[1]);
+				});
+		// Evicting before commit would let a concurrent reader re-cache the collections without the new rows
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evictCategoryTasks();
+				}
+			});
+		} else {
+			evictCategoryTasks();
+		}
+	}
+
+	/**
+	 * Encodes a task/category pair as a single long so pairs can be kept in a set.
+	 * @param taskId The task ID.
+	 * @param categoryId The category ID.
+	 * @return The encoded pair.
+	 */
+	public static long pairKey(int taskId, int categoryId) {
+		return ((long) taskId << 32) | (categoryId & 0xffffffffL);
+	}
+
+	private void evictCategoryTasks() {
+		entityManagerFactory.unwrap(SessionFactory.class).getCache()
+				.evictCollectionData(Category.class.getName() + ".tasks");
+	}
+
+}
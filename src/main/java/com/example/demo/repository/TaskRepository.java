@@ -1,15 +1,25 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.TaskSummaryDto;
 import com.example.demo.entity.Task;
 
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
 
 @Repository
@@ -47,11 +57,12 @@ public interface TaskRepository extends JpaRepository<Task, Integer>{
 	
 	
 	/**
-	 * Custom native query to fetch tasks that are due soon (within the next 3 days).
+	 * Custom query to fetch tasks that are due soon (within the next 3 days). The date
+	 * arithmetic is rendered by the dialect, so the query also runs on H2.
 	 * 
 	 * @return List of Task entities that are due within the next 3 days from the current date.
 	 */
-	@Query(value = "SELECT * FROM Task t WHERE t.dueDate < DATE_ADD(CURRENT_DATE, INTERVAL 3 DAY) AND t.dueDate > CURRENT_DATE", nativeQuery = true)
+	@Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE + 3 DAY AND t.dueDate > CURRENT_DATE")
 	List<Task> getTasksDueSoon();
 
 	
@@ -85,6 +96,35 @@ public interface TaskRepository extends JpaRepository<Task, Integer>{
 	@Query("select count(t) from Task t where t.project.projectId=:projectId ")
 	int getTaskCountOfProject(@Param("projectId")int  projectId);
 	
+	/**
+	 * Custom query to count tasks per project, status and priority in a single pass,
+	 * used to build the in-memory project statistics.
+	 * 
+	 * @return List of Object arrays holding project ID, status, priority and task count.
+	 */
+	@Query("select t.project.projectId, t.status, t.priority, count(t) from Task t group by t.project.projectId, t.status, t.priority")
+	List<Object[]> getTaskCountsByProjectStatusAndPriority();
+	
+	/**
+	 * Custom query to count, per project, status and priority, the tasks that deleting a
+	 * user removes: the user's own tasks and every task in the user's projects.
+	 * 
+	 * @param userId The ID of the user.
+	 * @return List of Object arrays holding project ID, status, priority and task count.
+	 */
+	@Query("select p.projectId, t.status, t.priority, count(t) from Task t join t.project p left join p.user pu"
+			+ " where t.user.userId=:userId or pu.userId=:userId group by p.projectId, t.status, t.priority")
+	List<Object[]> getTaskCountsOfUserByProjectStatusAndPriority(@Param("userId") int userId);
+	
+	/**
+	 * Custom query to fetch the summary columns of a single task.
+	 * 
+	 * @param taskId The ID of the task to be fetched.
+	 * @return TaskSummaryDto for the given task ID, or null if it doesn't exist.
+	 */
+	@Query("select new com.example.demo.dto.TaskSummaryDto(t.taskId, t.taskName, t.status, t.priority, t.dueDate, t.project.projectId, t.user.userId) from Task t where t.taskId=:taskId")
+	TaskSummaryDto getTaskSummaryByTaskId(@Param("taskId")int taskId);
+	
 	
 	/**
 	 * Custom query to fetch tasks assigned to a specific user and with a specific status.
@@ -112,10 +152,11 @@ public interface TaskRepository extends JpaRepository<Task, Integer>{
 	 * Custom query to delete a task based on its task ID.
 	 * 
 	 * @param taskId The ID of the task to be deleted.
+	 * @return The number of rows deleted.
 	 */
 	@Modifying
 	@Query("DELETE from Task t where t.taskId=:taskId")
-	void deleteByTaskId(@Param("taskId")int taskId);
+	int deleteByTaskId(@Param("taskId")int taskId);
 	
 	
 	/**
@@ -150,6 +191,15 @@ public interface TaskRepository extends JpaRepository<Task, Integer>{
     @Query(value = "INSERT INTO TASKCATEGORY (TASKID, CATEGORYID) VALUES (:taskId, :categoryId)", nativeQuery = true)
     void associateTaskWithCategory(@Param("taskId")int taskId,@Param("categoryId")int categoryId);
 	
+	/**
+	 * Custom query to fetch which of the given task IDs already exist.
+	 * 
+	 * @param taskIds The task IDs to look up.
+	 * @return List of the task IDs that exist.
+	 */
+	@Query("Select t.taskId from Task t WHERE t.taskId IN :taskIds")
+	List<Integer> getExistingTaskIds(@Param("taskIds") Collection<Integer> taskIds);
+	
 	/**
 	 * Custom query to fetch all task IDs.
 	 * 
@@ -157,6 +207,128 @@ public interface TaskRepository extends JpaRepository<Task, Integer>{
 	 */
 	@Query("Select t.taskId from Task t")
 	int[] getAllTaskIds();
+
+	/**
+	 * Custom query to fetch the page of tasks that follows a task ID, ordered by task ID.
+	 * 
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of Task entities with an ID greater than the given ID.
+	 */
+	@Query("select t from Task t where t.taskId > :after order by t.taskId")
+	Slice<Task> getTasksAfter(@Param("after")int after, Pageable pageable);
+	
+	
+	/**
+	 * Custom query to fetch the page of tasks with a given status that follows a task ID, ordered by task ID.
+	 * 
+	 * @param status The status of the tasks to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of Task entities that match the given status.
+	 */
+	@Query("select t from Task t where t.status=:status and t.taskId > :after order by t.taskId")
+	Slice<Task> getTaskBystatusAfter(@Param("status")String status, @Param("after")int after, Pageable pageable);
 	
+	
+	/**
+	 * Custom query to fetch the page of tasks assigned to a user that follows a task ID, ordered by task ID.
+	 * 
+	 * @param userId The ID of the user whose tasks are to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of Task entities assigned to the given user ID.
+	 */
+	@Query("select t from Task t where t.user.userId=:userId and t.taskId > :after order by t.taskId")
+	Slice<Task> getTasksByUserIdAfter(@Param("userId")int userId, @Param("after")int after, Pageable pageable);
+	
+	
+	/**
+	 * Custom query to fetch the page of tasks of a project that follows a task ID, ordered by task ID.
+	 * 
+	 * @param projectId The ID of the project whose tasks are to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of Task entities associated with the given project ID.
+	 */
+	@Query("select t from Task t where t.project.projectId=:projectId and t.taskId > :after order by t.taskId")
+	Slice<Task> getTasksByProjectAfter(@Param("projectId")int projectId, @Param("after")int after, Pageable pageable);
+
+	/**
+	 * Custom query to fetch the page of task summaries that follows a task ID, ordered by task ID.
+	 * Only the summary columns are selected; project and user IDs are read from the foreign keys.
+	 * 
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of TaskSummaryDto with an ID greater than the given ID.
+	 */
+	@Query("select new com.example.demo.dto.TaskSummaryDto(t.taskId, t.taskName, t.status, t.priority, t.dueDate, t.project.projectId, t.user.userId) from Task t where t.taskId > :after order by t.taskId")
+	Slice<TaskSummaryDto> getTaskSummariesAfter(@Param("after")int after, Pageable pageable);
+	
+	
+	/**
+	 * Custom query to fetch the page of task summaries with a given status that follows a task ID, ordered by task ID.
+	 * 
+	 * @param status The status of the tasks to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of TaskSummaryDto that match the given status.
+	 */
+	@Query("select new com.example.demo.dto.TaskSummaryDto(t.taskId, t.taskName, t.status, t.priority, t.dueDate, t.project.projectId, t.user.userId) from Task t where t.status=:status and t.taskId > :after order by t.taskId")
+	Slice<TaskSummaryDto> getTaskSummariesBystatusAfter(@Param("status")String status, @Param("after")int after, Pageable pageable);
+	
+	
+	/**
+	 * Custom query to fetch the page of task summaries assigned to a user that follows a task ID, ordered by task ID.
+	 * 
+	 * @param userId The ID of the user whose tasks are to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of TaskSummaryDto assigned to the given user ID.
+	 */
+	@Query("select new com.example.demo.dto.TaskSummaryDto(t.taskId, t.taskName, t.status, t.priority, t.dueDate, t.project.projectId, t.user.userId) from Task t where t.user.userId=:userId and t.taskId > :after order by t.taskId")
+	Slice<TaskSummaryDto> getTaskSummariesByUserIdAfter(@Param("userId")int userId, @Param("after")int after, Pageable pageable);
+	
+	
+	/**
+	 * Custom query to fetch the page of task summaries of a project that follows a task ID, ordered by task ID.
+	 * 
+	 * @param projectId The ID of the project whose tasks are to be fetched.
+	 * @param after The task ID to seek past; only tasks with a greater ID are returned.
+	 * @param pageable The page size to fetch.
+	 * @return Slice of TaskSummaryDto associated with the given project ID.
+	 */
+	@Query("select new com.example.demo.dto.TaskSummaryDto(t.taskId, t.taskName, t.status, t.priority, t.dueDate, t.project.projectId, t.user.userId) from Task t where t.project.projectId=:projectId and t.taskId > :after order by t.taskId")
+	Slice<TaskSummaryDto> getTaskSummariesByProjectAfter(@Param("projectId")int projectId, @Param("after")int after, Pageable pageable);
+
+	/**
+	 * Custom query to stream all tasks ordered by task ID, for exports.
+	 * Rows are fetched from the database in batches and loaded read-only, so the
+	 * caller must consume the stream inside a transaction and close it.
+	 * 
+	 * @return Stream of all Task entities.
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false") })
+	@Query("select t from Task t order by t.taskId")
+	Stream<Task> streamAllTasks();
 
+	/**
+	 * Custom query to fetch task IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of task IDs on the requested page.
+	 */
+	@Query("Select t.taskId from Task t")
+	List<Integer> getAnyTaskId(Pageable pageable);
+
+	/**
+	 * Checks whether the TASK table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one task exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyTaskId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
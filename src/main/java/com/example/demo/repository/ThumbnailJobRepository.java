@@ -0,0 +1,116 @@
+package com.example.demo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to the THUMBNAILJOB table. A job moves from PENDING to RUNNING when a
+ * worker claims it, then to DONE, SKIPPED (not a readable image) or FAILED; failed
+ * attempts go back to PENDING until the attempt limit is reached.
+ */
+@Repository
+public class ThumbnailJobRepository {
+
+	public static final String PENDING = "PENDING";
+	public static final String RUNNING = "RUNNING";
+	public static final String DONE = "DONE";
+	public static final String SKIPPED = "SKIPPED";
+	public static final String FAILED = "FAILED";
+
+	@Autowired
+	NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * Adds a pending job for a blob, unless it already has one.
+	 * @param contentHash The SHA-256 of the blob; its ATTACHMENTBLOB row must exist.
+	 */
+	public void enqueue(String contentHash) {
+		jdbcTemplate.update("INSERT INTO THUMBNAILJOB (CONTENTHASH, STATUS, ATTEMPTS, UPDATEDAT)"
+				+ " VALUES (:contentHash, :status, 0, :now) ON DUPLICATE KEY UPDATE CONTENTHASH = CONTENTHASH",
+				new MapSqlParameterSource("contentHash", contentHash).addValue("status", PENDING).addValue("now", now()));
+	}
+
+	/**
+	 * Fetches the oldest pending jobs.
+	 * @param limit The maximum number of jobs.
+	 * @return The SHA-256 hashes of their blobs.
+	 */
+	public List<String> findPending(int limit) {
+		return jdbcTemplate.queryForList("SELECT CONTENTHASH FROM THUMBNAILJOB WHERE STATUS = :status"
+				+ " ORDER BY UPDATEDAT LIMIT :limit",
+				new MapSqlParameterSource("status", PENDING).addValue("limit", limit), String.class);
+	}
+
+	/**
+	 * Claims a pending job for this worker.
+	 * @param contentHash The SHA-256 of the blob.
+	 * @return True if the job was pending and is now running.
+	 */
+	public boolean claim(String contentHash) {
+		return setStatus(contentHash, PENDING, RUNNING) > 0;
+	}
+
+	/**
+	 * Finishes a running job.
+	 * @param contentHash The SHA-256 of the blob.
+	 * @param status DONE or SKIPPED.
+	 */
+	public void complete(String contentHash, String status) {
+		setStatus(contentHash, RUNNING, status);
+	}
+
+	/**
+	 * Records a failed attempt, putting the job back to PENDING or, after the last
+	 * attempt, to FAILED.
+	 * @param contentHash The SHA-256 of the blob.
+	 * @param error What went wrong.
+	 * @param maxAttempts The number of attempts allowed.
+	 */
+	public void fail(String contentHash, String error, int maxAttempts) {
+		jdbcTemplate.update("UPDATE THUMBNAILJOB SET ATTEMPTS = ATTEMPTS + 1,"
+				+ " STATUS = CASE WHEN ATTEMPTS + 1 >= :maxAttempts THEN :failed ELSE :pending END,"
+				+ " LASTERROR = :error, UPDATEDAT = :now WHERE CONTENTHASH = :contentHash AND STATUS = :running",
+				new MapSqlParameterSource("contentHash", contentHash).addValue("maxAttempts", maxAttempts)
+						.addValue("failed", FAILED).addValue("pending", PENDING).addValue("running", RUNNING)
+						.addValue("error", error == null || error.length() <= 1000 ? error : error.substring(0, 1000))
+						.addValue("now", now()));
+	}
+
+	/**
+	 * Puts every running job back to PENDING; called at startup, when no job can be running.
+	 * @return The number of jobs requeued.
+	 */
+	public int requeueRunning() {
+		return jdbcTemplate.update("UPDATE THUMBNAILJOB SET STATUS = :pending, UPDATEDAT = :now WHERE STATUS = :running",
+				new MapSqlParameterSource("pending", PENDING).addValue("running", RUNNING).addValue("now", now()));
+	}
+
+	/**
+	 * Fetches the status of a blob's job.
+	 * @param contentHash The SHA-256 of the blob.
+	 * @return The status, or null if the blob has no job.
+	 */
+	public String findStatus(String contentHash) {
+		List<String> statuses = jdbcTemplate.queryForList("SELECT STATUS FROM THUMBNAILJOB WHERE CONTENTHASH = :contentHash",
+				new MapSqlParameterSource("contentHash", contentHash), String.class);
+		return statuses.isEmpty() ? null : statuses.get(0);
+	}
+
+	private int setStatus(String contentHash, String from, String to) {
+		return jdbcTemplate.update("UPDATE THUMBNAILJOB SET STATUS = :to, UPDATEDAT = :now"
+				+ " WHERE CONTENTHASH = :contentHash AND STATUS = :from",
+				new MapSqlParameterSource("contentHash", contentHash).addValue("from", from).addValue("to", to)
+						.addValue("now", now()));
+	}
+
+	private static Timestamp now() {
+		return Timestamp.valueOf(LocalDateTime.now());
+	}
+
+}
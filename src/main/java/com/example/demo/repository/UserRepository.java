@@ -1,8 +1,12 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,6 +15,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import com.example.demo.entity.User;
 import com.example.demo.entity.UserRole;
 
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface UserRepository extends JpaRepository<User,Integer>{
 	
@@ -24,12 +30,13 @@ public interface UserRepository extends JpaRepository<User,Integer>{
 	User getDetailsOfSpecificUserById(@Param("userId")int userId);
 	
 	/**
-	 * Custom query to fetch users with a specific email domain.
+	 * Custom query to fetch users with a specific email domain, served by the
+	 * idx_user_emaildomain index.
 	 * 
-	 * @param domain The email domain to filter users by.
+	 * @param domain The normalised email domain to filter users by (see {@link User#domainOf(String)}).
 	 * @return List of User entities that have the specified email domain.
 	 */
-	@Query("SELECT u FROM User u WHERE u.email LIKE %:domain")
+	@Query("SELECT u FROM User u WHERE u.emailDomain = :domain")
 	List<User> getUsersWithSpecificEmailDomain(@Param("domain")String domain);
 	
 	
@@ -44,14 +51,82 @@ public interface UserRepository extends JpaRepository<User,Integer>{
 	
 	
 	/**
-	 * Custom query to fetch users with the most tasks.
+	 * Custom query to fetch users with the most tasks, read from the maintained
+	 * TASKCOUNT column through the idx_user_taskcount index.
 	 * 
 	 * @return List of User entities that have the highest number of tasks.
 	 */
 
-	@Query("SELECT u FROM User u WHERE SIZE(u.tasks) = (SELECT MAX(SIZE(u2.tasks)) FROM User u2)")
+	@Query("SELECT u FROM User u WHERE u.taskCount = (SELECT MAX(u2.taskCount) FROM User u2)")
 	List<User> getUsersWithMostTasks();
 	
+	/**
+	 * Custom query to fetch the users with the most tasks, highest first.
+	 * 
+	 * @param pageable The number of users to return.
+	 * @return List of User entities ordered by task count.
+	 */
+	@Query("SELECT u FROM User u ORDER BY u.taskCount DESC, u.userId DESC")
+	List<User> getTopUsersByTaskCount(Pageable pageable);
+	
+	/**
+	 * Custom query to add to a user's task count.
+	 * 
+	 * @param userId The ID of the user whose count changes.
+	 * @param delta The number of tasks added (or removed, if negative).
+	 * @return The number of rows updated.
+	 */
+	@Modifying
+	@Query("update User u set u.taskCount = u.taskCount + :delta where u.userId = :userId")
+	int adjustTaskCount(@Param("userId")int userId, @Param("delta")int delta);
+	
+	/**
+	 * Custom query to decrement the task count of the user a task is assigned to.
+	 * Must run before the task is deleted.
+	 * 
+	 * @param taskId The ID of the task about to be deleted.
+	 * @return The number of rows updated.
+	 */
+	@Modifying
+	@Query("update User u set u.taskCount = u.taskCount - 1 where u.userId = (SELECT t.user.userId FROM Task t WHERE t.taskId = :taskId)")
+	int decrementTaskCountOfTaskOwner(@Param("taskId")int taskId);
+	
+	/**
+	 * Custom query to take a project's tasks off the task counts of their users.
+	 * Must run before the project (and, by cascade, its tasks) is deleted.
+	 * 
+	 * @param projectId The ID of the project about to be deleted.
+	 * @return The number of rows updated.
+	 */
+	@Modifying
+	@Query("update User u set u.taskCount = u.taskCount - (SELECT COUNT(t) FROM Task t WHERE t.user = u AND t.project.projectId = :projectId) "
+			+ "where u.userId IN (SELECT t.user.userId FROM Task t WHERE t.project.projectId = :projectId)")
+	int decrementTaskCountsForProject(@Param("projectId")int projectId);
+	
+	/**
+	 * Custom query to take the tasks in a user's projects off the task counts of the
+	 * other users who own them. Must run before the user (and, by cascade, their projects
+	 * and the tasks in them) is deleted.
+	 * 
+	 * @param userId The ID of the user about to be deleted.
+	 * @return The number of rows updated.
+	 */
+	@Modifying
+	@Query("update User u set u.taskCount = u.taskCount - (SELECT COUNT(t) FROM Task t WHERE t.user = u AND t.project.user.userId = :userId) "
+			+ "where u.userId <> :userId AND u.userId IN (SELECT t.user.userId FROM Task t WHERE t.project.user.userId = :userId)")
+	int decrementTaskCountsForProjectsOfUser(@Param("userId")int userId);
+	
+	/**
+	 * Custom query to recompute every task count that has drifted from the TASK table.
+	 * 
+	 * @return The number of users whose count was corrected.
+	 */
+	@Modifying
+	@Transactional
+	@Query("update User u set u.taskCount = (SELECT COUNT(t) FROM Task t WHERE t.user = u) "
+			+ "where u.taskCount <> (SELECT COUNT(t) FROM Task t WHERE t.user = u)")
+	int reconcileTaskCounts();
+	
 	/**
 	 * Custom query to fetch the user ID by their username.
 	 * 
@@ -78,6 +153,17 @@ public interface UserRepository extends JpaRepository<User,Integer>{
 	 */
 	User findByUserName(@Param("userName")String userName);
 	
+	/**
+	 * Custom query to replace a user's stored password, used to upgrade legacy passwords to hashes.
+	 * 
+	 * @param userId The ID of the user to be updated.
+	 * @param password The new password hash.
+	 */
+	@Modifying
+	@Transactional
+	@Query("update User u set u.password = :password where u.userId = :userId")
+	void updatePassword(@Param("userId")int userId, @Param("password")String password);
+	
 	
 	/**
 	 * Custom native query to fetch all user role IDs by username.
@@ -104,17 +190,12 @@ public interface UserRepository extends JpaRepository<User,Integer>{
 	
 	
 	/**
-	 * Custom native query to fetch all users along with their roles.
+	 * Custom query to fetch all users along with their roles, one row per user/role pair.
+	 * Rows are ordered by user so they can be grouped in a single pass.
 	 * 
-	 * @return List of Object arrays containing user details and their roles.
+	 * @return List of Object arrays containing userId, fullName, email and roleName.
 	 */
-	@Query(value = "SELECT u.userId, u.fullName, u.email, GROUP_CONCAT(r.roleName SEPARATOR ', ') as roles " +
-            "FROM User u " +
-            "JOIN UserRoles ur ON u.userId = ur.userId " +
-            "JOIN UserRole r ON ur.userRoleId = r.userRoleId " +
-            "GROUP BY u.userId, u.fullName, u.email " +
-            "ORDER BY u.userId", 
-    nativeQuery = true)
+	@Query("SELECT u.userId, u.fullName, u.email, r.roleName FROM User u JOIN u.userRoles r ORDER BY u.userId, r.roleName")
 	List<Object[]> getAllUserWithUserRole();
 	
 	
@@ -125,6 +206,31 @@ public interface UserRepository extends JpaRepository<User,Integer>{
 	 */
 	@Query("Select u.userId from User u")
 	int[] getAllUserIds();
+
+	/**
+	 * Custom query to fetch which of the given user IDs exist.
+	 * 
+	 * @param userIds The user IDs to look up.
+	 * @return List of the user IDs that exist.
+	 */
+	@Query("Select u.userId from User u WHERE u.userId IN :userIds")
+	List<Integer> getExistingUserIds(@Param("userIds") Collection<Integer> userIds);
 	
-	
+	/**
+	 * Custom query to fetch user IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of user IDs on the requested page.
+	 */
+	@Query("Select u.userId from User u")
+	List<Integer> getAnyUserId(Pageable pageable);
+
+	/**
+	 * Checks whether the USER table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one user exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyUserId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
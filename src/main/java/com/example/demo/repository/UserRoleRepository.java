@@ -9,6 +9,8 @@ import jakarta.transaction.Transactional;
 
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -88,4 +90,22 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Integer> {
 	 */
 	@Query("Select ur.userRoleId from UserRole ur")
 	int[] getAllRoleIds();
+
+	/**
+	 * Custom query to fetch user role IDs one page at a time.
+	 * 
+	 * @param pageable The page to fetch.
+	 * @return List of user role IDs on the requested page.
+	 */
+	@Query("Select ur.userRoleId from UserRole ur")
+	List<Integer> getAnyUserRoleId(Pageable pageable);
+
+	/**
+	 * Checks whether the USERROLE table holds at least one row without loading it.
+	 * 
+	 * @return true if at least one user role exists.
+	 */
+	default boolean existsAny() {
+		return !getAnyUserRoleId(PageRequest.of(0, 1)).isEmpty();
+	}
 }
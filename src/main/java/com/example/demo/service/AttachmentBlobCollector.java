@@ -0,0 +1,130 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.repository.AttachmentBlobRepository;
+
+/**
+ * Deletes attachment content that no attachment references any more. Content released
+ * by the attachment service is collected as soon as the releasing transaction commits;
+ * a nightly sweep reconciles the reference counts with the ATTACHMENT table and collects
+ * whatever was missed, including files left by uploads whose transaction rolled back.
+ * The sweep only touches blobs and files unchanged for the grace period, so it never
+ * races an upload in progress.
+ */
+@Component
+public class AttachmentBlobCollector {
+
+	private final AttachmentBlobRepository attachmentBlobRepository;
+
+	private final AttachmentContentStore attachmentContentStore;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Duration grace;
+
+	@Autowired
+	public AttachmentBlobCollector(AttachmentBlobRepository attachmentBlobRepository,
+			AttachmentContentStore attachmentContentStore, PlatformTransactionManager transactionManager,
+			@Value("${attachment.blob.gc-grace:1h}") Duration grace) {
+		this.attachmentBlobRepository = attachmentBlobRepository;
+		this.attachmentContentStore = attachmentContentStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.grace = grace;
+	}
+
+	/**
+	 * Collects blobs once the current transaction commits, or right away if there is none.
+	 * Failures are left to the nightly sweep.
+	 * @param contentHashes The SHA-256 hashes of blobs that just lost a reference.
+	 */
+	public void collectAfterCommit(Collection<String> contentHashes) {
+		if (contentHashes.isEmpty())
+			return;
+		Set<String> hashes = new LinkedHashSet<>(contentHashes);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					collectQuietly(hashes);
+				}
+			});
+		} else {
+			collectQuietly(hashes);
+		}
+	}
+
+	/**
+	 * Deletes a blob's row and file if nothing references it.
+	 * @param contentHash The SHA-256 of the content.
+	 * @return True if the blob was unreferenced and has been deleted.
+	 */
+	public boolean collect(String contentHash) {
+		return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+			if (!attachmentBlobRepository.deleteIfUnreferenced(contentHash))
+				return false;
+			try {
+				// Deleted while the row lock is held, so a concurrent upload of the same content waits for it
+				attachmentContentStore.delete(contentHash);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return true;
+		}));
+	}
+
+	/**
+	 * Reconciles reference counts and collects every blob and file unreferenced for at
+	 * least the grace period, then removes stale temporary upload files.
+	 * @return The number of blobs collected.
+	 */
+	@Scheduled(cron = "${attachment.blob.gc-cron:0 0 4 * * *}")
+	public int sweep() {
+		attachmentBlobRepository.reconcileRefCounts();
+		Instant cutoff = Instant.now().minus(grace);
+		Set<String> candidates = new LinkedHashSet<>(
+				attachmentBlobRepository.findUnreferenced(LocalDateTime.now().minus(grace)));
+		try {
+			// Files without a row, e.g. from an upload whose transaction rolled back
+			candidates.addAll(attachmentContentStore.listStoredBefore(cutoff));
+			int collected = 0;
+			for (String contentHash : candidates) {
+				if (collect(contentHash))
+					collected++;
+			}
+			attachmentContentStore.deleteStagedBefore(cutoff);
+			return collected;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void collectQuietly(Set<String> contentHashes) {
+		for (String contentHash : contentHashes) {
+			try {
+				collect(contentHash);
+			} catch (RuntimeException e) {
+				// Left for the nightly sweep; the caller's transaction has already committed
+			}
+		}
+	}
+
+}
@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores attachment content as files under a local directory, named by the SHA-256 of
+ * their bytes ({@code <root>/ab/cd/abcd...}), so identical content is stored once.
+ * Uploads are streamed to a temporary file in {@code <root>/incoming} while being
+ * hashed, then renamed into place, so content is never held in memory and a file under
+ * its final name is always complete. Which content is still referenced is tracked by
+ * the ATTACHMENTBLOB table, not here.
+ */
+@Component
+public class AttachmentContentStore {
+
+	private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+	private final Path root;
+
+	private final Path incoming;
+
+	public AttachmentContentStore(@Value("${attachment.storage.dir:data/attachments}") Path root) throws IOException {
+		this.root = root.toAbsolutePath().normalize();
+		this.incoming = this.root.resolve("incoming");
+		Files.createDirectories(incoming);
+	}
+
+	/**
+	 * Streams content to a temporary file in the store, hashing it on the way.
+	 * @param content The content; read to the end but not closed.
+	 * @return The staged content; {@link #publish(StagedContent)} it, and close it to
+	 *         remove the temporary file if it was not published.
+	 * @throws IOException If the content cannot be read or written.
+	 */
+	public StagedContent stage(InputStream content) throws IOException {
+		Path temp = Files.createTempFile(incoming, "upload", ".tmp");
+		try {
+			MessageDigest digest = sha256();
+			long length;
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				length = new DigestInputStream(content, digest).transferTo(out);
+			}
+			return new StagedContent(temp, HexFormat.of().formatHex(digest.digest()), length);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+	}
+
+	/**
+	 * Moves staged content to its final name, unless identical content is already stored.
+	 * @param staged The staged content.
+	 * @throws IOException If the file cannot be moved.
+	 */
+	public void publish(StagedContent staged) throws IOException {
+		Path target = pathOf(staged.getHash());
+		if (Files.exists(target)) {
+			// Marks the file as in use, so a sweep for unreferenced files leaves it alone
+			Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+		} else {
+			Files.createDirectories(target.getParent());
+			// Identical content renamed concurrently is harmless: the bytes are the same
+			Files.move(staged.temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Removes stored content and its thumbnail.
+	 * @param hash The SHA-256 of the content.
+	 * @return True if the content's file was removed.
+	 * @throws IOException If a file cannot be removed.
+	 */
+	public boolean delete(String hash) throws IOException {
+		Files.deleteIfExists(thumbnailPathOf(hash));
+		return Files.deleteIfExists(pathOf(hash));
+	}
+
+	/**
+	 * Lists the stored content last modified before a given time.
+	 * @param before The cut-off time.
+	 * @return The SHA-256 hashes of the stored content.
+	 * @throws IOException If the store cannot be read.
+	 */
+	public List<String> listStoredBefore(Instant before) throws IOException {
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(file -> !file.startsWith(incoming) && HASH.matcher(file.getFileName().toString()).matches())
+					.filter(file -> modifiedBefore(file, before))
+					.map(file -> file.getFileName().toString())
+					.toList();
+		}
+	}
+
+	/**
+	 * Removes temporary files left behind by uploads that never finished, e.g. because
+	 * the application stopped mid-upload.
+	 * @param before Only files last modified before this time are removed.
+	 * @return The number of files removed.
+	 * @throws IOException If the directory cannot be read.
+	 */
+	public int deleteStagedBefore(Instant before) throws IOException {
+		int deleted = 0;
+		try (Stream<Path> files = Files.list(incoming)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				if (modifiedBefore(file, before) && Files.deleteIfExists(file))
+					deleted++;
+			}
+		}
+		return deleted;
+	}
+
+	/**
+	 * Resolves the file holding some content.
+	 * @param hash The SHA-256 of the content, as returned by {@link #stage(InputStream)}.
+	 * @return The path of the file; it may not exist if the content was never stored.
+	 */
+	public Path pathOf(String hash) {
+		if (hash == null || !HASH.matcher(hash).matches())
+			throw new IllegalArgumentException("Not a SHA-256 hash: " + hash);
+		return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+	}
+
+	/**
+	 * Resolves the file holding the PNG thumbnail of some content, next to the content.
+	 * @param hash The SHA-256 of the content.
+	 * @return The path of the thumbnail; it may not exist.
+	 */
+	public Path thumbnailPathOf(String hash) {
+		Path path = pathOf(hash);
+		return path.resolveSibling(hash + ".thumb.png");
+	}
+
+	/**
+	 * Checks whether some content is in the store.
+	 * @param hash The SHA-256 of the content.
+	 * @return True if the content's file exists.
+	 */
+	public boolean contains(String hash) {
+		return Files.isRegularFile(pathOf(hash));
+	}
+
+	private static boolean modifiedBefore(Path file, Instant before) {
+		try {
+			return Files.getLastModifiedTime(file).toInstant().isBefore(before);
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Content written to a temporary file by {@link AttachmentContentStore#stage(InputStream)}.
+	 */
+	public static final class StagedContent implements AutoCloseable {
+
+		private final Path temp;
+
+		private final String hash;
+
+		private final long length;
+
+		StagedContent(Path temp, String hash, long length) {
+			this.temp = temp;
+			this.hash = hash;
+			this.length = length;
+		}
+
+		public String getHash() {
+			return hash;
+		}
+
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Removes the temporary file if it was not published.
+		 */
+		@Override
+		public void close() throws IOException {
+			Files.deleteIfExists(temp);
+		}
+
+	}
+
+}
@@ -1,7 +1,11 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
+import com.example.demo.dto.AttachmentContentDto;
 import com.example.demo.dto.AttachmentTaskDto;
 import com.example.demo.entity.Attachment;
 import com.example.demo.exception.AttachmentAlreadyExistsException;
@@ -20,5 +24,12 @@ public interface AttachmentService {
     List<Attachment> getAttachmentByTaskId(int taskId) throws AttachmentListEmptyException;
     
     int[] getAllAttachmentIds();
+
+    int deleteAttachmentsByTaskId(int taskId);
+
+    Attachment storeContent(int attachmentId, String contentType, InputStream content) throws NoAttachmentFoundException, IOException;
+    Attachment linkContent(int attachmentId, String contentHash, String contentType) throws NoAttachmentFoundException;
+    Path getThumbnail(String contentHash) throws NoAttachmentFoundException;
+    AttachmentContentDto getContent(int attachmentId) throws NoAttachmentFoundException;
     
 }
\ No newline at end of file
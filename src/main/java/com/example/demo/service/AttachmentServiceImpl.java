@@ -1,10 +1,19 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.demo.dto.AttachmentContentDto;
 import com.example.demo.dto.AttachmentTaskDto;
 import com.example.demo.entity.Attachment;
 import com.example.demo.entity.Task;
@@ -13,12 +22,14 @@ import com.example.demo.exception.AttachmentDoesNotExistsException;
 import com.example.demo.exception.AttachmentListEmptyException;
 import com.example.demo.exception.NoAttachmentFoundException;
 import com.example.demo.exception.TaskDoesntExistException;
+import com.example.demo.repository.AttachmentBlobRepository;
 import com.example.demo.repository.AttachmentRepository;
 import com.example.demo.repository.TaskRepository;
 
 import jakarta.transaction.Transactional;
 
 @Service
+@Transactional
 public class AttachmentServiceImpl implements AttachmentService{
 
 	@Autowired
@@ -26,6 +37,24 @@ public class AttachmentServiceImpl implements AttachmentService{
 	
 	@Autowired
 	TaskRepository taskRepository;
+
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	AttachmentContentStore attachmentContentStore;
+
+	@Autowired
+	AttachmentBlobRepository attachmentBlobRepository;
+
+	@Autowired
+	AttachmentBlobCollector attachmentBlobCollector;
+
+	@Autowired
+	ThumbnailJobRunner thumbnailJobRunner;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
 	
 	
 	/**
@@ -50,7 +79,9 @@ public class AttachmentServiceImpl implements AttachmentService{
 		            .orElseThrow(() -> new TaskDoesntExistException("Task doesn't exist"));
 			attachment.setTask(task);
 			
-			return attachmentRepository.save(attachment);
+			Attachment savedAttachment = attachmentRepository.save(attachment);
+			tableExistenceCache.markInserted(Attachment.class);
+			return savedAttachment;
 		}
 	}
 
@@ -72,12 +103,8 @@ public class AttachmentServiceImpl implements AttachmentService{
      */
     @Override
     public Attachment getAttachmentById(int attachmentId) throws NoAttachmentFoundException{
-        if(attachmentRepository.findById(attachmentId).isEmpty())
-        {
-            throw new NoAttachmentFoundException("Attachment doesn't exist");
-        }else 
-        return attachmentRepository.getAttachmentById(attachmentId);
-            
+        return attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new NoAttachmentFoundException("Attachment doesn't exist"));
     }
     
     /**
@@ -95,12 +122,18 @@ public class AttachmentServiceImpl implements AttachmentService{
 		attachment.setFileName(attachmentTaskDto.getFileName());
 		attachment.setFilePath(attachmentTaskDto.getFilePath());
 		
-		if(!attachmentRepository.findById(attachment.getAttachmentId()).isPresent())	{
+		Attachment existing = attachmentRepository.findById(attachment.getAttachmentId()).orElse(null);
+		if(existing == null)	{
 			throw new AttachmentDoesNotExistsException("Attachment doesn't exist");
 		}else {
 			Task task = taskRepository.findById(attachmentTaskDto.getTaskId())
 		            .orElseThrow(() -> new TaskDoesntExistException("Task doesn't exist"));
 			attachment.setTask(task);
+			// The metadata update leaves any uploaded content in place
+			attachment.setContentHash(existing.getContentHash());
+			attachment.setContentLength(existing.getContentLength());
+			attachment.setContentType(existing.getContentType());
+			attachment.setContentUpdatedAt(existing.getContentUpdatedAt());
 			
 			return attachmentRepository.save(attachment);
 		}
@@ -115,16 +148,13 @@ public class AttachmentServiceImpl implements AttachmentService{
     @Override
     @Transactional
     public Attachment deleteAttachment(int attachmentId) throws AttachmentDoesNotExistsException{
-        if(attachmentRepository.findById(attachmentId).isEmpty())
-        {
-            throw new AttachmentDoesNotExistsException("Attachment doesn't exist");
-        }
-        else
-        {
-            Attachment attachment=attachmentRepository.findById(attachmentId).get();
+        Attachment attachment=attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new AttachmentDoesNotExistsException("Attachment doesn't exist"));
         attachmentRepository.deleteById(attachmentId);
+        tableExistenceCache.invalidate();
+        if (attachment.getContentHash() != null)
+        	releaseContent(List.of(attachment.getContentHash()));
         return attachment;
-        }
     }
     
     /**
@@ -135,7 +165,7 @@ public class AttachmentServiceImpl implements AttachmentService{
      */
     @Override
     public List<Attachment> getAttachmentByTaskId(int taskId) throws AttachmentListEmptyException{
-    	 if(attachmentRepository.findAll().isEmpty())
+    	 if(tableExistenceCache.isEmpty(Attachment.class, attachmentRepository::existsAny))
          {
              throw new AttachmentListEmptyException("Attachment List is Empty");
          }else
@@ -152,4 +182,134 @@ public class AttachmentServiceImpl implements AttachmentService{
 		return attachmentRepository.getAllAttachmentIds();
 	}
 	
+
+    /**
+     * Deletes all attachments of a task, releasing their content.
+     * @param taskId The ID of the task.
+     * @return The number of attachments deleted.
+     */
+    @Override
+    public int deleteAttachmentsByTaskId(int taskId) {
+    	List<String> contentHashes = attachmentBlobRepository.findContentHashesByTaskId(taskId);
+    	int deleted = attachmentRepository.deleteByTaskId(taskId);
+    	tableExistenceCache.invalidate();
+    	releaseContent(contentHashes);
+    	return deleted;
+    }
+
+    /**
+     * Streams an attachment's content into the content store and records it on the attachment,
+     * replacing any previous content. Content that is already stored is kept once and shared.
+     * The content is staged before any transaction starts, so a slow or large upload doesn't
+     * hold a pooled connection; only the lookup, publish and save run in a transaction.
+     * @param attachmentId The ID of the attachment.
+     * @param contentType The media type of the content, or null if unknown.
+     * @param content The content; read to the end but not closed.
+     * @return The updated Attachment entity.
+     * @throws NoAttachmentFoundException If no attachment with the given ID is found.
+     * @throws IOException If the content cannot be read or stored.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public Attachment storeContent(int attachmentId, String contentType, InputStream content)
+    		throws NoAttachmentFoundException, IOException {
+    	try (AttachmentContentStore.StagedContent staged = attachmentContentStore.stage(content)) {
+    		Attachment stored = new TransactionTemplate(transactionManager).execute(tx -> {
+    			Attachment attachment = attachmentRepository.findById(attachmentId).orElse(null);
+    			if (attachment == null)
+    				return null;
+    			// The reference is counted before the file is published, so the blob can't be collected in between
+    			attachmentBlobRepository.acquire(staged.getHash(), staged.getLength());
+    			try {
+    				attachmentContentStore.publish(staged);
+    			} catch (IOException e) {
+    				throw new UncheckedIOException(e);
+    			}
+    			return replaceContent(attachment, staged.getHash(), staged.getLength(), contentType);
+    		});
+    		if (stored == null)
+    			throw new NoAttachmentFoundException("Attachment doesn't exist");
+    		return stored;
+    	} catch (UncheckedIOException e) {
+    		throw e.getCause();
+    	}
+    }
+
+    /**
+     * Points an attachment at content that is already stored, so a client holding a file
+     * whose SHA-256 is known to the server doesn't have to upload it again.
+     * @param attachmentId The ID of the attachment.
+     * @param contentHash The SHA-256 of the content, in lower-case hex.
+     * @param contentType The media type of the content, or null if unknown.
+     * @return The updated Attachment entity.
+     * @throws NoAttachmentFoundException If the attachment does not exist, or the content is not stored.
+     */
+    @Override
+    public Attachment linkContent(int attachmentId, String contentHash, String contentType) throws NoAttachmentFoundException {
+    	Attachment attachment = attachmentRepository.findById(attachmentId)
+    			.orElseThrow(() -> new NoAttachmentFoundException("Attachment doesn't exist"));
+    	Long contentLength = contentHash.matches("[0-9a-f]{64}") ? attachmentBlobRepository.acquireExisting(contentHash) : null;
+    	if (contentLength == null || !attachmentContentStore.contains(contentHash)) {
+    		throw new NoAttachmentFoundException("Content doesn't exist");
+    	} else {
+    		return replaceContent(attachment, contentHash, contentLength, contentType);
+    	}
+    }
+
+    private Attachment replaceContent(Attachment attachment, String contentHash, long contentLength, String contentType) {
+    	String previousHash = attachment.getContentHash();
+    	attachment.setContentHash(contentHash);
+    	attachment.setContentLength(contentLength);
+    	attachment.setContentType(contentType);
+    	attachment.setContentUpdatedAt(LocalDateTime.now());
+    	Attachment savedAttachment = attachmentRepository.save(attachment);
+    	if (contentType != null && contentType.startsWith("image/"))
+    		thumbnailJobRunner.enqueue(contentHash);
+    	if (previousHash != null)
+    		releaseContent(List.of(previousHash));
+    	return savedAttachment;
+    }
+
+    private void releaseContent(List<String> contentHashes) {
+    	attachmentBlobRepository.release(contentHashes);
+    	attachmentBlobCollector.collectAfterCommit(contentHashes);
+    }
+
+    /**
+     * Locates the thumbnail of an image blob.
+     * @param contentHash The SHA-256 of the blob.
+     * @return The PNG thumbnail file.
+     * @throws NoAttachmentFoundException If the blob has no thumbnail (yet).
+     */
+    @Override
+    public Path getThumbnail(String contentHash) throws NoAttachmentFoundException {
+    	Path path = contentHash.matches("[0-9a-f]{64}") ? attachmentContentStore.thumbnailPathOf(contentHash) : null;
+    	if (path == null || !Files.isRegularFile(path)) {
+    		throw new NoAttachmentFoundException("Thumbnail doesn't exist");
+    	} else {
+    		return path;
+    	}
+    }
+
+    /**
+     * Locates an attachment's content for download.
+     * @param attachmentId The ID of the attachment.
+     * @return The file holding the content, with its name, type, hash, length and upload time.
+     * @throws NoAttachmentFoundException If the attachment does not exist or has no content.
+     */
+    @Override
+    public AttachmentContentDto getContent(int attachmentId) throws NoAttachmentFoundException {
+    	Attachment attachment = attachmentRepository.findById(attachmentId)
+    			.orElseThrow(() -> new NoAttachmentFoundException("Attachment doesn't exist"));
+    	if (attachment.getContentHash() == null) {
+    		throw new NoAttachmentFoundException("Attachment has no content");
+    	} else {
+    		Path path = attachmentContentStore.pathOf(attachment.getContentHash());
+    		if (!Files.isRegularFile(path))
+    			throw new NoAttachmentFoundException("Attachment content doesn't exist");
+    		return new AttachmentContentDto(attachment.getFileName(), attachment.getContentType(),
+    				attachment.getContentHash(), attachment.getContentLength(), attachment.getContentUpdatedAt(), path);
+    	}
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import com.example.demo.dto.CacheRegionStatisticsDto;
+
+public interface CacheStatisticsService {
+
+	List<CacheRegionStatisticsDto> getSecondLevelCacheStatistics();
+}
@@ -0,0 +1,45 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.CacheRegionStatisticsDto;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnit;
+
+@Service
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+	@PersistenceUnit
+	EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Reports hit, miss and put counts for every second-level cache region, so the
+	 * hit ratio of the Category and UserRole caches can be checked at runtime.
+	 * Counts stay at zero unless hibernate.generate_statistics is enabled.
+	 * @return One entry per cache region, sorted by region name.
+	 */
+	@Override
+	public List<CacheRegionStatisticsDto> getSecondLevelCacheStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(regionNames);
+		List<CacheRegionStatisticsDto> result = new ArrayList<>();
+		for (String regionName : regionNames) {
+			CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+			if (region == null)
+				continue;
+			result.add(new CacheRegionStatisticsDto(regionName, region.getHitCount(), region.getMissCount(),
+					region.getPutCount(), region.getElementCountInMemory()));
+		}
+		return result;
+	}
+
+}
@@ -24,6 +24,9 @@ public class CategoryServiceImpl implements CategoryService{
 	
 	@Autowired
 	TaskRepository taskRepository;
+
+	@Autowired
+	TableExistenceCache tableExistenceCache;
 		
 	/**
      * Retrieves all categories.
@@ -33,13 +36,14 @@ public class CategoryServiceImpl implements CategoryService{
 	@Override
 	public List<Category> getALL() throws CategoryListIsEmptyException 
 	{
-		if(categoryRepository.findAll().isEmpty())
+		List<Category> categories = categoryRepository.findAll();
+		if(categories.isEmpty())
 		{
 			throw new CategoryListIsEmptyException("Category list is empty"); 
 		}
 		else
 		{
-			return categoryRepository.findAll();
+			return categories;
 		}
 		
 	}
@@ -52,11 +56,8 @@ public class CategoryServiceImpl implements CategoryService{
      */
 	public Category getCategoryByCategoryId(int categoryId)throws CategoryDoesntExistException 
 	{
-		if(categoryRepository.findById(categoryId).isEmpty())
-		{
-			throw new CategoryDoesntExistException("Category doesn't exist");
-		}
-		return categoryRepository.getCategoryByCategoryId(categoryId);
+		return categoryRepository.findById(categoryId)
+				.orElseThrow(() -> new CategoryDoesntExistException("Category doesn't exist"));
 	}
 	
 	/**
@@ -73,8 +74,9 @@ public class CategoryServiceImpl implements CategoryService{
 		}
 		else
 		{
-			return categoryRepository.save(category);
-
+			Category savedCategory = categoryRepository.save(category);
+			tableExistenceCache.markInserted(Category.class);
+			return savedCategory;
 		}
 	}
 	
@@ -105,16 +107,11 @@ public class CategoryServiceImpl implements CategoryService{
      */
 	public Category deleteCategory(int categoryId) throws CategoryDoesntExistException
 	{
-		if(categoryRepository.findById(categoryId).isEmpty())
-		{
-			throw new CategoryDoesntExistException("Category doesn't exist");
-		}
-		else
-		{
-		Category category=categoryRepository.findById(categoryId).get();
+		Category category=categoryRepository.findById(categoryId)
+				.orElseThrow(() -> new CategoryDoesntExistException("Category doesn't exist"));
 		categoryRepository.deleteById(categoryId);
+		tableExistenceCache.invalidate();
 		return category;
-		}
 	}
 	
 	/**
@@ -126,7 +123,7 @@ public class CategoryServiceImpl implements CategoryService{
      */
 	public List<Object[]> getAllCategoryForTask(int taskId) throws TaskDoesntExistException,CategoryListIsEmptyException
 	{
-		if(categoryRepository.findAll().isEmpty())
+		if(tableExistenceCache.isEmpty(Category.class, categoryRepository::existsAny))
 			throw new CategoryListIsEmptyException("Category list is empty");
 		else if(taskRepository.findById(taskId).isEmpty())
 			throw new TaskDoesntExistException("Task doesn't exist");
@@ -13,6 +13,7 @@ import com.example.demo.exception.CommentListIsEmptyException;
 import com.example.demo.exception.TaskDoesntExistException;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.repository.CommentRepository;
+import com.example.demo.repository.SearchSourceRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.UserRepository;
 
@@ -33,6 +34,12 @@ public class CommentServiceImpl implements CommentService {
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
 	/**
      * Creates a new comment.
      * @param commentTaskUserDto Data transfer object containing comment details, including the associated task and user IDs.
@@ -61,7 +68,10 @@ public class CommentServiceImpl implements CommentService {
 					.orElseThrow(()->new UserDoesNotExistException("User doesn't exist"));
 			comment.setTask(task);
 			comment.setUser(user);
-			return commentRepository.save(comment);
+			Comment savedComment = commentRepository.save(comment);
+			tableExistenceCache.markInserted(Comment.class);
+			searchIndexer.recordChange(SearchSourceRepository.COMMENT, comment.getCommentId());
+			return savedComment;
 		}
 	}
 
@@ -72,11 +82,12 @@ public class CommentServiceImpl implements CommentService {
      */
 	@Override
 	public List<Comment> getAllComments() throws CommentListIsEmptyException{
-		if(commentRepository.findAll().isEmpty()) {
+		List<Comment> comments = commentRepository.findAll();
+		if(comments.isEmpty()) {
 			throw new CommentListIsEmptyException("Comment list is empty");
 		}
 		else {
-			return commentRepository.findAll();
+			return comments;
 		}
 	}
 
@@ -88,14 +99,8 @@ public class CommentServiceImpl implements CommentService {
      */
 	@Override
 	public Comment getCommentById(int commentId) throws CommentDoesntExistException{
-
-		if(commentRepository.findById(commentId).isEmpty()) {
-			throw new CommentDoesntExistException("Comment doesn't exist");
-		}
-
-		else {
-			return commentRepository.findById(commentId).orElse(null);
-		}
+		return commentRepository.findById(commentId)
+				.orElseThrow(() -> new CommentDoesntExistException("Comment doesn't exist"));
 	}
 	
 	/**
@@ -105,12 +110,13 @@ public class CommentServiceImpl implements CommentService {
      * @throws CommentListIsEmptyException If no comments are found for the given task ID.
      */
 	public List<Comment>  getCommentByTaskId(int taskId) throws CommentListIsEmptyException{
-		if(commentRepository.findById(taskId).isEmpty()) {
+		List<Comment> comments = commentRepository.getCommentByTaskId(taskId);
+		if(comments.isEmpty()) {
 			throw new CommentListIsEmptyException("Comment list is empty");
 		}
 
 		else {
-			return commentRepository.getCommentByTaskId(taskId);
+			return comments;
 		}
 	}
 	
@@ -142,7 +148,9 @@ public class CommentServiceImpl implements CommentService {
 					.orElseThrow(()->new UserDoesNotExistException("User doesn't exist"));
 			comment.setTask(task);
 			comment.setUser(user);
-			return commentRepository.save(comment);
+			Comment savedComment = commentRepository.save(comment);
+			searchIndexer.recordChange(SearchSourceRepository.COMMENT, comment.getCommentId());
+			return savedComment;
 		}
 	}
 
@@ -159,6 +167,8 @@ public class CommentServiceImpl implements CommentService {
 		}
 		else {
 			commentRepository.deleteById(commentId);
+			tableExistenceCache.invalidate();
+			searchIndexer.recordChange(SearchSourceRepository.COMMENT, commentId);
 		}
 	}
 	
@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches login credentials (user ID and stored password hash) by username so repeated
+ * logins don't hit the USER table. Entries expire after a fixed time and are evicted
+ * once a write that updates or deletes a user commits, so a login in between cannot
+ * re-cache the old row. Unknown usernames are not cached.
+ * Misses are loaded outside the cache rather than through Caffeine's compute, whose
+ * lock is a monitor: a JDBC call made while holding it would pin a virtual thread.
+ * Two concurrent misses for the same username may both load, which is harmless. A load
+ * that an eviction overtakes is returned but not cached: each eviction bumps a
+ * generation counter for its username's stripe, and a loaded credential is only put if
+ * the counter is unchanged since the load began.
+ */
+@Component
+public class CredentialCache {
+
+	static final int GENERATION_STRIPES = 1024;
+
+	private final Cache<String, Credential> credentials;
+
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public CredentialCache(@Value("${security.credential-cache.max-size:10000}") long maxSize,
+			@Value("${security.credential-cache.ttl:10m}") Duration ttl) {
+		this.credentials = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+	}
+
+	/**
+	 * Returns the cached credential for a username, loading it on a miss.
+	 * @param userName The username to look up.
+	 * @param loader Loads the credential from the database; may return null if the user doesn't exist.
+	 * @return The credential, or null if the user doesn't exist.
+	 */
+	public Credential get(String userName, Function<String, Credential> loader) {
+		Credential credential = credentials.getIfPresent(userName);
+		if (credential == null) {
+			int stripe = stripe(userName);
+			long generation = generations.get(stripe);
+			Credential loaded = loader.apply(userName);
+			// Checked under the entry's lock, which an eviction's invalidate also takes
+			if (loaded != null)
+				credentials.asMap().compute(userName,
+						(name, cached) -> generations.get(stripe) == generation ? loaded : cached);
+			credential = loaded;
+		}
+		return credential;
+	}
+
+	/**
+	 * Replaces the cached credential for a username.
+	 * @param userName The username.
+	 * @param credential The new credential.
+	 */
+	public void put(String userName, Credential credential) {
+		credentials.put(userName, credential);
+	}
+
+	/**
+	 * Removes the cached credential for a username once the current transaction commits,
+	 * or right away if there is none.
+	 * @param userName The username to evict; ignored if null.
+	 */
+	public void evict(String userName) {
+		if (userName == null)
+			return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(userName);
+				}
+			});
+		} else {
+			invalidate(userName);
+		}
+	}
+
+	private void invalidate(String userName) {
+		generations.incrementAndGet(stripe(userName));
+		credentials.invalidate(userName);
+	}
+
+	private static int stripe(String userName) {
+		return Math.floorMod(userName.hashCode(), GENERATION_STRIPES);
+	}
+
+	public static class Credential {
+
+		private final int userId;
+		private final String password;
+
+		public Credential(int userId, String password) {
+			this.userId = userId;
+			this.password = password;
+		}
+
+		public int getUserId() {
+			return userId;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+	}
+
+}
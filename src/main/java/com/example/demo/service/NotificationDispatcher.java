@@ -0,0 +1,221 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.NotificationUserDto;
+import com.example.demo.entity.Notification;
+import com.example.demo.exception.NotificationQueueFullException;
+import com.example.demo.repository.NotificationBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Writes fanned-out notifications in the background. Notifications are queued in a
+ * bounded in-memory queue and a single drainer thread inserts whatever has piled up,
+ * up to one batch at a time, in one transaction with a JDBC batch. If a batch fails
+ * (typically because a user was deleted meanwhile) its rows are retried one by one and
+ * the ones that still fail are dropped and counted.
+ * Queued notifications are lost if the process dies; a graceful shutdown drains them.
+ *
+ * Metrics: notification.queue.depth, notification.queue.rejected, notification.drain
+ * (time per batch), notification.drain.batch.size, notification.delivery.latency
+ * (enqueue to commit) and notification.delivery.failed.
+ */
+@Component
+public class NotificationDispatcher {
+
+	private final BlockingQueue<QueuedNotification> queue;
+
+	private final int batchSize;
+
+	private final NotificationBatchRepository notificationBatchRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final TableExistenceCache tableExistenceCache;
+
+	private final UnreadNotificationCountCache unreadNotificationCountCache;
+
+	private final Counter rejected;
+
+	private final Counter failed;
+
+	private final Timer drainTimer;
+
+	private final DistributionSummary batchSizes;
+
+	private final Timer deliveryLatency;
+
+	private Thread drainer;
+
+	private volatile boolean running;
+
+	@Autowired
+	public NotificationDispatcher(NotificationBatchRepository notificationBatchRepository,
+			PlatformTransactionManager transactionManager, TableExistenceCache tableExistenceCache,
+			UnreadNotificationCountCache unreadNotificationCountCache, MeterRegistry meterRegistry,
+			@Value("${notification.fanout.queue-capacity:10000}") int queueCapacity,
+			@Value("${notification.fanout.batch-size:500}") int batchSize) {
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.notificationBatchRepository = notificationBatchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.tableExistenceCache = tableExistenceCache;
+		this.unreadNotificationCountCache = unreadNotificationCountCache;
+		Gauge.builder("notification.queue.depth", queue, Collection::size).register(meterRegistry);
+		this.rejected = meterRegistry.counter("notification.queue.rejected");
+		this.failed = meterRegistry.counter("notification.delivery.failed");
+		this.drainTimer = Timer.builder("notification.drain").publishPercentileHistogram().register(meterRegistry);
+		this.batchSizes = DistributionSummary.builder("notification.drain.batch.size").register(meterRegistry);
+		this.deliveryLatency = Timer.builder("notification.delivery.latency").publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		drainer = new Thread(this::drainContinuously, "notification-drainer");
+		drainer.setDaemon(true);
+		drainer.start();
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		if (drainer != null) {
+			drainer.interrupt();
+			drainer.join(TimeUnit.SECONDS.toMillis(10));
+		}
+		drainPending();
+	}
+
+	/**
+	 * Queues notifications for insertion. Either all of them are queued or none are.
+	 * @param notifications The notifications to queue; their notificationId and createdAt are ignored.
+	 * @throws NotificationQueueFullException If the queue doesn't have room for all of them.
+	 */
+	public void enqueueAll(List<NotificationUserDto> notifications) throws NotificationQueueFullException {
+		long enqueuedAt = System.nanoTime();
+		LocalDateTime createdAt = LocalDateTime.now();
+		// Only producers fill the queue, so checking and adding under one lock can't overflow
+		synchronized (queue) {
+			if (queue.remainingCapacity() < notifications.size()) {
+				rejected.increment(notifications.size());
+				throw new NotificationQueueFullException("Notification queue is full");
+			}
+			for (NotificationUserDto notification : notifications)
+				queue.add(new QueuedNotification(
+						new NotificationUserDto(0, notification.getText(), createdAt, notification.getUserId()),
+						enqueuedAt));
+		}
+	}
+
+	/**
+	 * @return The number of notifications waiting to be inserted.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Inserts everything currently queued, one batch at a time, on the calling thread.
+	 * @return The number of notifications taken off the queue.
+	 */
+	public int drainPending() {
+		int drained = 0;
+		List<QueuedNotification> batch = new ArrayList<>(batchSize);
+		while (queue.drainTo(batch, batchSize) > 0) {
+			drained += batch.size();
+			write(batch);
+			batch.clear();
+		}
+		return drained;
+	}
+
+	private void drainContinuously() {
+		List<QueuedNotification> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				batch.add(queue.take());
+				// Waits for a fan-out that is still being queued, so it goes out as one batch
+				synchronized (queue) {
+					queue.drainTo(batch, batchSize - 1);
+				}
+				write(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				failed.increment(batch.size());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(List<QueuedNotification> batch) {
+		long start = System.nanoTime();
+		List<QueuedNotification> delivered = new ArrayList<>(batch);
+		try {
+			insert(batch);
+		} catch (DataAccessException e) {
+			delivered.clear();
+			for (QueuedNotification notification : batch) {
+				try {
+					insert(List.of(notification));
+					delivered.add(notification);
+				} catch (DataAccessException rowFailure) {
+					failed.increment();
+				}
+			}
+		}
+		long end = System.nanoTime();
+		drainTimer.record(end - start, TimeUnit.NANOSECONDS);
+		batchSizes.record(batch.size());
+		for (QueuedNotification notification : delivered)
+			deliveryLatency.record(end - notification.enqueuedAt, TimeUnit.NANOSECONDS);
+		if (!delivered.isEmpty())
+			tableExistenceCache.markInserted(Notification.class);
+		for (QueuedNotification notification : delivered)
+			unreadNotificationCountCache.evict(notification.notification.getUserId());
+	}
+
+	private void insert(List<QueuedNotification> notifications) {
+		List<NotificationUserDto> rows = new ArrayList<>(notifications.size());
+		for (QueuedNotification notification : notifications)
+			rows.add(notification.notification);
+		transactionTemplate.executeWithoutResult(status -> notificationBatchRepository.batchInsert(rows, batchSize));
+	}
+
+	private static final class QueuedNotification {
+
+		final NotificationUserDto notification;
+		final long enqueuedAt;
+
+		QueuedNotification(NotificationUserDto notification, long enqueuedAt) {
+			this.notification = notification;
+			this.enqueuedAt = enqueuedAt;
+		}
+
+	}
+
+}
@@ -2,11 +2,15 @@ package com.example.demo.service;
 
 import java.util.List;
 
+import com.example.demo.dto.NotificationInboxPageDto;
 import com.example.demo.dto.NotificationUserDto;
 import com.example.demo.entity.Notification;
+import com.example.demo.exception.InvalidCursorException;
 import com.example.demo.exception.NotificationAlreadyExistException;
 import com.example.demo.exception.NotificationDoesntExistException;
 import com.example.demo.exception.NotificationListIsEmptyException;
+import com.example.demo.exception.NotificationQueueFullException;
+import com.example.demo.exception.ProjectDoesNotExistException;
 import com.example.demo.exception.UserDoesNotExistException;
 
 public interface NotificationService {
@@ -17,4 +21,9 @@ public interface NotificationService {
     Notification updateNotification(int notificationId, NotificationUserDto notificationUserDto) throws NotificationDoesntExistException, UserDoesNotExistException;
     void deleteNotification(int notificationId) throws NotificationDoesntExistException;    
     List<Notification> getNotificationByuserId(int userId) throws UserDoesNotExistException;
+    int fanOutToProject(int projectId, String text) throws ProjectDoesNotExistException, NotificationQueueFullException;
+    NotificationInboxPageDto getInbox(int userId, String cursor, int limit) throws UserDoesNotExistException, InvalidCursorException;
+    long getUnreadCount(int userId) throws UserDoesNotExistException;
+    int markAsRead(int userId, List<Integer> notificationIds) throws UserDoesNotExistException;
+    int markAllAsRead(int userId) throws UserDoesNotExistException;
 }
@@ -1,18 +1,29 @@
 package com.example.demo.service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.dto.NotificationInboxPageDto;
 import com.example.demo.dto.NotificationUserDto;
 import com.example.demo.entity.Notification;
 import com.example.demo.entity.User;
+import com.example.demo.exception.InvalidCursorException;
 import com.example.demo.exception.NotificationAlreadyExistException;
 import com.example.demo.exception.NotificationDoesntExistException;
 import com.example.demo.exception.NotificationListIsEmptyException;
+import com.example.demo.exception.NotificationQueueFullException;
+import com.example.demo.exception.ProjectDoesNotExistException;
 import com.example.demo.exception.UserDoesNotExistException;
+import com.example.demo.repository.NotificationBatchRepository;
 import com.example.demo.repository.NotificationRepository;
+import com.example.demo.repository.ProjectRepository;
 import com.example.demo.repository.UserRepository;
 
 import jakarta.transaction.Transactional;
@@ -21,12 +32,32 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+	static final int MAX_INBOX_PAGE_SIZE = 100;
+
+	/** Position before the newest possible notification, used to start an inbox section. */
+	private static final LocalDateTime INBOX_START = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
 	@Autowired
 	NotificationRepository notificationRepository;
 
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	ProjectRepository projectRepository;
+
+	@Autowired
+	NotificationBatchRepository notificationBatchRepository;
+
+	@Autowired
+	NotificationDispatcher notificationDispatcher;
+
+	@Autowired
+	UnreadNotificationCountCache unreadNotificationCountCache;
+
 	/**
      * Creates a new notification.
      * @param notificationUserDto Data transfer object containing notification details and user ID.
@@ -49,7 +80,10 @@ public class NotificationServiceImpl implements NotificationService {
 			User user = userRepository.findById(notificationUserDto.getUserId())
 					.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
 			notification.setUser(user);
-			return notificationRepository.save(notification);
+			Notification savedNotification = notificationRepository.save(notification);
+			tableExistenceCache.markInserted(Notification.class);
+			unreadNotificationCountCache.evict(user.getUserId());
+			return savedNotification;
 		}
 	}
 
@@ -60,10 +94,11 @@ public class NotificationServiceImpl implements NotificationService {
      */
 	@Override
 	public List<Notification> getAllNotifications() throws NotificationListIsEmptyException {
-		if (notificationRepository.findAll().isEmpty()) {
+		List<Notification> notifications = notificationRepository.findAll();
+		if (notifications.isEmpty()) {
 			throw new NotificationListIsEmptyException("Notification list is empty");
 		} else {
-			return notificationRepository.findAll();
+			return notifications;
 		}
 	}
 
@@ -75,11 +110,8 @@ public class NotificationServiceImpl implements NotificationService {
      */
 	@Override
 	public Notification getNotificationById(int notificationId) throws NotificationDoesntExistException {
-		if (!notificationRepository.findById(notificationId).isPresent()) {
-			throw new NotificationDoesntExistException("Notification doesn't exist");
-		} else {
-			return notificationRepository.findById(notificationId).orElse(null);
-		}
+		return notificationRepository.findById(notificationId)
+				.orElseThrow(() -> new NotificationDoesntExistException("Notification doesn't exist"));
 	}
 
 	/**
@@ -99,12 +131,17 @@ public class NotificationServiceImpl implements NotificationService {
 		notification.setCreatedAt(notificationUserDto.getCreatedAt());
 		notification.setText(notificationUserDto.getText());
 
-		if (!notificationRepository.findById(notificationId).isPresent()) {
+		Notification existing = notificationRepository.findById(notificationId).orElse(null);
+		if (existing == null) {
 			throw new NotificationDoesntExistException("Notification doesn't exist");
 		} else {
 			User user = userRepository.findById(notificationUserDto.getUserId())
 					.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
 			notification.setUser(user);
+			notification.setRead(existing.isRead());
+			if (existing.getUser() != null)
+				unreadNotificationCountCache.evict(existing.getUser().getUserId());
+			unreadNotificationCountCache.evict(user.getUserId());
 			return notificationRepository.save(notification);
 		}
 	}
@@ -116,10 +153,14 @@ public class NotificationServiceImpl implements NotificationService {
      */
 	@Override
 	public void deleteNotification(int notificationId) throws NotificationDoesntExistException {
-		if (notificationRepository.findById(notificationId).isEmpty()) {
+		Notification notification = notificationRepository.findById(notificationId).orElse(null);
+		if (notification == null) {
 			throw new NotificationDoesntExistException("Notification doesn't exist");
 		} else {
 			notificationRepository.deleteById(notificationId);
+			tableExistenceCache.invalidate();
+			if (notification.getUser() != null)
+				unreadNotificationCountCache.evict(notification.getUser().getUserId());
 		}
 
 	}
@@ -139,4 +180,165 @@ public class NotificationServiceImpl implements NotificationService {
 		}
 	}
 
+	/**
+     * Queues the same notification for every user on a project (its owner and everyone
+     * with a task in it). The notifications are inserted in the background with
+     * database-assigned IDs.
+     * @param projectId The ID of the project whose users are notified.
+     * @param text The notification text.
+     * @return The number of notifications queued.
+     * @throws ProjectDoesNotExistException If the project does not exist.
+     * @throws NotificationQueueFullException If the notification queue has no room for them.
+     */
+	@Override
+	public int fanOutToProject(int projectId, String text)
+			throws ProjectDoesNotExistException, NotificationQueueFullException {
+		if (!projectRepository.existsById(projectId)) {
+			throw new ProjectDoesNotExistException("Project doesn't exist");
+		} else {
+			List<NotificationUserDto> notifications = new ArrayList<>();
+			for (Integer userId : notificationBatchRepository.findUserIdsOnProject(projectId))
+				notifications.add(new NotificationUserDto(0, text, null, userId));
+			notificationDispatcher.enqueueAll(notifications);
+			return notifications.size();
+		}
+	}
+
+	/**
+     * Retrieves one page of a user's inbox: unread notifications first, then read ones,
+     * each newest first.
+     * @param userId The ID of the user.
+     * @param cursor The nextCursor of the previous page, or null for the first page.
+     * @param limit The maximum number of notifications to return.
+     * @return A page of notifications, the cursor for the next page and the unread count.
+     * @throws UserDoesNotExistException If the user does not exist.
+     * @throws InvalidCursorException If the cursor is not one returned by this method.
+     */
+	@Override
+	public NotificationInboxPageDto getInbox(int userId, String cursor, int limit)
+			throws UserDoesNotExistException, InvalidCursorException {
+		if (!userRepository.existsById(userId)) {
+			throw new UserDoesNotExistException("User doesn't exist");
+		} else {
+			InboxPosition position = cursor == null || cursor.isEmpty() ? null : InboxPosition.parse(cursor);
+			int pageSize = Math.min(Math.max(limit, 1), MAX_INBOX_PAGE_SIZE);
+			List<Notification> items = new ArrayList<>();
+			boolean more = false;
+			if (position == null || !position.read) {
+				Slice<Notification> unread = notificationRepository.getInboxPage(userId, false,
+						position == null ? INBOX_START : position.createdAt,
+						position == null ? Integer.MAX_VALUE : position.notificationId, PageRequest.of(0, pageSize));
+				items.addAll(unread.getContent());
+				more = unread.hasNext();
+				position = null;
+			}
+			if (!more && items.size() < pageSize) {
+				Slice<Notification> read = notificationRepository.getInboxPage(userId, true,
+						position == null ? INBOX_START : position.createdAt,
+						position == null ? Integer.MAX_VALUE : position.notificationId,
+						PageRequest.of(0, pageSize - items.size()));
+				items.addAll(read.getContent());
+				more = read.hasNext();
+			} else if (!more) {
+				// The page ended exactly at the last unread notification; read ones may follow
+				more = true;
+			}
+			String nextCursor = more && !items.isEmpty() ? InboxPosition.of(items.get(items.size() - 1)).format() : null;
+			return new NotificationInboxPageDto(items, nextCursor, unreadCountOf(userId));
+		}
+	}
+
+	/**
+     * Retrieves the number of unread notifications of a user, from a short-lived cache.
+     * @param userId The ID of the user.
+     * @return The number of unread notifications.
+     * @throws UserDoesNotExistException If the user does not exist.
+     */
+	@Override
+	public long getUnreadCount(int userId) throws UserDoesNotExistException {
+		if (!userRepository.existsById(userId)) {
+			throw new UserDoesNotExistException("User doesn't exist");
+		} else {
+			return unreadCountOf(userId);
+		}
+	}
+
+	/**
+     * Marks some of a user's notifications as read.
+     * @param userId The ID of the user.
+     * @param notificationIds The IDs of the notifications; other users' notifications are left alone.
+     * @return The number of notifications that were unread.
+     * @throws UserDoesNotExistException If the user does not exist.
+     */
+	@Override
+	public int markAsRead(int userId, List<Integer> notificationIds) throws UserDoesNotExistException {
+		if (!userRepository.existsById(userId)) {
+			throw new UserDoesNotExistException("User doesn't exist");
+		} else if (notificationIds.isEmpty()) {
+			return 0;
+		} else {
+			int marked = notificationRepository.markAsRead(userId, notificationIds);
+			unreadNotificationCountCache.evict(userId);
+			return marked;
+		}
+	}
+
+	/**
+     * Marks all of a user's notifications as read.
+     * @param userId The ID of the user.
+     * @return The number of notifications that were unread.
+     * @throws UserDoesNotExistException If the user does not exist.
+     */
+	@Override
+	public int markAllAsRead(int userId) throws UserDoesNotExistException {
+		if (!userRepository.existsById(userId)) {
+			throw new UserDoesNotExistException("User doesn't exist");
+		} else {
+			int marked = notificationRepository.markAllAsRead(userId);
+			unreadNotificationCountCache.evict(userId);
+			return marked;
+		}
+	}
+
+	private long unreadCountOf(int userId) {
+		return unreadNotificationCountCache.get(userId, notificationRepository::countUnreadByUserId);
+	}
+
+	/**
+	 * Position of a notification in the inbox order, encoded in page cursors as
+	 * {@code <0|1>_<createdAt>_<notificationId>}.
+	 */
+	static final class InboxPosition {
+
+		final boolean read;
+		final LocalDateTime createdAt;
+		final int notificationId;
+
+		InboxPosition(boolean read, LocalDateTime createdAt, int notificationId) {
+			this.read = read;
+			this.createdAt = createdAt;
+			this.notificationId = notificationId;
+		}
+
+		static InboxPosition of(Notification notification) {
+			return new InboxPosition(notification.isRead(), notification.getCreatedAt(), notification.getNotificationId());
+		}
+
+		static InboxPosition parse(String cursor) throws InvalidCursorException {
+			String[] parts = cursor.split("_");
+			try {
+				if (parts.length != 3 || !(parts[0].equals("0") || parts[0].equals("1")))
+					throw new InvalidCursorException("Invalid cursor");
+				return new InboxPosition(parts[0].equals("1"), LocalDateTime.parse(parts[1]), Integer.parseInt(parts[2]));
+			} catch (DateTimeParseException | NumberFormatException e) {
+				throw new InvalidCursorException("Invalid cursor");
+			}
+		}
+
+		String format() {
+			return (read ? "1" : "0") + "_" + createdAt + "_" + notificationId;
+		}
+
+	}
+
 }
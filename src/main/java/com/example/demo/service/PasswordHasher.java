@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hashes and verifies user passwords. BCrypt is deliberately slow, so the work runs on
+ * a fixed-size pool with a bounded queue: a burst of logins queues up there (and is
+ * rejected once the queue is full) instead of tying up every request thread on CPU.
+ * The pool is kept private rather than registered as a bean, so Spring Boot still
+ * creates its default application task executor.
+ * Passwords stored before hashing was introduced are plaintext; they are still
+ * accepted and reported by {@link #needsRehash(String)} so they can be upgraded.
+ */
+@Component
+public class PasswordHasher {
+
+	private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./A-Za-z0-9]{53}$");
+
+	private final PasswordEncoder passwordEncoder;
+
+	private final Executor executor;
+
+	private final ThreadPoolTaskExecutor ownedExecutor;
+
+	@Autowired
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+			@Value("${security.password.hashing-threads:4}") int threads,
+			@Value("${security.password.hashing-queue-capacity:200}") int queueCapacity) {
+		this.passwordEncoder = passwordEncoder;
+		this.ownedExecutor = new ThreadPoolTaskExecutor();
+		this.ownedExecutor.setCorePoolSize(threads);
+		this.ownedExecutor.setMaxPoolSize(threads);
+		this.ownedExecutor.setQueueCapacity(queueCapacity);
+		this.ownedExecutor.setThreadNamePrefix("password-hash-");
+		this.ownedExecutor.initialize();
+		this.executor = ownedExecutor;
+	}
+
+	public PasswordHasher(PasswordEncoder passwordEncoder, Executor executor) {
+		this.passwordEncoder = passwordEncoder;
+		this.executor = executor;
+		this.ownedExecutor = null;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (ownedExecutor != null)
+			ownedExecutor.shutdown();
+	}
+
+	/**
+	 * Hashes a raw password.
+	 * @param rawPassword The password as entered by the user.
+	 * @return The BCrypt hash, or null if no password was given.
+	 */
+	public String hash(String rawPassword) {
+		if (rawPassword == null)
+			return null;
+		return runOnExecutor(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * Checks a raw password against a stored password, which may be a hash or legacy plaintext.
+	 * @param rawPassword The password as entered by the user.
+	 * @param storedPassword The password stored for the user.
+	 * @return True if the password is correct.
+	 */
+	public boolean matches(String rawPassword, String storedPassword) {
+		if (rawPassword == null || storedPassword == null)
+			return false;
+		if (!isHashed(storedPassword))
+			return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+					storedPassword.getBytes(StandardCharsets.UTF_8));
+		return runOnExecutor(() -> passwordEncoder.matches(rawPassword, storedPassword));
+	}
+
+	/**
+	 * Checks whether a stored password is plaintext or was hashed with a lower work factor than configured.
+	 * @param storedPassword The password stored for the user.
+	 * @return True if the password should be hashed again.
+	 */
+	public boolean needsRehash(String storedPassword) {
+		return !isHashed(storedPassword) || passwordEncoder.upgradeEncoding(storedPassword);
+	}
+
+	/**
+	 * Checks whether a password is already a BCrypt hash.
+	 * @param password The password to check.
+	 * @return True if the value is a BCrypt hash.
+	 */
+	public boolean isHashed(String password) {
+		return password != null && BCRYPT_HASH.matcher(password).matches();
+	}
+
+	private <T> T runOnExecutor(Supplier<T> work) {
+		try {
+			return CompletableFuture.supplyAsync(work, executor).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+			throw e;
+		}
+	}
+
+}
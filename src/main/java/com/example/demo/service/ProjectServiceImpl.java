@@ -1,7 +1,9 @@
 package com.example.demo.service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,9 +16,13 @@ import com.example.demo.exception.ProjectDoesNotExistException;
 import com.example.demo.exception.ProjectListIsEmptyException;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.SearchSourceRepository;
 import com.example.demo.repository.UserRepository;
 
+import jakarta.transaction.Transactional;
+
 @Service
+@Transactional
 public  class ProjectServiceImpl implements ProjectService {
 
 	@Autowired
@@ -25,6 +31,15 @@ public  class ProjectServiceImpl implements ProjectService {
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	ProjectStatisticsService projectStatisticsService;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
 	/**
      * Retrieves all projects.
      * @return A list of all Project entities.
@@ -70,7 +85,10 @@ public  class ProjectServiceImpl implements ProjectService {
 			
 			project.setUser(user);
 			
-			return projectRepository.save(project);
+			Project savedProject = projectRepository.save(project);
+			tableExistenceCache.markInserted(Project.class);
+			searchIndexer.recordChange(SearchSourceRepository.PROJECT, project.getProjectId());
+			return savedProject;
 		}
 	}
 	
@@ -82,15 +100,11 @@ public  class ProjectServiceImpl implements ProjectService {
      */
 	@Override
 	public ProjectUserDto getProjectByProjectId(int projectId) throws ProjectDoesNotExistException {
-
-    	if(projectRepository.findById(projectId).isEmpty())
-
+    	ProjectUserDto project = projectRepository.getProjectByProjectId(projectId);
+    	if(project == null)
     		throw new ProjectDoesNotExistException("Project doesn't exist");
-
     	else
-
-    		return projectRepository.getProjectByProjectId(projectId);
-
+    		return project;
     }
 
 	/**
@@ -101,7 +115,7 @@ public  class ProjectServiceImpl implements ProjectService {
      */
 	@Override
 	public List<Project> getProjectByUserId(int userId) throws ProjectListIsEmptyException {
-		if (projectRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(Project.class, projectRepository::existsAny))
 			throw new ProjectListIsEmptyException("Project list is empty");
 		else
 			return projectRepository.getProjectByUserId(userId);
@@ -114,7 +128,7 @@ public  class ProjectServiceImpl implements ProjectService {
      */
 	@Override
 	public List<Project> getCurrentlyOngoingProjects() throws ProjectListIsEmptyException {
-		if (projectRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(Project.class, projectRepository::existsAny))
 			throw new ProjectListIsEmptyException("Project list is empty");
 		else
 			return projectRepository.findCurrentlyOngoingProjects();
@@ -122,26 +136,38 @@ public  class ProjectServiceImpl implements ProjectService {
 	
 	/**
      * Retrieves projects by their status.
+     * Project IDs come from the in-memory project statistics once they have been built.
      * @param status The status of the projects to retrieve.
      * @return A list of Project entities with the specified status.
      */
     @Override
     public List<Project> getProjectsByStatus(String status) {
+         if (projectStatisticsService.isReady())
+             return findProjects(projectStatisticsService.getProjectIdsWithStatus(status));
          return projectRepository.getProjectsByStatus(status);
      }
     
     /**
      * Retrieves projects with high-priority tasks.
+     * Project IDs come from the in-memory project statistics once they have been built.
      * @return A list of Project entities with high-priority tasks.
      * @throws ProjectListIsEmptyException If no projects with high-priority tasks are found.
      */
      @Override
      public List<Project> getProjectsWithHighPriorityTasks() throws ProjectListIsEmptyException {
-         if(projectRepository.findAll()== null)
+         if(tableExistenceCache.isEmpty(Project.class, projectRepository::existsAny))
             throw new ProjectListIsEmptyException("Project list is empty");
+         else if (projectStatisticsService.isReady())
+             return findProjects(projectStatisticsService.getProjectIdsWithPriority("HIGH"));
          else
              return projectRepository.getProjectsWithHighPriorityTasks();
     }
+
+     private List<Project> findProjects(Set<Integer> projectIds) {
+         if (projectIds.isEmpty())
+             return new ArrayList<>();
+         return projectRepository.findAllById(projectIds);
+     }
     
      /**
       * Retrieves projects within a specific date range.
@@ -152,7 +178,7 @@ public  class ProjectServiceImpl implements ProjectService {
       */
       @Override
       public List<Project> getProjectsInSpecificDateRange(LocalDate startDate, LocalDate endDate) throws ProjectListIsEmptyException {
-            if(projectRepository.findAll().isEmpty())
+            if(tableExistenceCache.isEmpty(Project.class, projectRepository::existsAny))
                 throw new ProjectListIsEmptyException("Project list is empty");
             else
                 return projectRepository.getProjectsInSpecificDateRange(startDate, endDate);
@@ -183,7 +209,9 @@ public  class ProjectServiceImpl implements ProjectService {
     			
     			project.setUser(user);
     			
-    			return projectRepository.save(project);
+    			Project savedProject = projectRepository.save(project);
+    			searchIndexer.recordChange(SearchSourceRepository.PROJECT, project.getProjectId());
+    			return savedProject;
     		}
         }
         
@@ -195,14 +223,16 @@ public  class ProjectServiceImpl implements ProjectService {
          */
         @Override
         public Project deleteProjectByProjectId(int projectId) throws ProjectDoesNotExistException {
-            if(projectRepository.findById(projectId).isEmpty())
-                throw new ProjectDoesNotExistException("Project doesn't exist");
-            else {
-                Project project=projectRepository.findById(projectId).get();
-                projectRepository.deleteById(projectId);
-                return project;
-            }
-            
+            Project project=projectRepository.findById(projectId)
+                    .orElseThrow(() -> new ProjectDoesNotExistException("Project doesn't exist"));
+            // The project's tasks go with it through the cascade, so take them off their users' counts first
+            userRepository.decrementTaskCountsForProject(projectId);
+            searchIndexer.recordCascadeOfProject(projectId);
+            projectRepository.deleteById(projectId);
+            searchIndexer.recordChange(SearchSourceRepository.PROJECT, projectId);
+            projectStatisticsService.projectRemoved(projectId);
+            tableExistenceCache.invalidate();
+            return project;
         }
 
 ////GET ROLENAME
@@ -0,0 +1,31 @@
+package com.example.demo.service;
+
+import java.util.Set;
+
+import com.example.demo.dto.ProjectStatisticsConsistencyDto;
+
+public interface ProjectStatisticsService {
+
+	boolean isReady();
+
+	void rebuild();
+
+	int getTaskCount(int projectId);
+
+	Set<Integer> getProjectIdsWithStatus(String status);
+
+	Set<Integer> getProjectIdsWithPriority(String priority);
+
+	void taskAdded(Integer projectId, String status, String priority);
+
+	void taskRemoved(Integer projectId, String status, String priority);
+
+	void projectRemoved(int projectId);
+
+	void userRemoved(int userId);
+
+	boolean reconcile();
+
+	ProjectStatisticsConsistencyDto checkConsistency();
+
+}
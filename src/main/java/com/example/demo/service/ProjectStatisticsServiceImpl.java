@@ -0,0 +1,278 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.dto.ProjectStatisticsConsistencyDto;
+import com.example.demo.repository.TaskRepository;
+
+/**
+ * Keeps per-project task counts, broken down by status and priority, in memory so
+ * the project count and "projects having tasks with ..." lookups don't have to
+ * scan TASK. The counts are built from one GROUP BY when the application starts
+ * and then adjusted by the task, project and user services after each write commits.
+ * Status and priority are matched case-insensitively, like the MySQL collation the
+ * original queries relied on.
+ * Writes committed while a rebuild is running may be missed; the consistency check
+ * reports any drift and a rebuild corrects it, and a nightly reconcile does both.
+ */
+@Service
+public class ProjectStatisticsServiceImpl implements ProjectStatisticsService {
+
+	@Autowired
+	TaskRepository taskRepository;
+
+	private volatile Map<Integer, ProjectTaskCounts> counts = new ConcurrentHashMap<>();
+
+	private volatile boolean ready;
+
+	/**
+	 * Builds the statistics once the application has started.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * Checks whether the statistics have been built; until then callers should query the database.
+	 * @return True once the first rebuild has completed.
+	 */
+	@Override
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Replaces the statistics with a fresh GROUP BY over the TASK table.
+	 */
+	@Override
+	public void rebuild() {
+		counts = load();
+		ready = true;
+	}
+
+	/**
+	 * Retrieves the number of tasks in a project.
+	 * @param projectId The ID of the project.
+	 * @return The number of tasks, or 0 if the project has none.
+	 */
+	@Override
+	public int getTaskCount(int projectId) {
+		ProjectTaskCounts projectCounts = counts.get(projectId);
+		return projectCounts == null ? 0 : projectCounts.total;
+	}
+
+	/**
+	 * Retrieves the IDs of the projects that have at least one task with the given status.
+	 * @param status The task status.
+	 * @return The matching project IDs.
+	 */
+	@Override
+	public Set<Integer> getProjectIdsWithStatus(String status) {
+		return projectIdsHaving(status, projectCounts -> projectCounts.byStatus);
+	}
+
+	/**
+	 * Retrieves the IDs of the projects that have at least one task with the given priority.
+	 * @param priority The task priority.
+	 * @return The matching project IDs.
+	 */
+	@Override
+	public Set<Integer> getProjectIdsWithPriority(String priority) {
+		return projectIdsHaving(priority, projectCounts -> projectCounts.byPriority);
+	}
+
+	/**
+	 * Counts a new task once the current transaction commits.
+	 * @param projectId The ID of the task's project.
+	 * @param status The task's status.
+	 * @param priority The task's priority.
+	 */
+	@Override
+	public void taskAdded(Integer projectId, String status, String priority) {
+		afterCommit(() -> adjust(projectId, status, priority, 1));
+	}
+
+	/**
+	 * Stops counting a task once the current transaction commits.
+	 * @param projectId The ID of the task's project.
+	 * @param status The task's status.
+	 * @param priority The task's priority.
+	 */
+	@Override
+	public void taskRemoved(Integer projectId, String status, String priority) {
+		afterCommit(() -> adjust(projectId, status, priority, -1));
+	}
+
+	/**
+	 * Drops a project's counts once the current transaction commits.
+	 * @param projectId The ID of the deleted project.
+	 */
+	@Override
+	public void projectRemoved(int projectId) {
+		afterCommit(() -> counts.remove(projectId));
+	}
+
+	/**
+	 * Stops counting the tasks a user's deletion cascades to, once the current transaction
+	 * commits. Must be called before the user is deleted, since the tasks are counted now.
+	 * @param userId The ID of the user being deleted.
+	 */
+	@Override
+	public void userRemoved(int userId) {
+		List<Object[]> removed = taskRepository.getTaskCountsOfUserByProjectStatusAndPriority(userId);
+		afterCommit(() -> {
+			for (Object[] row : removed)
+				adjust((Integer) row[0], (String) row[1], (String) row[2], -((Number) row[3]).intValue());
+		});
+	}
+
+	/**
+	 * Rebuilds the statistics if they no longer match the TASK table, correcting drift
+	 * from writes that bypass the services or were missed during a rebuild.
+	 * @return True if the statistics had drifted and were rebuilt.
+	 */
+	@Override
+	@Scheduled(cron = "${project.statistics.reconcile-cron:0 45 3 * * *}")
+	public boolean reconcile() {
+		if (checkConsistency().isConsistent())
+			return false;
+		rebuild();
+		return true;
+	}
+
+	/**
+	 * Compares the in-memory statistics with a fresh GROUP BY over the TASK table.
+	 * @return Whether they match, and the IDs of the projects that don't.
+	 */
+	@Override
+	public ProjectStatisticsConsistencyDto checkConsistency() {
+		Map<Integer, ProjectTaskCounts> actual = load();
+		Map<Integer, ProjectTaskCounts> current = counts;
+		Set<Integer> projectIds = new TreeSet<>(actual.keySet());
+		projectIds.addAll(current.keySet());
+		List<Integer> mismatched = new ArrayList<>();
+		for (Integer projectId : projectIds) {
+			if (!Objects.equals(actual.get(projectId), current.get(projectId)))
+				mismatched.add(projectId);
+		}
+		return new ProjectStatisticsConsistencyDto(mismatched.isEmpty(), projectIds.size(), mismatched);
+	}
+
+	private Map<Integer, ProjectTaskCounts> load() {
+		Map<Integer, ProjectTaskCounts> loaded = new ConcurrentHashMap<>();
+		for (Object[] row : taskRepository.getTaskCountsByProjectStatusAndPriority()) {
+			if (row[0] == null)
+				continue;
+			int delta = ((Number) row[3]).intValue();
+			loaded.compute((Integer) row[0], (id, projectCounts) -> ProjectTaskCounts.plus(projectCounts,
+					(String) row[1], (String) row[2], delta));
+		}
+		return loaded;
+	}
+
+	private void adjust(Integer projectId, String status, String priority, int delta) {
+		if (projectId == null)
+			return;
+		counts.compute(projectId, (id, projectCounts) -> ProjectTaskCounts.plus(projectCounts, status, priority, delta));
+	}
+
+	private Set<Integer> projectIdsHaving(String value, Function<ProjectTaskCounts, Map<String, Integer>> breakdown) {
+		String key = ProjectTaskCounts.key(value);
+		Set<Integer> projectIds = new HashSet<>();
+		counts.forEach((projectId, projectCounts) -> {
+			if (breakdown.apply(projectCounts).getOrDefault(key, 0) > 0)
+				projectIds.add(projectId);
+		});
+		return projectIds;
+	}
+
+	private static void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+
+	/**
+	 * Immutable counts for one project; every change produces a new instance so
+	 * readers never see a half-applied update.
+	 */
+	static final class ProjectTaskCounts {
+
+		final int total;
+		final Map<String, Integer> byStatus;
+		final Map<String, Integer> byPriority;
+
+		private ProjectTaskCounts(int total, Map<String, Integer> byStatus, Map<String, Integer> byPriority) {
+			this.total = total;
+			this.byStatus = byStatus;
+			this.byPriority = byPriority;
+		}
+
+		static ProjectTaskCounts plus(ProjectTaskCounts current, String status, String priority, int delta) {
+			int total = (current == null ? 0 : current.total) + delta;
+			Map<String, Integer> byStatus = adjusted(current == null ? null : current.byStatus, status, delta);
+			Map<String, Integer> byPriority = adjusted(current == null ? null : current.byPriority, priority, delta);
+			if (total == 0 && byStatus.isEmpty() && byPriority.isEmpty())
+				return null;
+			return new ProjectTaskCounts(total, byStatus, byPriority);
+		}
+
+		static String key(String value) {
+			return value == null ? null : value.toUpperCase(Locale.ROOT);
+		}
+
+		private static Map<String, Integer> adjusted(Map<String, Integer> current, String value, int delta) {
+			Map<String, Integer> result = current == null ? new HashMap<>() : new HashMap<>(current);
+			if (value != null) {
+				int count = result.getOrDefault(key(value), 0) + delta;
+				if (count == 0)
+					result.remove(key(value));
+				else
+					result.put(key(value), count);
+			}
+			return Collections.unmodifiableMap(result);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof ProjectTaskCounts))
+				return false;
+			ProjectTaskCounts that = (ProjectTaskCounts) other;
+			return total == that.total && byStatus.equals(that.byStatus) && byPriority.equals(that.byPriority);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(total, byStatus, byPriority);
+		}
+
+	}
+
+}
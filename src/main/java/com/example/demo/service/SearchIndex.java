@@ -0,0 +1,232 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.SearchHitDto;
+import com.example.demo.dto.SearchPageDto;
+import com.example.demo.repository.SearchSourceRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Full-text index of task names and descriptions, comment text and project names and
+ * descriptions, kept in a Lucene index on local disk. One document is held per row,
+ * keyed by {@code <type>:<id>}, and replaced whenever the row changes. Searches read the
+ * last commit, so changes become searchable and durable together, when
+ * {@link SearchIndexer} commits them, and changes that are rolled back are never seen.
+ */
+@Component
+public class SearchIndex {
+
+	static final String KEY = "key";
+
+	static final String TYPE = "type";
+
+	static final String ID = "id";
+
+	static final String TASK_ID = "taskId";
+
+	static final String TITLE = "title";
+
+	static final String BODY = "body";
+
+	static final int SNIPPET_LENGTH = 200;
+
+	private static final float TITLE_BOOST = 2f;
+
+	private final Analyzer analyzer = new StandardAnalyzer();
+
+	private final Directory directory;
+
+	private volatile IndexWriter writer;
+
+	private final SearcherManager searcherManager;
+
+	public SearchIndex(@Value("${search.index.dir:data/search-index}") Path dir) throws IOException {
+		Files.createDirectories(dir);
+		this.directory = FSDirectory.open(dir);
+		this.writer = openWriter();
+		// Gives a new index its first commit, which the searcher opens
+		writer.commit();
+		this.searcherManager = new SearcherManager(directory, null);
+	}
+
+	/**
+	 * Adds or replaces the document of a row. Safe to call from several threads at once.
+	 * @param type The kind of row, e.g. {@link SearchSourceRepository#TASK}.
+	 * @param id The ID of the row.
+	 * @param taskId The ID of the task the row is or belongs to; null for projects.
+	 * @param title The title to index; may be null.
+	 * @param body The text to index; may be null.
+	 * @throws IOException If the index cannot be written.
+	 */
+	public void index(String type, int id, Integer taskId, String title, String body) throws IOException {
+		Document document = new Document();
+		document.add(new StringField(KEY, type + ":" + id, Field.Store.NO));
+		document.add(new StringField(TYPE, type, Field.Store.YES));
+		document.add(new StoredField(ID, id));
+		if (taskId != null)
+			document.add(new StoredField(TASK_ID, taskId));
+		if (title != null)
+			document.add(new TextField(TITLE, title, Field.Store.YES));
+		if (body != null)
+			document.add(new TextField(BODY, body, Field.Store.YES));
+		writer.updateDocument(new Term(KEY, type + ":" + id), document);
+	}
+
+	/**
+	 * Removes the document of a row, if there is one.
+	 * @param type The kind of row.
+	 * @param id The ID of the row.
+	 * @throws IOException If the index cannot be written.
+	 */
+	public void delete(String type, int id) throws IOException {
+		writer.deleteDocuments(new Term(KEY, type + ":" + id));
+	}
+
+	/**
+	 * Removes every document, ahead of a rebuild. Searches keep seeing the documents until
+	 * this is committed.
+	 * @throws IOException If the index cannot be written.
+	 */
+	public void deleteAll() throws IOException {
+		writer.deleteAll();
+	}
+
+	/**
+	 * Counts the documents in the index, including changes not yet committed.
+	 * @return The number of documents.
+	 */
+	public int size() {
+		return writer.getDocStats().numDocs;
+	}
+
+	/**
+	 * Finds the documents matching all words of a query, best matches first. Matches in
+	 * a title count twice as much as matches in a description or comment.
+	 * @param text The words to search for.
+	 * @param type The kind of row to search, e.g. {@link SearchSourceRepository#TASK}, or null for all.
+	 * @param page The zero-based page number.
+	 * @param size The number of hits per page.
+	 * @return The page of hits; empty if the query has no searchable words.
+	 * @throws IOException If the index cannot be read.
+	 */
+	public SearchPageDto search(String text, String type, int page, int size) throws IOException {
+		List<String> terms = analyze(text);
+		if (terms.isEmpty())
+			return new SearchPageDto(new ArrayList<>(), page, size, 0);
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for (String term : terms) {
+			builder.add(new BooleanQuery.Builder()
+					.add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST), Occur.SHOULD)
+					.add(new TermQuery(new Term(BODY, term)), Occur.SHOULD)
+					.build(), Occur.MUST);
+		}
+		if (type != null)
+			builder.add(new TermQuery(new Term(TYPE, type)), Occur.FILTER);
+		Query query = builder.build();
+
+		IndexSearcher searcher = searcherManager.acquire();
+		try {
+			int from = page * size;
+			TopDocs topDocs = searcher.search(query, from + size);
+			List<SearchHitDto> hits = new ArrayList<>();
+			for (int i = from; i < topDocs.scoreDocs.length; i++) {
+				ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+				hits.add(toHit(searcher.storedFields().document(scoreDoc.doc), scoreDoc.score));
+			}
+			return new SearchPageDto(hits, page, size, searcher.count(query));
+		} finally {
+			searcherManager.release(searcher);
+		}
+	}
+
+	/**
+	 * Makes the changes applied so far durable and searchable.
+	 * @throws IOException If the index cannot be written.
+	 */
+	public void commit() throws IOException {
+		if (writer.hasUncommittedChanges()) {
+			writer.commit();
+			searcherManager.maybeRefreshBlocking();
+		}
+	}
+
+	/**
+	 * Discards the changes applied since the last commit, e.g. those of a failed rebuild.
+	 * Must not be called while other threads are writing to the index.
+	 * @throws IOException If the index cannot be reopened.
+	 */
+	public void rollback() throws IOException {
+		// Rolling back closes the writer, so a new one is opened on the last commit
+		writer.rollback();
+		writer = openWriter();
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		searcherManager.close();
+		writer.close();
+		directory.close();
+	}
+
+	private IndexWriter openWriter() throws IOException {
+		return new IndexWriter(directory, new IndexWriterConfig(analyzer)
+				.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+	}
+
+	private List<String> analyze(String text) throws IOException {
+		List<String> terms = new ArrayList<>();
+		if (text == null)
+			return terms;
+		try (TokenStream tokens = analyzer.tokenStream(BODY, text)) {
+			CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+			tokens.reset();
+			while (tokens.incrementToken()) {
+				if (!terms.contains(term.toString()))
+					terms.add(term.toString());
+			}
+			tokens.end();
+		}
+		return terms;
+	}
+
+	private static SearchHitDto toHit(Document document, float score) {
+		String body = document.get(BODY);
+		String snippet = body == null || body.length() <= SNIPPET_LENGTH ? body : body.substring(0, SNIPPET_LENGTH);
+		Integer taskId = document.getField(TASK_ID) == null ? null : document.getField(TASK_ID).numericValue().intValue();
+		return new SearchHitDto(document.get(TYPE), document.getField(ID).numericValue().intValue(), taskId,
+				document.get(TITLE), snippet, score);
+	}
+
+}
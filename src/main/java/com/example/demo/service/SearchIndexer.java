@@ -0,0 +1,319 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.repository.SearchOutboxRepository;
+import com.example.demo.repository.SearchSourceRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Keeps the search index in step with the database through the SEARCHOUTBOX table.
+ * Services record each change to a task, comment or project in the outbox, in the
+ * transaction that makes it; a background thread drains the outbox in batches, reading
+ * the current state of the changed rows, applying it to the index and committing the
+ * index before deleting the batch. The outbox is the checkpoint: after a crash, any
+ * change not yet in a committed index is still in the table and is applied again, and
+ * applying a change twice is harmless.
+ */
+@Component
+public class SearchIndexer {
+
+	static final List<String> TYPES = List.of(SearchSourceRepository.TASK, SearchSourceRepository.COMMENT,
+			SearchSourceRepository.PROJECT);
+
+	private final SearchOutboxRepository searchOutboxRepository;
+
+	private final SearchSourceRepository searchSourceRepository;
+
+	private final SearchIndex searchIndex;
+
+	private final ExecutorService drainer;
+
+	private final AtomicBoolean drainPending = new AtomicBoolean();
+
+	// Serializes drains and rebuilds; a lock rather than a monitor so that a virtual
+	// thread blocked on JDBC or index I/O while holding it does not pin its carrier
+	private final ReentrantLock indexLock = new ReentrantLock();
+
+	private final int batchSize;
+
+	private final boolean drainOnCommit;
+
+	private final int parallelism;
+
+	@Autowired
+	public SearchIndexer(SearchOutboxRepository searchOutboxRepository, SearchSourceRepository searchSourceRepository,
+			SearchIndex searchIndex,
+			@Value("${search.indexer.batch-size:500}") int batchSize,
+			@Value("${search.indexer.drain-on-commit:true}") boolean drainOnCommit,
+			@Value("${search.rebuild.parallelism:0}") int parallelism) {
+		this.searchOutboxRepository = searchOutboxRepository;
+		this.searchSourceRepository = searchSourceRepository;
+		this.searchIndex = searchIndex;
+		this.batchSize = Math.max(1, batchSize);
+		this.drainOnCommit = drainOnCommit;
+		this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+		this.drainer = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "search-indexer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Builds the index if it is empty, e.g. on first start or after its directory was
+	 * removed, then applies the changes left in the outbox by the previous run.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() throws IOException {
+		if (searchIndex.size() == 0)
+			rebuild();
+		drain();
+	}
+
+	/**
+	 * Records a change to a task, comment or project in the current transaction, and
+	 * drains the outbox once that commits.
+	 * @param type The kind of row, e.g. {@link SearchSourceRepository#TASK}.
+	 * @param id The ID of the row; it may have been deleted.
+	 */
+	public void recordChange(String type, int id) {
+		searchOutboxRepository.record(type, id);
+		drainAfterCommit();
+	}
+
+	/**
+	 * Records changes to several rows of one kind in the current transaction, with one
+	 * JDBC batch, and drains the outbox once that commits.
+	 * @param type The kind of row.
+	 * @param ids The IDs of the rows.
+	 */
+	public void recordChanges(String type, List<Integer> ids) {
+		searchOutboxRepository.recordAll(type, ids);
+		drainAfterCommit();
+	}
+
+	/**
+	 * Records a change to every task in a project and every comment on them, because
+	 * they are deleted with it.
+	 * @param projectId The ID of the project; call before it is deleted.
+	 */
+	public void recordCascadeOfProject(int projectId) {
+		searchOutboxRepository.recordCascadeOfProject(projectId);
+		drainAfterCommit();
+	}
+
+	/**
+	 * Records a change to every project, task and comment deleted along with a user.
+	 * @param userId The ID of the user; call before the user is deleted.
+	 */
+	public void recordCascadeOfUser(int userId) {
+		searchOutboxRepository.recordCascadeOfUser(userId);
+		drainAfterCommit();
+	}
+
+	/**
+	 * Applies the recorded changes to the index, a batch at a time, until the outbox is
+	 * empty. Each batch is committed to the index before it is deleted from the outbox.
+	 * @return The number of changes applied.
+	 * @throws IOException If the index cannot be written.
+	 */
+	@Scheduled(fixedDelayString = "${search.indexer.poll-interval-ms:5000}")
+	public int drain() throws IOException {
+		indexLock.lock();
+		try {
+			int drained = 0;
+			List<SearchOutboxRepository.Change> changes;
+			while (!(changes = searchOutboxRepository.findOldest(batchSize)).isEmpty()) {
+				Map<String, Set<Integer>> idsByType = new LinkedHashMap<>();
+				List<Long> outboxIds = new ArrayList<>();
+				for (SearchOutboxRepository.Change change : changes) {
+					idsByType.computeIfAbsent(change.getType(), type -> new HashSet<>()).add(change.getId());
+					outboxIds.add(change.getOutboxId());
+				}
+				for (Map.Entry<String, Set<Integer>> entry : idsByType.entrySet())
+					apply(entry.getKey(), entry.getValue());
+				searchIndex.commit();
+				searchOutboxRepository.delete(outboxIds);
+				drained += changes.size();
+			}
+			return drained;
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	/**
+	 * Replaces the whole index with the tasks, comments and projects in the database.
+	 * Each table's ID range is split into partitions that are read and indexed in
+	 * parallel, each on its own connection. Searches keep seeing the previous index until
+	 * the rebuild commits, and if it fails its changes are rolled back, leaving the
+	 * previous index in place. Draining waits until the rebuild is done, so changes made
+	 * meanwhile stay in the outbox and are applied on top of it.
+	 * @return The number of documents indexed.
+	 * @throws IOException If the index cannot be written.
+	 */
+	public long rebuild() throws IOException {
+		indexLock.lock();
+		try {
+			AtomicInteger workerNumber = new AtomicInteger();
+			ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+				Thread thread = new Thread(runnable, "search-rebuild-" + workerNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				searchIndex.deleteAll();
+				long indexed = indexAll(workers);
+				searchIndex.commit();
+				return indexed;
+			} catch (IOException | RuntimeException e) {
+				try {
+					discard(workers);
+				} catch (IOException rollbackFailure) {
+					e.addSuppressed(rollbackFailure);
+				}
+				throw e;
+			} finally {
+				workers.shutdownNow();
+			}
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	/**
+	 * Counts the changes not yet applied to the index.
+	 * @return The number of changes in the outbox.
+	 */
+	public long getPendingChanges() {
+		return searchOutboxRepository.countPending();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// An interrupted drain leaves its batch in the outbox for the next start
+		drainer.shutdownNow();
+	}
+
+	private long indexAll(ExecutorService workers) throws IOException {
+		AtomicLong indexed = new AtomicLong();
+		try {
+			List<Future<?>> partitions = new ArrayList<>();
+			for (String type : TYPES) {
+				int[] range = searchSourceRepository.findIdRange(type);
+				if (range == null)
+					continue;
+				long width = ((long) range[1] - range[0]) / parallelism + 1;
+				for (long from = range[0]; from <= range[1]; from += width) {
+					int fromId = (int) from;
+					int toId = (int) Math.min(from + width - 1, range[1]);
+					partitions.add(workers.submit(() -> searchSourceRepository.forEachInRange(type, fromId, toId,
+							(id, taskId, title, body) -> {
+								index(type, id, taskId, title, body);
+								indexed.incrementAndGet();
+							})));
+				}
+			}
+			for (Future<?> partition : partitions)
+				partition.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Search index rebuild was interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof UncheckedIOException)
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			throw new IOException("Search index rebuild failed", e.getCause());
+		}
+		return indexed.get();
+	}
+
+	private void discard(ExecutorService workers) throws IOException {
+		workers.shutdownNow();
+		try {
+			// A partition still running would otherwise write into the reopened index
+			workers.awaitTermination(1, TimeUnit.MINUTES);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		searchIndex.rollback();
+	}
+
+	private void apply(String type, Set<Integer> ids) throws IOException {
+		Set<Integer> deleted = new HashSet<>(ids);
+		try {
+			searchSourceRepository.forEachById(type, ids, (id, taskId, title, body) -> {
+				index(type, id, taskId, title, body);
+				deleted.remove(id);
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		for (int id : deleted)
+			searchIndex.delete(type, id);
+	}
+
+	private void index(String type, int id, Integer taskId, String title, String body) {
+		try {
+			searchIndex.index(type, id, taskId, title, body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void drainAfterCommit() {
+		if (!drainOnCommit)
+			return;
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					requestDrain();
+				}
+			});
+		} else {
+			requestDrain();
+		}
+	}
+
+	private void requestDrain() {
+		// Drains run on their own thread, outside any transaction of the caller
+		if (!drainer.isShutdown() && drainPending.compareAndSet(false, true)) {
+			drainer.execute(() -> {
+				drainPending.set(false);
+				try {
+					drain();
+				} catch (IOException | RuntimeException e) {
+					// Left in the outbox; the scheduled drain retries
+				}
+			});
+		}
+	}
+
+}
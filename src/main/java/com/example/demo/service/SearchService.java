@@ -0,0 +1,14 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+
+import com.example.demo.dto.SearchPageDto;
+import com.example.demo.exception.InvalidSearchQueryException;
+
+public interface SearchService {
+
+	SearchPageDto search(String query, String type, int page, int size) throws InvalidSearchQueryException, IOException;
+
+	long rebuild() throws IOException;
+
+}
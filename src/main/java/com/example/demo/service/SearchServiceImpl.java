@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.dto.SearchPageDto;
+import com.example.demo.exception.InvalidSearchQueryException;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+	static final int MAX_PAGE_SIZE = 100;
+
+	/** Deep pages cost as much as collecting every hit before them; past this, refine the query */
+	static final int MAX_RESULT_WINDOW = 10000;
+
+	@Autowired
+	SearchIndex searchIndex;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
+	/**
+	 * Searches task names and descriptions, comment text and project names and
+	 * descriptions. Reads only the search index, not the database.
+	 * @param query The words to search for; every word must match.
+	 * @param type "task", "comment" or "project" to return only that kind of hit, or null for all.
+	 * @param page The zero-based page number.
+	 * @param size The number of hits per page, capped at {@value #MAX_PAGE_SIZE}.
+	 * @return The page of hits, best match first, and the total number of hits.
+	 * @throws InvalidSearchQueryException If the query is blank, the type is unknown or the page is too deep.
+	 * @throws IOException If the index cannot be read.
+	 */
+	@Override
+	public SearchPageDto search(String query, String type, int page, int size)
+			throws InvalidSearchQueryException, IOException {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		if (query == null || query.isBlank()) {
+			throw new InvalidSearchQueryException("Search query is empty");
+		} else if (type != null && !SearchIndexer.TYPES.contains(type)) {
+			throw new InvalidSearchQueryException("Unknown search type: " + type);
+		} else if (page < 0 || (long) (page + 1) * pageSize > MAX_RESULT_WINDOW) {
+			throw new InvalidSearchQueryException("Page must be between 0 and " + (MAX_RESULT_WINDOW / pageSize - 1));
+		} else {
+			return searchIndex.search(query, type, page, pageSize);
+		}
+	}
+
+	/**
+	 * Rebuilds the search index from the database, reading each table in parallel ID ranges.
+	 * @return The number of documents indexed.
+	 * @throws IOException If the index cannot be written.
+	 */
+	@Override
+	public long rebuild() throws IOException {
+		return searchIndexer.rebuild();
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.example.demo.service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Remembers which entity tables are known to contain at least one row, so the
+ * "list is empty" guards in the services don't have to hit the database on every call.
+ * Only positive answers are cached: inserts mark a table as non-empty and any delete
+ * clears the cache, because deletes may cascade across tables. Both take effect once
+ * the writing transaction commits, so a rolled-back insert never marks a table and a
+ * delete's invalidation cannot be undone by an insert that committed before it.
+ */
+@Component
+public class TableExistenceCache {
+
+	private final Set<Class<?>> nonEmptyTables = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Checks whether the table behind the given entity type is empty.
+	 * @param entityType The entity class whose table is checked.
+	 * @param existsAny Repository probe returning true if at least one row exists.
+	 * @return True if the table holds no rows.
+	 */
+	public boolean isEmpty(Class<?> entityType, BooleanSupplier existsAny) {
+		if (nonEmptyTables.contains(entityType))
+			return false;
+		if (existsAny.getAsBoolean()) {
+			nonEmptyTables.add(entityType);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Records that a row was inserted into the table behind the given entity type, once
+	 * the current transaction commits, or right away if there is none.
+	 * @param entityType The entity class that was inserted.
+	 */
+	public void markInserted(Class<?> entityType) {
+		afterCommit(() -> nonEmptyTables.add(entityType));
+	}
+
+	/**
+	 * Forgets every cached answer once the current transaction commits, or right away if
+	 * there is none. Called after deletes.
+	 */
+	public void invalidate() {
+		afterCommit(nonEmptyTables::clear);
+	}
+
+	private static void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.UserRepository;
+
+/**
+ * Periodically recomputes the per-user task counts from the TASK table. The task
+ * service keeps them current on every write; this catches any drift from writes
+ * that bypass it, such as manual SQL or tasks removed through an entity cascade.
+ */
+@Component
+public class TaskCountReconciler {
+
+	@Autowired
+	UserRepository userRepository;
+
+	/**
+	 * Corrects every user whose task count no longer matches the TASK table.
+	 * @return The number of users whose count was corrected.
+	 */
+	@Scheduled(cron = "${user.task-count.reconcile-cron:0 30 3 * * *}")
+	public int reconcile() {
+		return userRepository.reconcileTaskCounts();
+	}
+
+}
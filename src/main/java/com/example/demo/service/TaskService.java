@@ -1,11 +1,18 @@
 package com.example.demo.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.web.bind.annotation.PathVariable;
 
+import com.example.demo.dto.AssociateTaskWithCategoryDto;
+import com.example.demo.dto.CursorPageDto;
+import com.example.demo.dto.TaskCategoryAssociationResultDto;
+import com.example.demo.dto.TaskCreationResultDto;
 import com.example.demo.dto.TaskProjectUserDto;
+import com.example.demo.dto.TaskSummaryDto;
 import com.example.demo.entity.Task;
 import com.example.demo.exception.CategoryDoesntExistException;
 import com.example.demo.exception.ProjectDoesNotExistException;
@@ -18,6 +25,7 @@ public interface TaskService {
 
 	Task createTask(TaskProjectUserDto taskProjectUserDto)
 			throws TaskAlreadyExistsException, ProjectDoesNotExistException, UserDoesNotExistException;
+	List<TaskCreationResultDto> createTasks(List<TaskProjectUserDto> taskProjectUserDtos);
 	
 	Task getTasksByTaskId(int taskId)throws TaskDoesntExistException;
 	List<Task> getAllTasks() throws TaskListIsEmptyException;
@@ -44,7 +52,26 @@ public interface TaskService {
 	List<Object[]> getAllTaskForCategory(int categoryId) throws CategoryDoesntExistException, TaskListIsEmptyException;
 
 	void associateTaskWithCategory(int taskId, List<Integer> categoryId);
+	List<TaskCategoryAssociationResultDto> associateTasksWithCategories(List<AssociateTaskWithCategoryDto> associations);
 	
 	int[] getAllTaskIds() throws TaskListIsEmptyException;
 
+	CursorPageDto<Task> getAllTasks(int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<Task> getTaskBystatus(String status, int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<Task> getTasksByUserId(int userId, int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<Task> getTasksByProject(int projectId, int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<TaskSummaryDto> getTaskSummaries(int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<TaskSummaryDto> getTaskSummariesBystatus(String status, int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<TaskSummaryDto> getTaskSummariesByUserId(int userId, int after, int limit) throws TaskListIsEmptyException;
+
+	CursorPageDto<TaskSummaryDto> getTaskSummariesByProject(int projectId, int after, int limit) throws TaskListIsEmptyException;
+
+	void exportTasks(OutputStream outputStream) throws IOException;
+
 }
\ No newline at end of file
@@ -1,11 +1,38 @@
 package com.example.demo.service;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.demo.dto.AssociateTaskWithCategoryDto;
+import com.example.demo.dto.CursorPageDto;
+import com.example.demo.dto.TaskCategoryAssociationResultDto;
+import com.example.demo.dto.TaskCreationResultDto;
 import com.example.demo.dto.TaskProjectUserDto;
+import com.example.demo.dto.TaskSummaryDto;
 import com.example.demo.entity.Project;
 import com.example.demo.entity.Task;
 import com.example.demo.entity.User;
@@ -17,14 +44,28 @@ import com.example.demo.exception.TaskListIsEmptyException;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.repository.CategoryRepository;
 import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.SearchSourceRepository;
+import com.example.demo.repository.TaskCategoryBatchRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.UserRepository;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 
 @Service
+@Transactional
 public class TaskServiceImpl implements TaskService {
 
+	static final int MAX_PAGE_SIZE = 500;
+
+	static final int EXPORT_CLEAR_INTERVAL = 1000;
+
 	@Autowired
 	TaskRepository taskRepository;
 
@@ -37,6 +78,36 @@ public class TaskServiceImpl implements TaskService {
 	@Autowired
 	CategoryRepository categoryRepository;
 
+	@Autowired
+	TaskCategoryBatchRepository taskCategoryBatchRepository;
+
+	@Value("${taskcategory.bulk.batch-size:1000}")
+	int bulkBatchSize;
+
+	@Value("${task.bulk.chunk-size:500}")
+	int bulkChunkSize;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Autowired
+	ProjectStatisticsService projectStatisticsService;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
+	@Autowired
+	Validator validator;
+
 	/**
      * Creates a new task with the provided details.
      * @param taskProjectUserDto Data transfer object containing task details including project and user information.
@@ -66,10 +137,112 @@ public class TaskServiceImpl implements TaskService {
 			task.setProject(project);
 			task.setUser(user);
 
-			return taskRepository.save(task);
+			Task savedTask = taskRepository.save(task);
+			userRepository.adjustTaskCount(user.getUserId(), 1);
+			projectStatisticsService.taskAdded(project.getProjectId(), task.getStatus(), task.getPriority());
+			tableExistenceCache.markInserted(Task.class);
+			searchIndexer.recordChange(SearchSourceRepository.TASK, task.getTaskId());
+			return savedTask;
 		}
 	}
 
+	/**
+     * Creates many tasks in one call. Each task is checked against the Task constraints, and
+     * project and user references and existing task IDs are each validated with a single
+     * IN query up front; valid tasks are then persisted
+     * in chunks, one transaction per chunk, so Hibernate can send the inserts as JDBC batches.
+     * Each chunk also bumps the task count of its users, one update per distinct user.
+     * A chunk that fails to commit is reported as FAILED without affecting other chunks.
+     * @param taskProjectUserDtos The tasks to create.
+     * @return One result per requested task, in request order.
+     */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<TaskCreationResultDto> createTasks(List<TaskProjectUserDto> taskProjectUserDtos) {
+		List<TaskCreationResultDto> results = new ArrayList<>();
+		if (taskProjectUserDtos.isEmpty())
+			return results;
+
+		Set<Integer> taskIds = new HashSet<>();
+		Set<Integer> projectIds = new HashSet<>();
+		Set<Integer> userIds = new HashSet<>();
+		for (TaskProjectUserDto dto : taskProjectUserDtos) {
+			taskIds.add(dto.getTaskId());
+			projectIds.add(dto.getProjectId());
+			userIds.add(dto.getUserId());
+		}
+		Set<Integer> existingTaskIds = new HashSet<>(taskRepository.getExistingTaskIds(taskIds));
+		Set<Integer> existingProjectIds = new HashSet<>(projectRepository.getExistingProjectIds(projectIds));
+		Set<Integer> existingUserIds = new HashSet<>(userRepository.getExistingUserIds(userIds));
+
+		Set<Integer> requestedTaskIds = new HashSet<>();
+		List<TaskProjectUserDto> valid = new ArrayList<>();
+		List<TaskCreationResultDto> pending = new ArrayList<>();
+		for (TaskProjectUserDto dto : taskProjectUserDtos) {
+			TaskCreationResultDto result = new TaskCreationResultDto(dto.getTaskId(), null);
+			if (!validator.validate(newTask(dto)).isEmpty())
+				result.setStatus(TaskCreationResultDto.INVALID);
+			else if (existingTaskIds.contains(dto.getTaskId()))
+				result.setStatus(TaskCreationResultDto.ALREADY_EXISTS);
+			else if (!existingProjectIds.contains(dto.getProjectId()))
+				result.setStatus(TaskCreationResultDto.PROJECT_NOT_FOUND);
+			else if (!existingUserIds.contains(dto.getUserId()))
+				result.setStatus(TaskCreationResultDto.USER_NOT_FOUND);
+			else if (!requestedTaskIds.add(dto.getTaskId()))
+				result.setStatus(TaskCreationResultDto.DUPLICATE_IN_REQUEST);
+			else {
+				valid.add(dto);
+				pending.add(result);
+			}
+			results.add(result);
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		int chunkSize = Math.max(1, bulkChunkSize);
+		for (int from = 0; from < valid.size(); from += chunkSize) {
+			List<TaskProjectUserDto> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+			String status;
+			try {
+				transactionTemplate.executeWithoutResult(tx -> {
+					Map<Integer, Integer> tasksPerUser = new TreeMap<>();
+					for (TaskProjectUserDto dto : chunk) {
+						entityManager.persist(toTask(dto));
+						tasksPerUser.merge(dto.getUserId(), 1, Integer::sum);
+						projectStatisticsService.taskAdded(dto.getProjectId(), dto.getStatus(), dto.getPriority());
+					}
+					tasksPerUser.forEach(userRepository::adjustTaskCount);
+					searchIndexer.recordChanges(SearchSourceRepository.TASK,
+							chunk.stream().map(TaskProjectUserDto::getTaskId).toList());
+				});
+				status = TaskCreationResultDto.CREATED;
+				tableExistenceCache.markInserted(Task.class);
+			} catch (DataAccessException | PersistenceException | ConstraintViolationException | TransactionSystemException e) {
+				status = TaskCreationResultDto.FAILED;
+			}
+			for (TaskCreationResultDto result : pending.subList(from, from + chunk.size()))
+				result.setStatus(status);
+		}
+		return results;
+	}
+
+	private Task newTask(TaskProjectUserDto dto) {
+		Task task = new Task();
+		task.setTaskId(dto.getTaskId());
+		task.setTaskName(dto.getTaskName());
+		task.setDescription(dto.getDescription());
+		task.setDueDate(dto.getDueDate());
+		task.setPriority(dto.getPriority());
+		task.setStatus(dto.getStatus());
+		return task;
+	}
+
+	private Task toTask(TaskProjectUserDto dto) {
+		Task task = newTask(dto);
+		task.setProject(entityManager.getReference(Project.class, dto.getProjectId()));
+		task.setUser(entityManager.getReference(User.class, dto.getUserId()));
+		return task;
+	}
+
 	/**
      * Retrieves all tasks.
      * @return A list of all Task entities.
@@ -77,10 +250,11 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getAllTasks() throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		List<Task> tasks = taskRepository.findAll();
+		if (tasks.isEmpty()) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
-			return taskRepository.findAll();
+			return tasks;
 		}
 	}
 	
@@ -92,11 +266,8 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public Task getTasksByTaskId(int taskId)throws TaskDoesntExistException{
-		if (taskRepository.findById(taskId).isEmpty()) {
-			throw new TaskDoesntExistException("Task Doesn't exists");
-		} else {
-			return taskRepository.getTasksByTaskId(taskId);
-		}
+		return taskRepository.findById(taskId)
+				.orElseThrow(() -> new TaskDoesntExistException("Task Doesn't exists"));
 	}
 
 	/**
@@ -106,7 +277,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getOverdueTasks() throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getOverdueTasks();
@@ -122,7 +293,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTaskBystatus(String status) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTaskBystatus(status);
@@ -138,7 +309,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksByPriorityAndStatus(String priority) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksByPriorityAndStatus(priority);
@@ -152,7 +323,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksDueSoon() throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksDueSoon();
@@ -167,7 +338,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksByUserId(int userId) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksByUserId(userId);
@@ -183,7 +354,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksByUserAndStatus(String userId, String status) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksByUserAndStatus(userId, status);
@@ -198,7 +369,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksByProject(int  projectId) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksByProject(projectId);
@@ -207,14 +378,17 @@ public class TaskServiceImpl implements TaskService {
 	
 	/**
      * Retrieves the count of tasks associated with a specific project.
+     * Served from the in-memory project statistics once they have been built.
      * @param projectId The ID of the project for which the task count is to be retrieved.
      * @return The number of tasks associated with the specified project.
      * @throws TaskListIsEmptyException If no tasks are found for the project.
      */
 	@Override
 	public int getTaskCountOfProject(int  projectId) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
+		} else if (projectStatisticsService.isReady()) {
+			return projectStatisticsService.getTaskCount(projectId);
 		} else {
 			return taskRepository.getTaskCountOfProject(projectId);
 		}
@@ -228,7 +402,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public List<Task> getTasksByCategory(String categoryId) throws TaskListIsEmptyException {
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getTasksByCategory(categoryId);
@@ -254,17 +428,33 @@ public class TaskServiceImpl implements TaskService {
 		task.setPriority(taskProjectUserDto.getPriority());
 		task.setStatus(taskProjectUserDto.getStatus());
 
-		if (!taskRepository.findById(taskId).isPresent()) {
+		Optional<Task> existingTask = taskRepository.findById(taskId);
+		if (!existingTask.isPresent()) {
 			throw new TaskDoesntExistException("Task doesn't exist");
 		} else {
 			Project project = projectRepository.findById(taskProjectUserDto.getProjectId())
 					.orElseThrow(() -> new ProjectDoesNotExistException("Project doesn't exist"));
 			User user = userRepository.findById(taskProjectUserDto.getUserId())
 					.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
+			// Read the previous values before save, which merges the new state into the same managed entity
+			Task previous = existingTask.get();
+			User previousUser = previous.getUser();
+			Integer previousProjectId = previous.getProject() == null ? null : previous.getProject().getProjectId();
+			String previousStatus = previous.getStatus();
+			String previousPriority = previous.getPriority();
 			task.setProject(project);
 			task.setUser(user);
 
-			return taskRepository.save(task);
+			Task savedTask = taskRepository.save(task);
+			projectStatisticsService.taskRemoved(previousProjectId, previousStatus, previousPriority);
+			projectStatisticsService.taskAdded(project.getProjectId(), task.getStatus(), task.getPriority());
+			if (previousUser == null || previousUser.getUserId() != user.getUserId()) {
+				if (previousUser != null)
+					userRepository.adjustTaskCount(previousUser.getUserId(), -1);
+				userRepository.adjustTaskCount(user.getUserId(), 1);
+			}
+			searchIndexer.recordChange(SearchSourceRepository.TASK, task.getTaskId());
+			return savedTask;
 		}
 	}
 
@@ -275,13 +465,16 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public void deleteTaskById(int taskId) throws TaskDoesntExistException {
-		if (taskRepository.findById(taskId).isEmpty()) {
+		TaskSummaryDto summary = taskRepository.getTaskSummaryByTaskId(taskId);
+		// Runs first so the subquery can still see the task; a missing task updates nothing.
+		userRepository.decrementTaskCountOfTaskOwner(taskId);
+		if (taskRepository.deleteByTaskId(taskId) == 0) {
 			throw new TaskDoesntExistException("Task doesn't exist exist");
 		} else {
-			Task task = taskRepository.findById(taskId).get();
-//			taskRepository.deleteById(taskId);
-			taskRepository.deleteByTaskId(taskId);
-
+			if (summary != null)
+				projectStatisticsService.taskRemoved(summary.getProjectId(), summary.getStatus(), summary.getPriority());
+			tableExistenceCache.invalidate();
+			searchIndexer.recordChange(SearchSourceRepository.TASK, taskId);
 		}
 
 	}
@@ -294,7 +487,7 @@ public class TaskServiceImpl implements TaskService {
      * @throws TaskListIsEmptyException If no tasks are found for the category.
      */
 	public List<Object[]> getAllTaskForCategory(int categoryId) throws CategoryDoesntExistException,TaskListIsEmptyException {
-		if(taskRepository.findAll().isEmpty())
+		if(tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny))
 			throw new TaskListIsEmptyException("Task list is empty");
 		else if(categoryRepository.findById(categoryId).isEmpty())
 			throw new CategoryDoesntExistException("Category doesn't exist");
@@ -317,6 +510,59 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 	
+	/**
+     * Associates many tasks with categories in bulk. Requests are processed in chunks of
+     * the configured batch size: task IDs, category IDs and existing pairs are looked up
+     * once per chunk and the new pairs are written with a single JDBC batch.
+     * Pairs that already exist, or repeat within the request, are reported as duplicates.
+     * @param associations The task IDs and the category IDs to associate with each.
+     * @return One result per requested task/category pair, in request order.
+     */
+	@Override
+	@Transactional
+	public List<TaskCategoryAssociationResultDto> associateTasksWithCategories(
+			List<AssociateTaskWithCategoryDto> associations) {
+		List<TaskCategoryAssociationResultDto> results = new ArrayList<>();
+		int batchSize = Math.max(1, bulkBatchSize);
+		for (int from = 0; from < associations.size(); from += batchSize) {
+			List<AssociateTaskWithCategoryDto> chunk = associations.subList(from,
+					Math.min(from + batchSize, associations.size()));
+			Set<Integer> taskIds = new HashSet<>();
+			Set<Integer> categoryIds = new HashSet<>();
+			for (AssociateTaskWithCategoryDto association : chunk) {
+				taskIds.add(association.getTaskId());
+				if (association.getCategoryId() != null)
+					categoryIds.addAll(association.getCategoryId());
+			}
+			Set<Integer> existingTaskIds = taskCategoryBatchRepository.findExistingTaskIds(taskIds);
+			Set<Integer> existingCategoryIds = taskCategoryBatchRepository.findExistingCategoryIds(categoryIds);
+			Set<Long> existingPairs = taskCategoryBatchRepository.findExistingPairs(existingTaskIds);
+
+			List<int[]> inserts = new ArrayList<>();
+			for (AssociateTaskWithCategoryDto association : chunk) {
+				if (association.getCategoryId() == null)
+					continue;
+				int taskId = association.getTaskId();
+				for (int categoryId : association.getCategoryId()) {
+					String status;
+					if (!existingTaskIds.contains(taskId))
+						status = TaskCategoryAssociationResultDto.TASK_NOT_FOUND;
+					else if (!existingCategoryIds.contains(categoryId))
+						status = TaskCategoryAssociationResultDto.CATEGORY_NOT_FOUND;
+					else if (!existingPairs.add(TaskCategoryBatchRepository.pairKey(taskId, categoryId)))
+						status = TaskCategoryAssociationResultDto.DUPLICATE;
+					else {
+						inserts.add(new int[] { taskId, categoryId });
+						status = TaskCategoryAssociationResultDto.CREATED;
+					}
+					results.add(new TaskCategoryAssociationResultDto(taskId, categoryId, status));
+				}
+			}
+			taskCategoryBatchRepository.batchInsert(inserts, batchSize);
+		}
+		return results;
+	}
+
 	/**
      * Retrieves all task IDs.
      * @return An array of all task IDs.
@@ -324,7 +570,7 @@ public class TaskServiceImpl implements TaskService {
      */
 	@Override
 	public int[] getAllTaskIds() throws TaskListIsEmptyException{
-		if (taskRepository.findAll().isEmpty()) {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
 			throw new TaskListIsEmptyException("Task list is Empty");
 		} else {
 			return taskRepository.getAllTaskIds();
@@ -332,4 +578,185 @@ public class TaskServiceImpl implements TaskService {
 		
 	}
 
+	/**
+     * Retrieves one page of tasks ordered by task ID, starting after the given cursor.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of Task entities and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<Task> getAllTasks(int after, int limit) throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTasksAfter(after, pageOf(limit)));
+		}
+	}
+
+	/**
+     * Retrieves one page of tasks with a specific status, starting after the given cursor.
+     * @param status The status of the tasks to retrieve.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of Task entities and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<Task> getTaskBystatus(String status, int after, int limit) throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTaskBystatusAfter(status, after, pageOf(limit)));
+		}
+	}
+
+	/**
+     * Retrieves one page of tasks assigned to a specific user, starting after the given cursor.
+     * @param userId The ID of the user whose tasks are to be retrieved.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of Task entities and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<Task> getTasksByUserId(int userId, int after, int limit) throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTasksByUserIdAfter(userId, after, pageOf(limit)));
+		}
+	}
+
+	/**
+     * Retrieves one page of tasks associated with a specific project, starting after the given cursor.
+     * @param projectId The ID of the project whose tasks are to be retrieved.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of Task entities and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<Task> getTasksByProject(int projectId, int after, int limit) throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTasksByProjectAfter(projectId, after, pageOf(limit)));
+		}
+	}
+
+	/**
+     * Retrieves one page of task summaries ordered by task ID, starting after the given cursor.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of TaskSummaryDto and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<TaskSummaryDto> getTaskSummaries(int after, int limit) throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTaskSummariesAfter(after, pageOf(limit)), TaskSummaryDto::getTaskId);
+		}
+	}
+
+	/**
+     * Retrieves one page of summaries of tasks with a specific status, starting after the given cursor.
+     * @param status The status of the tasks to retrieve.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of TaskSummaryDto and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<TaskSummaryDto> getTaskSummariesBystatus(String status, int after, int limit)
+			throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTaskSummariesBystatusAfter(status, after, pageOf(limit)),
+					TaskSummaryDto::getTaskId);
+		}
+	}
+
+	/**
+     * Retrieves one page of summaries of tasks assigned to a specific user, starting after the given cursor.
+     * @param userId The ID of the user whose tasks are to be retrieved.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of TaskSummaryDto and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<TaskSummaryDto> getTaskSummariesByUserId(int userId, int after, int limit)
+			throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTaskSummariesByUserIdAfter(userId, after, pageOf(limit)),
+					TaskSummaryDto::getTaskId);
+		}
+	}
+
+	/**
+     * Retrieves one page of summaries of tasks associated with a specific project, starting after the given cursor.
+     * @param projectId The ID of the project whose tasks are to be retrieved.
+     * @param after The task ID of the last task on the previous page.
+     * @param limit The maximum number of tasks to return.
+     * @return A page of TaskSummaryDto and the cursor for the next page.
+     * @throws TaskListIsEmptyException If no tasks are found.
+     */
+	@Override
+	public CursorPageDto<TaskSummaryDto> getTaskSummariesByProject(int projectId, int after, int limit)
+			throws TaskListIsEmptyException {
+		if (tableExistenceCache.isEmpty(Task.class, taskRepository::existsAny)) {
+			throw new TaskListIsEmptyException("Task list is Empty");
+		} else {
+			return toCursorPage(taskRepository.getTaskSummariesByProjectAfter(projectId, after, pageOf(limit)),
+					TaskSummaryDto::getTaskId);
+		}
+	}
+
+	/**
+     * Writes every task to the given stream as newline-delimited JSON, ordered by task ID.
+     * Tasks are read through a database cursor and detached in batches, so memory use
+     * stays flat regardless of how many tasks are exported.
+     * @param outputStream The stream to write to.
+     * @throws IOException If writing to the stream fails.
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportTasks(OutputStream outputStream) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(Task.class);
+		OutputStream out = new BufferedOutputStream(outputStream);
+		try (Stream<Task> tasks = taskRepository.streamAllTasks()) {
+			Iterator<Task> iterator = tasks.iterator();
+			int written = 0;
+			while (iterator.hasNext()) {
+				out.write(writer.writeValueAsBytes(iterator.next()));
+				out.write('\n');
+				if (++written % EXPORT_CLEAR_INTERVAL == 0) {
+					entityManager.clear();
+				}
+			}
+		}
+		out.flush();
+	}
+
+	// Keyset pages always start at offset 0; the cursor does the seeking.
+	private Pageable pageOf(int limit) {
+		return PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+	}
+
+	private CursorPageDto<Task> toCursorPage(Slice<Task> slice) {
+		return toCursorPage(slice, Task::getTaskId);
+	}
+
+	private <T> CursorPageDto<T> toCursorPage(Slice<T> slice, ToIntFunction<T> taskIdOf) {
+		List<T> items = slice.getContent();
+		Integer nextCursor = slice.hasNext() ? taskIdOf.applyAsInt(items.get(items.size() - 1)) : null;
+		return new CursorPageDto<>(items, nextCursor);
+	}
+
 }
@@ -0,0 +1,96 @@
+package com.example.demo.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders PNG thumbnails with the JDK's ImageIO. Large images are decoded with source
+ * subsampling, at no more than twice the thumbnail size, so memory use depends on the
+ * thumbnail size rather than on the image; images above a pixel limit are refused.
+ */
+@Component
+public class ThumbnailGenerator {
+
+	private final int maxSize;
+
+	private final long maxPixels;
+
+	public ThumbnailGenerator(@Value("${attachment.thumbnail.max-size:256}") int maxSize,
+			@Value("${attachment.thumbnail.max-pixels:100000000}") long maxPixels) {
+		this.maxSize = maxSize;
+		this.maxPixels = maxPixels;
+	}
+
+	/**
+	 * Writes a thumbnail of an image, fitting within the maximum size and keeping its aspect ratio.
+	 * @param source The image file.
+	 * @param target The PNG file to write; replaced atomically.
+	 * @return False if the source is not an image ImageIO can read.
+	 * @throws IOException If the image cannot be decoded or the thumbnail written.
+	 */
+	public boolean generate(Path source, Path target) throws IOException {
+		try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+			Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+			if (readers == null || !readers.hasNext())
+				return false;
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long) width * height > maxPixels)
+					throw new IOException("Image is too large: " + width + "x" + height);
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, Math.max(width, height) / (maxSize * 2));
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				write(scale(reader.read(0, param)), target);
+				return true;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	private BufferedImage scale(BufferedImage image) {
+		double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+		int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+		BufferedImage thumbnail = new BufferedImage(width, height,
+				image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = thumbnail.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return thumbnail;
+	}
+
+	private static void write(BufferedImage thumbnail, Path target) throws IOException {
+		Path temp = Files.createTempFile(target.getParent(), "thumbnail", ".tmp");
+		try {
+			if (!ImageIO.write(thumbnail, "png", temp.toFile()))
+				throw new IOException("No PNG writer available");
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+}
@@ -0,0 +1,182 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.repository.ThumbnailJobRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs thumbnail jobs from the THUMBNAILJOB table on a fixed pool of worker threads.
+ * Jobs are claimed only while the pool's queue has room, so a burst of image uploads
+ * waits in the table instead of in memory. The table is polled when a job is enqueued
+ * or finishes, and on a fixed delay as a fallback; jobs interrupted by a shutdown are
+ * put back to PENDING when the application starts again.
+ */
+@Component
+public class ThumbnailJobRunner {
+
+	private final ThumbnailJobRepository thumbnailJobRepository;
+
+	private final AttachmentContentStore attachmentContentStore;
+
+	private final ThumbnailGenerator thumbnailGenerator;
+
+	private final ThreadPoolExecutor workers;
+
+	private final ExecutorService poller;
+
+	private final AtomicBoolean pollPending = new AtomicBoolean();
+
+	// Serializes polls; a lock rather than a monitor so that a virtual thread blocked on
+	// JDBC while claiming jobs does not pin its carrier
+	private final ReentrantLock pollLock = new ReentrantLock();
+
+	private final int maxAttempts;
+
+	private final Counter generated;
+
+	private final Counter skipped;
+
+	private final Counter failed;
+
+	@Autowired
+	public ThumbnailJobRunner(ThumbnailJobRepository thumbnailJobRepository,
+			AttachmentContentStore attachmentContentStore, ThumbnailGenerator thumbnailGenerator,
+			MeterRegistry meterRegistry,
+			@Value("${attachment.thumbnail.workers:2}") int workerCount,
+			@Value("${attachment.thumbnail.queue-capacity:32}") int queueCapacity,
+			@Value("${attachment.thumbnail.max-attempts:3}") int maxAttempts) {
+		this.thumbnailJobRepository = thumbnailJobRepository;
+		this.attachmentContentStore = attachmentContentStore;
+		this.thumbnailGenerator = thumbnailGenerator;
+		this.maxAttempts = maxAttempts;
+		AtomicInteger workerNumber = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "thumbnail-worker-" + workerNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.poller = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "thumbnail-poller");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.generated = meterRegistry.counter("attachment.thumbnail.jobs", "outcome", "generated");
+		this.skipped = meterRegistry.counter("attachment.thumbnail.jobs", "outcome", "skipped");
+		this.failed = meterRegistry.counter("attachment.thumbnail.jobs", "outcome", "failed");
+	}
+
+	/**
+	 * Requeues jobs left running by the previous run of the application and starts on the backlog.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		thumbnailJobRepository.requeueRunning();
+		requestPoll();
+	}
+
+	/**
+	 * Adds a job for a blob in the current transaction, and starts it once that commits.
+	 * @param contentHash The SHA-256 of an image blob; its ATTACHMENTBLOB row must exist.
+	 */
+	public void enqueue(String contentHash) {
+		thumbnailJobRepository.enqueue(contentHash);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					requestPoll();
+				}
+			});
+		} else {
+			requestPoll();
+		}
+	}
+
+	/**
+	 * Claims as many pending jobs as the worker queue has room for and hands them to the workers.
+	 * @return The number of jobs started.
+	 */
+	@Scheduled(fixedDelayString = "${attachment.thumbnail.poll-interval-ms:5000}")
+	public int poll() {
+		pollLock.lock();
+		try {
+			int room = workers.getQueue().remainingCapacity();
+			int started = 0;
+			if (room == 0 || workers.isShutdown())
+				return started;
+			for (String contentHash : thumbnailJobRepository.findPending(room)) {
+				if (thumbnailJobRepository.claim(contentHash)) {
+					workers.execute(() -> run(contentHash));
+					started++;
+				}
+			}
+			return started;
+		} finally {
+			pollLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// Interrupted jobs stay RUNNING and are requeued at the next startup
+		poller.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	private void requestPoll() {
+		// Polls run on their own thread, outside any transaction of the caller
+		if (!poller.isShutdown() && pollPending.compareAndSet(false, true)) {
+			poller.execute(() -> {
+				pollPending.set(false);
+				poll();
+			});
+		}
+	}
+
+	private void run(String contentHash) {
+		try {
+			Path source = attachmentContentStore.pathOf(contentHash);
+			Path thumbnail = attachmentContentStore.thumbnailPathOf(contentHash);
+			if (Files.isRegularFile(source) && thumbnailGenerator.generate(source, thumbnail)) {
+				// The blob may have been collected while the thumbnail was rendered
+				if (!attachmentContentStore.contains(contentHash))
+					Files.deleteIfExists(thumbnail);
+				thumbnailJobRepository.complete(contentHash, ThumbnailJobRepository.DONE);
+				generated.increment();
+			} else {
+				thumbnailJobRepository.complete(contentHash, ThumbnailJobRepository.SKIPPED);
+				skipped.increment();
+			}
+		} catch (IOException | RuntimeException e) {
+			thumbnailJobRepository.fail(contentHash, e.toString(), maxAttempts);
+			failed.increment();
+		} finally {
+			requestPoll();
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches each user's unread notification count. Writes that change a user's unread
+ * notifications evict the entry once they commit. Misses are loaded outside the cache,
+ * and a load that an eviction overtakes is returned but not cached, both for the same
+ * reasons and in the same way as in {@link CredentialCache}.
+ */
+@Component
+public class UnreadNotificationCountCache {
+
+	static final int GENERATION_STRIPES = 1024;
+
+	private final Cache<Integer, Long> counts;
+
+	private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+	public UnreadNotificationCountCache(@Value("${notification.unread-count-cache.max-size:100000}") long maxSize,
+			@Value("${notification.unread-count-cache.ttl:1m}") Duration ttl) {
+		this.counts = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+	}
+
+	/**
+	 * Returns the cached unread count for a user, loading it on a miss.
+	 * @param userId The ID of the user.
+	 * @param loader Counts the user's unread notifications in the database.
+	 * @return The number of unread notifications.
+	 */
+	public long get(int userId, IntToLongFunction loader) {
+		Long count = counts.getIfPresent(userId);
+		if (count == null) {
+			int stripe = stripe(userId);
+			long generation = generations.get(stripe);
+			Long loaded = loader.applyAsLong(userId);
+			// Checked under the entry's lock, which an eviction's invalidate also takes
+			counts.asMap().compute(userId, (id, cached) -> generations.get(stripe) == generation ? loaded : cached);
+			count = loaded;
+		}
+		return count;
+	}
+
+	/**
+	 * Removes a user's cached count once the current transaction commits, or right away
+	 * if there is none.
+	 * @param userId The ID of the user.
+	 */
+	public void evict(int userId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(userId);
+				}
+			});
+		} else {
+			invalidate(userId);
+		}
+	}
+
+	/**
+	 * Removes every cached count.
+	 */
+	public void clear() {
+		for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++)
+			generations.incrementAndGet(stripe);
+		counts.invalidateAll();
+	}
+
+	private void invalidate(int userId) {
+		generations.incrementAndGet(stripe(userId));
+		counts.invalidate(userId);
+	}
+
+	private static int stripe(int userId) {
+		return Math.floorMod(userId, GENERATION_STRIPES);
+	}
+
+}
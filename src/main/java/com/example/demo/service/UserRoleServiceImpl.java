@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.entity.User;
 import com.example.demo.entity.UserRole;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.exception.UserListIsEmptyException;
@@ -25,6 +26,9 @@ public class UserRoleServiceImpl implements UserRoleService {
 	@Autowired
 	UserRepository userRepository;
 
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
 	/**
      * Creates a new user role if it does not already exist.
      * @param userRole The UserRole entity to create.
@@ -34,8 +38,11 @@ public class UserRoleServiceImpl implements UserRoleService {
 	public UserRole createANewUserRole(UserRole userRole) throws UserRoleAlreadyExistsException {
 		if (userRoleRepository.findById(userRole.getUserRoleId()).isPresent())
 			throw new UserRoleAlreadyExistsException("UserRole already exist");
-		else
-			return userRoleRepository.save(userRole);
+		else {
+			UserRole savedUserRole = userRoleRepository.save(userRole);
+			tableExistenceCache.markInserted(UserRole.class);
+			return savedUserRole;
+		}
 	}
 
 	/**
@@ -44,10 +51,11 @@ public class UserRoleServiceImpl implements UserRoleService {
      * @throws UserRoleListIsEmptyException If no user roles are found.
      */
 	public List<UserRole> getListOfAllUserRoles() throws UserRoleListIsEmptyException {
-		if (userRoleRepository.findAll().isEmpty())
+		List<UserRole> userRoles = userRoleRepository.findAll();
+		if (userRoles.isEmpty())
 			throw new UserRoleListIsEmptyException("UserRole list is empty");
 		else
-			return userRoleRepository.findAll();
+			return userRoles;
 	}
 
 	/**
@@ -57,10 +65,8 @@ public class UserRoleServiceImpl implements UserRoleService {
      * @throws UserRoleDoesNotExistException If no user role with the given ID is found.
      */
 	public UserRole getUserRoleById(int userRoleId) throws UserRoleDoesNotExistException {
-		if (userRoleRepository.findById(userRoleId).isEmpty())
-			throw new UserRoleDoesNotExistException("UserRole doesn't exist");
-		else
-			return userRoleRepository.getUserRoleById(userRoleId);
+		return userRoleRepository.findById(userRoleId)
+				.orElseThrow(() -> new UserRoleDoesNotExistException("UserRole doesn't exist"));
 	}
 
 	/**
@@ -74,11 +80,8 @@ public class UserRoleServiceImpl implements UserRoleService {
 			throws UserRoleDoesNotExistException {
 		if (userRoleRepository.findById(userRoleId).isEmpty())
 			throw new UserRoleDoesNotExistException("UserRole doesn't exist");
-		else {
-			UserRole userRole = userRoleRepository.findById(userRoleId).get();
-			userRole = updatedUserRole;
-			return userRoleRepository.save(userRole);
-		}
+		else
+			return userRoleRepository.save(updatedUserRole);
 	}
 
 	/**
@@ -88,14 +91,11 @@ public class UserRoleServiceImpl implements UserRoleService {
      * @throws UserRoleDoesNotExistException If no user role with the given ID is found.
      */
 	public UserRole deleteUserRoleByUserRoleId(int userRoleId) throws UserRoleDoesNotExistException {
-		if (userRoleRepository.findById(userRoleId).isEmpty())
-			throw new UserRoleDoesNotExistException("UserRole doesn't exist");
-		else {
-			UserRole userRole = userRoleRepository.findById(userRoleId).get();
-			userRoleRepository.deleteById(userRoleId);
-			;
-			return userRole;
-		}
+		UserRole userRole = userRoleRepository.findById(userRoleId)
+				.orElseThrow(() -> new UserRoleDoesNotExistException("UserRole doesn't exist"));
+		userRoleRepository.deleteById(userRoleId);
+		tableExistenceCache.invalidate();
+		return userRole;
 	}
 
 	/**
@@ -122,9 +122,9 @@ public class UserRoleServiceImpl implements UserRoleService {
      * @throws UserListIsEmptyException If no users are found.
      */
 	public List<Object[]> findAllUserRolesAssociations() throws UserRoleListIsEmptyException, UserListIsEmptyException {
-		if (userRoleRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(UserRole.class, userRoleRepository::existsAny))
 			throw new UserRoleListIsEmptyException("Userrole list is empty");
-		else if (userRepository.findAll().isEmpty())
+		else if (tableExistenceCache.isEmpty(User.class, userRepository::existsAny))
 			throw new UserListIsEmptyException("User list is empty");
 		else {
 			List<Object[]> userRolesAssociations = userRoleRepository.findAllUserRolesAssociations();
@@ -141,7 +141,7 @@ public class UserRoleServiceImpl implements UserRoleService {
      */
 	public List<Object[]> getAllRolesForASpecificUser(int userId)
 			throws UserDoesNotExistException, UserRoleListIsEmptyException {
-		if (userRoleRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(UserRole.class, userRoleRepository::existsAny))
 			throw new UserRoleListIsEmptyException("Userrole list is empty");
 		else if (userRepository.findById(userId).isEmpty())
 			throw new UserDoesNotExistException("User doesn't exist");
@@ -161,7 +161,7 @@ public class UserRoleServiceImpl implements UserRoleService {
      */
 	public void revokeUserRoleFromUser(int userRoleId, int userId)
 			throws UserDoesNotExistException, UserRoleListIsEmptyException, UserRoleDoesNotExistException {
-		if (userRoleRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(UserRole.class, userRoleRepository::existsAny))
 			throw new UserRoleListIsEmptyException("Userrole list is empty");
 		else if (userRoleRepository.findById(userRoleId).isEmpty())
 			throw new UserRoleDoesNotExistException("Userrole does't exist");
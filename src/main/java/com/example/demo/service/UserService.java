@@ -24,6 +24,8 @@ public interface UserService {
 	List<User> getUsersByFullName(String fullName) throws UserDoesNotExistException;
 
 	List<User> getUsersWithMostTasks() throws UserListIsEmptyException;
+
+	List<User> getTopUsersByTaskCount(int limit) throws UserListIsEmptyException;
 	
 	int getUserIdByUserName( String userName) throws UserDoesNotExistException;
 
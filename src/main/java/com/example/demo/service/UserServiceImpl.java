@@ -1,8 +1,11 @@
 package com.example.demo.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.example.demo.dto.UserUserRoleDto;
@@ -22,12 +25,29 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class UserServiceImpl implements UserService {
 
+	static final int MAX_TOP_USERS = 500;
+
 	@Autowired
 	UserRepository userRepository;
 
 	@Autowired
 	UserRoleRepository userRoleRepository;
 
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	CredentialCache credentialCache;
+
+	@Autowired
+	PasswordHasher passwordHasher;
+
+	@Autowired
+	ProjectStatisticsService projectStatisticsService;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
 	/**
      * Creates a new user if it does not already exist.
      * @param user The User entity to create.
@@ -37,8 +57,12 @@ public class UserServiceImpl implements UserService {
 	public User createANewUser(User user) throws UserAlreadyExistsException {
 		if (userRepository.findById(user.getUserId()).isPresent())
 			throw new UserAlreadyExistsException("User already exist");
-		else
-			return userRepository.save(user);
+		else {
+			user.setPassword(passwordHasher.hash(user.getPassword()));
+			User savedUser = userRepository.save(user);
+			tableExistenceCache.markInserted(User.class);
+			return savedUser;
+		}
 	}
 
 	/**
@@ -47,10 +71,11 @@ public class UserServiceImpl implements UserService {
      * @throws UserListIsEmptyException If no users are found.
      */
 	public List<User> getListOfAllUsers() throws UserListIsEmptyException {
-		if (userRepository.findAll().isEmpty())
+		List<User> users = userRepository.findAll();
+		if (users.isEmpty())
 			throw new UserListIsEmptyException("User list is empty");
 		else
-			return userRepository.findAll();
+			return users;
 	}
 
 	/**
@@ -60,23 +85,22 @@ public class UserServiceImpl implements UserService {
      * @throws UserDoesNotExistException If no user with the given ID is found.
      */
 	public User getDetailsOfSpecificUserById(int userId) throws UserDoesNotExistException {
-		if (userRepository.findById(userId).isEmpty())
-			throw new UserDoesNotExistException("User doesn't exist");
-		else
-			return userRepository.getDetailsOfSpecificUserById(userId);
+		return userRepository.findById(userId)
+				.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
 	}
 
 	 /**
      * Retrieves a list of users with a specific email domain.
-     * @param domain The email domain to search for.
+     * @param domain The email domain to search for, with or without a leading '@'; matching is case-insensitive.
      * @return A list of User entities with the specified email domain.
      * @throws UserDoesNotExistException If no users with the given email domain are found.
      */
 	public List<User> getUsersWithSpecificEmailDomain(String domain) throws UserDoesNotExistException {
-		if (userRepository.getUsersWithSpecificEmailDomain(domain).isEmpty())
+		List<User> users = userRepository.getUsersWithSpecificEmailDomain(User.domainOf(domain));
+		if (users.isEmpty())
 			throw new UserDoesNotExistException("User doesn't exist");
 		else
-			return userRepository.getUsersWithSpecificEmailDomain(domain);
+			return users;
 	}
 
 	/**
@@ -86,10 +110,11 @@ public class UserServiceImpl implements UserService {
      * @throws UserDoesNotExistException If no users with the given full name are found.
      */
 	public List<User> getUsersByFullName(String fullName) throws UserDoesNotExistException {
-		if (userRepository.getUsersByFullName(fullName).isEmpty())
+		List<User> users = userRepository.getUsersByFullName(fullName);
+		if (users.isEmpty())
 			throw new UserDoesNotExistException("User doesn't exist");
 		else
-			return userRepository.getUsersByFullName(fullName);
+			return users;
 	}
 
 	 /**
@@ -98,12 +123,25 @@ public class UserServiceImpl implements UserService {
      * @throws UserListIsEmptyException If no users are found.
      */
 	public List<User> getUsersWithMostTasks() throws UserListIsEmptyException {
-		if (userRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(User.class, userRepository::existsAny))
 			throw new UserListIsEmptyException("User list is empty");
 		else
 			return userRepository.getUsersWithMostTasks();
 	}
 
+	/**
+     * Retrieves the users with the most tasks, highest task count first.
+     * @param limit The number of users to return, capped at {@value #MAX_TOP_USERS}.
+     * @return A list of User entities ordered by task count.
+     * @throws UserListIsEmptyException If no users are found.
+     */
+	public List<User> getTopUsersByTaskCount(int limit) throws UserListIsEmptyException {
+		if (tableExistenceCache.isEmpty(User.class, userRepository::existsAny))
+			throw new UserListIsEmptyException("User list is empty");
+		else
+			return userRepository.getTopUsersByTaskCount(PageRequest.of(0, Math.min(Math.max(limit, 1), MAX_TOP_USERS)));
+	}
+
 	/**
      * Updates the details of an existing user.
      * @param userId The ID of the user to update.
@@ -112,13 +150,13 @@ public class UserServiceImpl implements UserService {
      * @throws UserDoesNotExistException If no user with the given ID is found.
      */
 	public User updateUserDetailsByUserId(int userId, User updatedUser) throws UserDoesNotExistException {
-		if (userRepository.findById(userId).isEmpty())
-			throw new UserDoesNotExistException("User doesn't exist");
-		else {
-			User user = userRepository.findById(userId).get();
-			user = updatedUser;
-			return userRepository.save(user);
-		}
+		User user = userRepository.findById(userId)
+				.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
+		if (!passwordHasher.isHashed(updatedUser.getPassword()))
+			updatedUser.setPassword(passwordHasher.hash(updatedUser.getPassword()));
+		credentialCache.evict(user.getUserName());
+		credentialCache.evict(updatedUser.getUserName());
+		return userRepository.save(updatedUser);
 	}
 
 	/**
@@ -127,12 +165,15 @@ public class UserServiceImpl implements UserService {
      * @throws UserDoesNotExistException If no user with the given ID is found.
      */
 	public void deleteUserByUserId(int userId) throws UserDoesNotExistException {
-		if (userRepository.findById(userId).isEmpty())
-			throw new UserDoesNotExistException("User doesn't exist");
-		else {
-			User user = userRepository.findById(userId).get();
-			userRepository.deleteById(userId);
-		}
+		User user = userRepository.findById(userId)
+				.orElseThrow(() -> new UserDoesNotExistException("User doesn't exist"));
+		// Tasks of other users in this user's projects go with it through the cascade
+		userRepository.decrementTaskCountsForProjectsOfUser(userId);
+		projectStatisticsService.userRemoved(userId);
+		searchIndexer.recordCascadeOfUser(userId);
+		userRepository.deleteById(userId);
+		credentialCache.evict(user.getUserName());
+		tableExistenceCache.invalidate();
 	}
 
 	/**
@@ -141,7 +182,7 @@ public class UserServiceImpl implements UserService {
      * @throws UserListIsEmptyException If no users are found.
      */
 	public List<User> getUserWithCompletedTasks() throws UserListIsEmptyException {
-		if (userRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(User.class, userRepository::existsAny))
 			throw new UserListIsEmptyException("User list is empty");
 		else
 			return userRepository.getUserWithCompletedTasks();
@@ -155,14 +196,27 @@ public class UserServiceImpl implements UserService {
      * @throws UserDoesNotExistException If the user does not exist.
      * @throws InvalidUserException If the password is incorrect.
      */
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	public boolean authenticateUser(String userName, String password)
 			throws UserDoesNotExistException, InvalidUserException {
-		if (userRepository.findByUserName(userName) == null)
+		CredentialCache.Credential credential = credentialCache.get(userName, this::loadCredential);
+		if (credential == null)
 			throw new UserDoesNotExistException("User doesn't exist");
-		else if (!userRepository.findByUserName(userName).getPassword().equals(password))
+		else if (!passwordHasher.matches(password, credential.getPassword()))
 			throw new InvalidUserException("Invalid password");
-		else
+		else {
+			if (passwordHasher.needsRehash(credential.getPassword())) {
+				String hash = passwordHasher.hash(password);
+				userRepository.updatePassword(credential.getUserId(), hash);
+				credentialCache.put(userName, new CredentialCache.Credential(credential.getUserId(), hash));
+			}
 			return true;
+		}
+	}
+
+	private CredentialCache.Credential loadCredential(String userName) {
+		User user = userRepository.findByUserName(userName);
+		return user == null ? null : new CredentialCache.Credential(user.getUserId(), user.getPassword());
 	}
 
 	/**
@@ -213,23 +267,21 @@ public class UserServiceImpl implements UserService {
      */
 	public List<UserUserRoleDto> getAllUserWithUserRole()
 			throws UserListIsEmptyException, UserRoleListIsEmptyException {
-		if (userRepository.findAll().isEmpty())
+		if (tableExistenceCache.isEmpty(User.class, userRepository::existsAny))
 			throw new UserListIsEmptyException("User list is empty");
-		else if (userRoleRepository.findAll().isEmpty())
+		else if (tableExistenceCache.isEmpty(UserRole.class, userRoleRepository::existsAny))
 			throw new UserRoleListIsEmptyException("User Role list is empty");
 		else {
 			List<Object[]> results = userRepository.getAllUserWithUserRole();
-			List<UserUserRoleDto> userUserRoleDtos = new ArrayList<>();
+			Map<Integer, UserUserRoleDto> userUserRoleDtos = new LinkedHashMap<>();
 
 			for (Object[] result : results) {
 				int userId = (int) result[0];
-				String fullName = (String) result[1];
-				String email = (String) result[2];
-				List<String> roleName = userRoleRepository.getAllUserRoleNameWithUserId(userId);
-				UserUserRoleDto dto = new UserUserRoleDto(userId, fullName, email, roleName);
-				userUserRoleDtos.add(dto);
+				UserUserRoleDto dto = userUserRoleDtos.computeIfAbsent(userId,
+						id -> new UserUserRoleDto(id, (String) result[1], (String) result[2], new ArrayList<>()));
+				dto.getRoleName().add((String) result[3]);
 			}
-			return userUserRoleDtos;
+			return new ArrayList<>(userUserRoleDtos.values());
 		}
 	}
 
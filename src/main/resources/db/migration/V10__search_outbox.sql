@@ -0,0 +1,3 @@
+-- Changes to rows the search index is built from, written in the same transaction as the
+-- change. The indexer deletes a row only after the index commit that includes it.
+create table searchoutbox (outboxid bigint not null auto_increment, entitytype varchar(20) not null, entityid integer not null, createdat datetime(6) not null, primary key (outboxid)) engine=InnoDB;
@@ -0,0 +1,24 @@
+-- Baseline schema, matching the tables Hibernate generated from the entities.
+-- Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate), so this only runs on an empty schema.
+
+create table attachment (attachmentid integer not null, taskid integer, filename varchar(300) not null, filepath varchar(255) not null, primary key (attachmentid)) engine=InnoDB;
+create table category (categoryid integer not null, categoryname varchar(255) not null, primary key (categoryid)) engine=InnoDB;
+create table comment (commentid integer not null, taskid integer, userid integer, createdat datetime(6) not null, text TEXT not null, primary key (commentid)) engine=InnoDB;
+create table notification (notificationid integer not null, userid integer, createdat datetime(6) not null, text varchar(1000) not null, primary key (notificationid)) engine=InnoDB;
+create table project (enddate date not null, projectid integer not null, startdate date not null, userid integer, projectname varchar(100) not null, description TEXT not null, primary key (projectid)) engine=InnoDB;
+create table task (duedate date, projectid integer, taskid integer not null, userid integer, taskname varchar(100) not null, description TEXT, priority varchar(255), status varchar(255), primary key (taskid)) engine=InnoDB;
+create table taskcategory (categoryid integer not null, taskid integer not null) engine=InnoDB;
+create table user (userid integer not null, username varchar(15) not null, fullname varchar(20) not null, email varchar(255) not null, password varchar(255) not null, primary key (userid)) engine=InnoDB;
+create table userrole (userroleid integer not null, rolename varchar(40) not null, primary key (userroleid)) engine=InnoDB;
+create table userroles (userid integer not null, userroleid integer not null) engine=InnoDB;
+alter table attachment add constraint FK1xovyufb8el2vc7woppsfjp5w foreign key (taskid) references task (taskid);
+alter table comment add constraint FKhy6ip6dl3d7d2chcb6ir05pmq foreign key (taskid) references task (taskid);
+alter table comment add constraint FKe7pshbkin4984x23q4wboi5ka foreign key (userid) references user (userid);
+alter table notification add constraint FK2kcyyi3inwcr0sflvdi14vnwa foreign key (userid) references user (userid);
+alter table project add constraint FK7phssgir0yf53ce2gfrgssase foreign key (userid) references user (userid);
+alter table task add constraint FKeigsek6fe3588r1fypm4ed6u5 foreign key (projectid) references project (projectid);
+alter table task add constraint FK2sn1rhri2ivhoe1y2gy869mot foreign key (userid) references user (userid);
+alter table taskcategory add constraint FKmjbfnc6gbrlu86nmo0qyh2phe foreign key (taskid) references task (taskid);
+alter table taskcategory add constraint FK68wh3lk3t0c8c70f8r606du34 foreign key (categoryid) references category (categoryid);
+alter table userroles add constraint FKgq2lpyt6p1vwy06dudi9sh80e foreign key (userid) references user (userid);
+alter table userroles add constraint FKp283yvu0vv2rlrsg9cha7nhw1 foreign key (userroleid) references userrole (userroleid);
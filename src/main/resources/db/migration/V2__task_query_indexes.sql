@@ -0,0 +1,7 @@
+-- Indexes for the TaskRepository filters: user + status, project, overdue / due-soon
+-- date ranges, status (keyset pages order by taskid) and priority.
+create index idx_task_userid_status on task (userid, status);
+create index idx_task_projectid on task (projectid);
+create index idx_task_duedate_status on task (duedate, status);
+create index idx_task_status on task (status, taskid);
+create index idx_task_priority on task (priority);
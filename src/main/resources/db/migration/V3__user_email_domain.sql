@@ -0,0 +1,5 @@
+-- Email domain lookups: store the lower-cased domain in its own indexed column
+-- (kept up to date by the User entity) and backfill existing rows.
+alter table user add column emaildomain varchar(255);
+update user set emaildomain = lower(substring(email, locate('@', email) + 1)) where email is not null;
+create index idx_user_emaildomain on user (emaildomain);
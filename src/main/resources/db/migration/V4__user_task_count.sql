@@ -0,0 +1,5 @@
+-- Per-user task counter for the most-tasks leaderboard, maintained by the task
+-- service and reconciled periodically; backfilled here from the TASK table.
+alter table user add column taskcount integer default 0 not null;
+update user u set taskcount = (select count(*) from task t where t.userid = u.userid);
+create index idx_user_taskcount on user (taskcount desc, userid desc);
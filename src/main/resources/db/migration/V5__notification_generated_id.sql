@@ -0,0 +1,3 @@
+-- Let the database assign notification IDs so fanned-out notifications can be batch inserted
+-- without the caller picking IDs. Explicit IDs from POST /api/notifications/post still work.
+alter table notification modify notificationid integer not null auto_increment;
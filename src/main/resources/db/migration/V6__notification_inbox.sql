@@ -0,0 +1,4 @@
+-- Read flag for the notification inbox, and an index that serves the unread-first,
+-- newest-first inbox pages and the per-user unread count without sorting.
+alter table notification add column isread boolean default false not null;
+create index idx_notification_inbox on notification (userid, isread, createdat desc, notificationid desc);
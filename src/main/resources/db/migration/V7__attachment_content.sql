@@ -0,0 +1,6 @@
+-- Attachment content lives in the local content store, addressed by its SHA-256;
+-- these columns describe the stored bytes (null until content is uploaded).
+alter table attachment add column contenthash varchar(64);
+alter table attachment add column contentlength bigint;
+alter table attachment add column contenttype varchar(255);
+alter table attachment add column contentupdatedat datetime(6);
@@ -0,0 +1,7 @@
+-- One row per distinct attachment content in the content store, with the number of
+-- attachments referencing it; content whose count drops to 0 is deleted from disk.
+create table attachmentblob (contenthash varchar(64) not null, contentlength bigint not null, refcount integer not null, updatedat datetime(6) not null, primary key (contenthash)) engine=InnoDB;
+create index idx_attachmentblob_refcount on attachmentblob (refcount, updatedat);
+insert into attachmentblob (contenthash, contentlength, refcount, updatedat)
+select contenthash, max(contentlength), count(*), current_timestamp from attachment where contenthash is not null group by contenthash;
+create index idx_attachment_contenthash on attachment (contenthash);
@@ -0,0 +1,5 @@
+-- Thumbnail generation jobs, one per image blob. Jobs left RUNNING by a stopped
+-- application are put back to PENDING at startup; the row goes with its blob.
+create table thumbnailjob (contenthash varchar(64) not null, status varchar(20) not null, attempts integer default 0 not null, lasterror varchar(1000), updatedat datetime(6) not null, primary key (contenthash)) engine=InnoDB;
+alter table thumbnailjob add constraint fk_thumbnailjob_blob foreign key (contenthash) references attachmentblob (contenthash) on delete cascade;
+create index idx_thumbnailjob_status on thumbnailjob (status, updatedat);
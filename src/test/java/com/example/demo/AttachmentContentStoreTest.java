@@ -0,0 +1,93 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.service.AttachmentContentStore;
+import com.example.demo.service.AttachmentContentStore.StagedContent;
+
+class AttachmentContentStoreTest {
+
+    // SHA-256 of "hello"
+    private static final String HELLO_SHA256 = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path root;
+
+    private AttachmentContentStore attachmentContentStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        attachmentContentStore = new AttachmentContentStore(root);
+    }
+
+    private StagedContent store(String content) throws IOException {
+        try (StagedContent staged = attachmentContentStore.stage(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            attachmentContentStore.publish(staged);
+            return staged;
+        }
+    }
+
+    @Test
+    void testStoreNamesFileBySha256() throws IOException {
+        StagedContent stored = store("hello");
+
+        assertEquals(HELLO_SHA256, stored.getHash());
+        assertEquals(5, stored.getLength());
+        Path path = attachmentContentStore.pathOf(HELLO_SHA256);
+        assertEquals(root.resolve("2c").resolve("f2").resolve(HELLO_SHA256), path);
+        assertEquals("hello", Files.readString(path));
+        assertTrue(attachmentContentStore.contains(HELLO_SHA256));
+    }
+
+    @Test
+    void testStoringSameContentTwiceKeepsOneFile() throws IOException {
+        store("hello");
+        store("hello");
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testUnpublishedContentIsRemovedOnClose() throws IOException {
+        try (StagedContent staged = attachmentContentStore.stage(new ByteArrayInputStream(new byte[] { 1, 2, 3 }))) {
+            assertEquals(3, staged.getLength());
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testDeleteAndListStored() throws IOException {
+        store("hello");
+        assertEquals(List.of(), attachmentContentStore.listStoredBefore(Instant.now().minusSeconds(60)));
+        assertEquals(List.of(HELLO_SHA256), attachmentContentStore.listStoredBefore(Instant.now().plusSeconds(60)));
+
+        assertTrue(attachmentContentStore.delete(HELLO_SHA256));
+        assertFalse(attachmentContentStore.contains(HELLO_SHA256));
+        assertFalse(attachmentContentStore.delete(HELLO_SHA256));
+    }
+
+    @Test
+    void testPathOfRejectsNonHash() {
+        assertThrows(IllegalArgumentException.class, () -> attachmentContentStore.pathOf("../../etc/passwd"));
+        assertFalse(attachmentContentStore.contains("0".repeat(64)));
+    }
+
+}
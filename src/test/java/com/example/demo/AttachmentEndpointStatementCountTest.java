@@ -0,0 +1,324 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.service.AttachmentBlobCollector;
+import com.example.demo.service.AttachmentContentStore;
+import com.example.demo.service.AttachmentService;
+import com.example.demo.service.ThumbnailJobRunner;
+
+/**
+ * Statement-count bounds for the /api/attachments endpoints.
+ */
+class AttachmentEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> attachment(int attachmentId, int taskId) {
+		return Map.of("attachmentId", attachmentId, "fileName", "file" + attachmentId + ".txt",
+				"filePath", "/files/file" + attachmentId + ".txt", "taskId", taskId);
+	}
+
+	@Test
+	void createAttachment() throws Exception {
+		assertStatements(4, json(post("/api/attachments/post"), attachment(3, 3))).andExpect(status().isCreated());
+	}
+
+	@Test
+	void getAllAttachments() throws Exception {
+		assertStatements(3, get("/api/attachments/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAttachmentById() throws Exception {
+		assertStatements(1, get("/api/attachments/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAttachmentsByTaskId() throws Exception {
+		assertStatements(3, get("/api/attachments/bytaskId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateAttachment() throws Exception {
+		assertStatements(3, json(put("/api/attachments/update/1"), attachment(1, 2))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteAttachment() throws Exception {
+		assertStatements(2, delete("/api/attachments/delete/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllAttachmentIds() throws Exception {
+		assertStatements(1, get("/api/attachments/allattachmentIds")).andExpect(status().isOk());
+	}
+
+	private static final byte[] CONTENT = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+	// SHA-256 of CONTENT
+	private static final String ETAG = "\"9f9f5111f7b27a781f1f1ddde5ebc2dd2b796bfc7365c9c28b548e564176929f\"";
+
+	private static final String HASH = ETAG.replace("\"", "");
+
+	@Autowired
+	AttachmentContentStore attachmentContentStore;
+
+	@Autowired
+	AttachmentBlobCollector attachmentBlobCollector;
+
+	@Autowired
+	ThumbnailJobRunner thumbnailJobRunner;
+
+	@Autowired
+	AttachmentService attachmentService;
+
+	private void upload() throws Exception {
+		upload(1, CONTENT);
+	}
+
+	private void upload(int attachmentId, byte[] content) throws Exception {
+		mockMvc.perform(put("/api/attachments/" + attachmentId + "/content").contentType("text/plain").content(content))
+				.andExpect(status().isOk());
+	}
+
+	private Integer refCount(String hash) {
+		return jdbcTemplate.query("select refcount from attachmentblob where contenthash = ?",
+				rs -> rs.next() ? rs.getInt(1) : null, hash);
+	}
+
+	@Test
+	void uploadContent() throws Exception {
+		assertStatements(3, multipart("/api/attachments/1/content")
+				.file(new MockMultipartFile("file", "spec.pdf", "application/pdf", CONTENT)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.contentHash").value(ETAG.replace("\"", "")))
+				.andExpect(jsonPath("$.contentLength").value(16))
+				.andExpect(jsonPath("$.contentType").value("application/pdf"));
+	}
+
+	@Test
+	void uploadRawContent() throws Exception {
+		assertStatements(3, put("/api/attachments/1/content").contentType("text/plain").content(CONTENT))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.contentLength").value(16));
+	}
+
+	@Test
+	void uploadIsStagedOutsideTheTransaction() throws Exception {
+		boolean[] readInTransaction = { false };
+		ByteArrayInputStream content = new ByteArrayInputStream(CONTENT) {
+			@Override
+			public synchronized int read(byte[] buffer, int offset, int length) {
+				readInTransaction[0] |= TransactionSynchronizationManager.isActualTransactionActive();
+				return super.read(buffer, offset, length);
+			}
+		};
+		assertEquals(HASH, attachmentService.storeContent(1, "text/plain", content).getContentHash());
+		assertFalse(readInTransaction[0]);
+		assertEquals(1, refCount(HASH));
+	}
+
+	@Test
+	void uploadToMissingAttachmentStoresNothing() throws Exception {
+		mockMvc.perform(put("/api/attachments/99/content").contentType("text/plain").content(CONTENT))
+				.andExpect(status().isNotFound());
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from attachmentblob", Integer.class));
+	}
+
+	@Test
+	void updateAttachmentKeepsContent() throws Exception {
+		upload();
+		mockMvc.perform(json(put("/api/attachments/update/1"), attachment(1, 2))).andExpect(status().isOk());
+		mockMvc.perform(get("/api/attachments/1/content")).andExpect(status().isOk());
+	}
+
+	@Test
+	void downloadContent() throws Exception {
+		upload();
+		assertStatements(1, get("/api/attachments/1/content"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ETAG))
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"spec.pdf\""))
+				.andExpect(content().contentTypeCompatibleWith("text/plain"))
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void downloadContentRange() throws Exception {
+		upload();
+		mockMvc.perform(get("/api/attachments/1/content").header(HttpHeaders.RANGE, "bytes=4-7"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 4-7/16"))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+				.andExpect(content().string("4567"));
+		mockMvc.perform(get("/api/attachments/1/content").header(HttpHeaders.RANGE, "bytes=-3"))
+				.andExpect(status().isPartialContent())
+				.andExpect(content().string("def"));
+		mockMvc.perform(get("/api/attachments/1/content").header(HttpHeaders.RANGE, "bytes=16-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */16"));
+		// A stale If-Range validator gets the whole, current content
+		mockMvc.perform(get("/api/attachments/1/content").header(HttpHeaders.RANGE, "bytes=4-7")
+				.header(HttpHeaders.IF_RANGE, "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void downloadContentNotModified() throws Exception {
+		upload();
+		assertStatements(1, get("/api/attachments/1/content").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void downloadContentWithoutUpload() throws Exception {
+		assertStatements(1, get("/api/attachments/2/content")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void identicalContentIsStoredOnce() throws Exception {
+		upload(1, CONTENT);
+		upload(2, CONTENT);
+		assertEquals(2, refCount(HASH));
+
+		mockMvc.perform(delete("/api/attachments/delete/1")).andExpect(status().isOk());
+		assertEquals(1, refCount(HASH));
+		assertTrue(attachmentContentStore.contains(HASH));
+
+		mockMvc.perform(delete("/api/attachments/delete/2")).andExpect(status().isOk());
+		assertNull(refCount(HASH));
+	}
+
+	@Test
+	void replacedContentIsCollected() throws Exception {
+		upload(1, CONTENT);
+		upload(1, "other".getBytes(StandardCharsets.UTF_8));
+		assertNull(refCount(HASH));
+	}
+
+	@Test
+	void linkContent() throws Exception {
+		upload(1, CONTENT);
+		assertStatements(4, put("/api/attachments/2/content/" + HASH).contentType("text/plain"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.contentLength").value(16));
+		assertEquals(2, refCount(HASH));
+		mockMvc.perform(get("/api/attachments/2/content")).andExpect(content().bytes(CONTENT));
+	}
+
+	@Test
+	void linkUnknownContent() throws Exception {
+		assertStatements(2, put("/api/attachments/2/content/" + "0".repeat(64))).andExpect(status().isNotFound());
+		mockMvc.perform(put("/api/attachments/2/content/not-a-hash")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void deleteAttachmentsByTaskId() throws Exception {
+		upload(1, CONTENT);
+		assertStatements(4, delete("/api/attachments/bytaskId/1")).andExpect(status().isOk());
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from attachment", Integer.class));
+		assertNull(refCount(HASH));
+	}
+
+	@Test
+	void sweepCollectsDriftedAndOrphanedContent() throws Exception {
+		upload(1, CONTENT);
+		// Removed behind the service's back, so the reference count is stale
+		jdbcTemplate.update("update attachment set contenthash = null where attachmentid = 1");
+		try (AttachmentContentStore.StagedContent orphan = attachmentContentStore
+				.stage(new ByteArrayInputStream("orphan".getBytes(StandardCharsets.UTF_8)))) {
+			attachmentContentStore.publish(orphan);
+			Thread.sleep(20);
+			attachmentBlobCollector.sweep();
+			assertFalse(attachmentContentStore.contains(orphan.getHash()));
+		}
+		assertNull(refCount(HASH));
+	}
+
+	private static byte[] png(int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+
+	private String awaitThumbnailJob(String hash) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		String status = null;
+		while (System.currentTimeMillis() < deadline) {
+			status = jdbcTemplate.query("select status from thumbnailjob where contenthash = ?",
+					rs -> rs.next() ? rs.getString(1) : null, hash);
+			if (!"PENDING".equals(status) && !"RUNNING".equals(status))
+				break;
+			Thread.sleep(20);
+		}
+		return status;
+	}
+
+	@Test
+	void getThumbnail() throws Exception {
+		String hash = objectMapper.readTree(mockMvc.perform(put("/api/attachments/1/content").contentType("image/png")
+				.content(png(1024, 512))).andReturn().getResponse().getContentAsString()).get("contentHash").asText();
+		assertEquals("DONE", awaitThumbnailJob(hash));
+
+		byte[] thumbnail = assertStatements(0, get("/api/attachments/thumbnails/" + hash))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/png"))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + hash + "\""))
+				.andReturn().getResponse().getContentAsByteArray();
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+		assertEquals(256, image.getWidth());
+		assertEquals(128, image.getHeight());
+
+		mockMvc.perform(get("/api/attachments/thumbnails/" + hash).header(HttpHeaders.IF_NONE_MATCH, "\"" + hash + "\""))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void getThumbnailOfNonImage() throws Exception {
+		upload(1, CONTENT);
+		assertNull(jdbcTemplate.query("select status from thumbnailjob where contenthash = ?",
+				rs -> rs.next() ? rs.getString(1) : null, HASH));
+		assertStatements(0, get("/api/attachments/thumbnails/" + HASH)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void interruptedThumbnailJobResumesAtStartup() throws Exception {
+		String hash;
+		try (AttachmentContentStore.StagedContent staged = attachmentContentStore.stage(new ByteArrayInputStream(png(64, 64)))) {
+			attachmentContentStore.publish(staged);
+			hash = staged.getHash();
+		}
+		// Left over from an earlier test run on the same store
+		Files.deleteIfExists(attachmentContentStore.thumbnailPathOf(hash));
+		// As left by an application stopped mid-job
+		jdbcTemplate.update("insert into attachmentblob (contenthash, contentlength, refcount, updatedat) values (?, 1, 1, current_timestamp)", hash);
+		jdbcTemplate.update("insert into thumbnailjob (contenthash, status, attempts, updatedat) values (?, 'RUNNING', 0, current_timestamp)", hash);
+
+		thumbnailJobRunner.onApplicationReady();
+
+		assertEquals("DONE", awaitThumbnailJob(hash));
+		assertTrue(Files.isRegularFile(attachmentContentStore.thumbnailPathOf(hash)));
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.example.demo;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/category, /api/taskcategories and /api/cache endpoints.
+ */
+class CategoryEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	@Test
+	void getAllCategories() throws Exception {
+		assertStatements(1, get("/api/category/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getCategoryById() throws Exception {
+		assertStatements(1, get("/api/category/1")).andExpect(status().isOk());
+		// Categories are served from the second-level cache after the first read
+		assertStatements(0, get("/api/category/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void createCategory() throws Exception {
+		assertStatements(3, json(post("/api/category/post"), Map.of("categoryId", 5, "categoryName", "Design")))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void updateCategory() throws Exception {
+		assertStatements(3, json(post("/api/category/update/1"), Map.of("categoryId", 1, "categoryName", "Server")))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteCategory() throws Exception {
+		assertStatements(3, delete("/api/category/delete/4")).andExpect(status().isOk());
+	}
+
+	@Test
+	void associateTaskWithCategories() throws Exception {
+		assertStatements(3, json(post("/api/taskcategories/post"), Map.of("taskId", 4, "categoryId", List.of(1, 2, 3))))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void associateTasksWithCategoriesInBulk() throws Exception {
+		assertStatements(4, json(post("/api/taskcategories/bulk"), List.of(
+				Map.of("taskId", 4, "categoryId", List.of(1, 2, 3)),
+				Map.of("taskId", 5, "categoryId", List.of(1, 2)),
+				Map.of("taskId", 6, "categoryId", List.of(3))))).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksForCategory() throws Exception {
+		assertStatements(3, get("/api/taskcategories/getTasksForCategory/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getCategoriesForTask() throws Exception {
+		assertStatements(3, get("/api/taskcategories/getCategoriesForTask/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getCacheStatistics() throws Exception {
+		assertStatements(0, get("/api/cache/statistics")).andExpect(status().isOk());
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.example.demo;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/comments endpoints.
+ */
+class CommentEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> comment(int commentId, int taskId, int userId) {
+		return Map.of("commentId", commentId, "text", "Comment " + commentId, "createdAt", LocalDateTime.now(),
+				"taskId", taskId, "userId", userId);
+	}
+
+	@Test
+	void createComment() throws Exception {
+		assertStatements(6, json(post("/api/comments/post"), comment(3, 2, 1))).andExpect(status().isCreated());
+	}
+
+	@Test
+	void getAllComments() throws Exception {
+		assertStatements(1, get("/api/comments/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getCommentById() throws Exception {
+		assertStatements(1, get("/api/comments/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getCommentsByTaskId() throws Exception {
+		assertStatements(1, get("/api/comments/bytaskId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateComment() throws Exception {
+		assertStatements(5, json(put("/api/comments/update/1"), comment(1, 1, 2))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteComment() throws Exception {
+		assertStatements(3, delete("/api/comments/delete/1")).andExpect(status().isNoContent());
+	}
+
+	@Test
+	void getAllCommentIds() throws Exception {
+		assertStatements(1, get("/api/comments/allcommentids")).andExpect(status().isOk());
+	}
+
+}
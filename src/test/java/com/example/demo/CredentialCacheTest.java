@@ -0,0 +1,51 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.CredentialCache;
+
+class CredentialCacheTest {
+
+    private CredentialCache credentialCache;
+
+    @BeforeEach
+    void setUp() {
+        credentialCache = new CredentialCache(100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testGetCachesLoadedCredential() {
+        credentialCache.get("alice", name -> new CredentialCache.Credential(1, "old"));
+
+        CredentialCache.Credential cached = credentialCache.get("alice", name -> fail("should be cached"));
+
+        assertEquals("old", cached.getPassword());
+    }
+
+    @Test
+    void testLoadOvertakenByEvictIsNotCached() {
+        CredentialCache.Credential loaded = credentialCache.get("alice", name -> {
+            // The user is updated and evicted while the old row is being read
+            credentialCache.evict("alice");
+            return new CredentialCache.Credential(1, "old");
+        });
+
+        CredentialCache.Credential reloaded = credentialCache.get("alice", name -> new CredentialCache.Credential(1, "new"));
+
+        assertEquals("old", loaded.getPassword());
+        assertEquals("new", reloaded.getPassword());
+    }
+
+    @Test
+    void testUnknownUserIsNotCached() {
+        assertNull(credentialCache.get("nobody", name -> null));
+
+        assertNotNull(credentialCache.get("nobody", name -> new CredentialCache.Credential(2, "hash")));
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.demo.service.CredentialCache;
+import com.example.demo.service.ProjectStatisticsService;
+import com.example.demo.service.SearchIndexer;
+import com.example.demo.service.TableExistenceCache;
+import com.example.demo.service.UnreadNotificationCountCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Base class for the endpoint statement-count tests. Every test starts from the same
+ * small data set, with the second-level cache and the application's in-memory caches
+ * cleared, and asserts an upper bound on the SQL statements a request executes, so a
+ * change that adds an N+1 or a redundant query fails here. The bounds are the counts
+ * the endpoints run today; lower them when an endpoint gets cheaper.
+ *
+ * Data set: users 1-3 (user1 has 3 tasks, user2 2, user3 1), roles 1-3, projects 1-2,
+ * tasks 1-6, categories 1-4, comments 1-2, attachments 1-2 and notifications 1-2. The
+ * category and role mappings cascade removal to their tasks and users, so role 3,
+ * category 4, user 3, project 2 and task 6 have nothing that would block deleting them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCounter.Config.class)
+abstract class EndpointStatementCountTestSupport {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	StatementCounter statementCounter;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	TableExistenceCache tableExistenceCache;
+
+	@Autowired
+	CredentialCache credentialCache;
+
+	@Autowired
+	ProjectStatisticsService projectStatisticsService;
+
+	@Autowired
+	UnreadNotificationCountCache unreadNotificationCountCache;
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
+	@BeforeEach
+	void seed() throws Exception {
+		deleteAll();
+		LocalDate today = LocalDate.now();
+		int[] taskCounts = { 3, 2, 1 };
+		for (int i = 1; i <= 3; i++)
+			jdbcTemplate.update("insert into user (userid, username, fullname, email, emaildomain, password, taskcount) values (?, ?, ?, ?, ?, ?, ?)",
+					i, "user" + i, "User " + i, "user" + i + "@example.com", "example.com", "secret", taskCounts[i - 1]);
+		jdbcTemplate.update("insert into userrole (userroleid, rolename) values (1, 'ADMIN'), (2, 'MEMBER'), (3, 'GUEST')");
+		jdbcTemplate.update("insert into userroles (userid, userroleid) values (1, 1), (1, 2), (2, 2)");
+		jdbcTemplate.update("insert into project (projectid, projectname, description, startdate, enddate, userid) values (?, ?, ?, ?, ?, ?)",
+				1, "Project 1", "Ongoing project", today.minusDays(10), today.plusDays(30), 1);
+		jdbcTemplate.update("insert into project (projectid, projectname, description, startdate, enddate, userid) values (?, ?, ?, ?, ?, ?)",
+				2, "Project 2", "Upcoming project", today.plusDays(5), today.plusDays(60), 2);
+		Object[][] tasks = {
+				{ 1, "High", "Pending", today.minusDays(1), 1, 1 },
+				{ 2, "High", "In Progress", today.plusDays(2), 1, 1 },
+				{ 3, "Low", "Completed", today.plusDays(20), 1, 2 },
+				{ 4, "Medium", "Pending", today.plusDays(3), 2, 2 },
+				{ 5, "High", "Pending", today.plusDays(40), 2, 2 },
+				{ 6, "Low", "In Progress", today.minusDays(5), 3, 1 } };
+		for (Object[] task : tasks)
+			jdbcTemplate.update("insert into task (taskid, taskname, description, priority, status, duedate, userid, projectid) values (?, ?, ?, ?, ?, ?, ?, ?)",
+					task[0], "Task " + task[0], "Task " + task[0], task[1], task[2], task[3], task[4], task[5]);
+		jdbcTemplate.update("insert into category (categoryid, categoryname) values (1, 'Backend'), (2, 'Frontend'), (3, 'Testing'), (4, 'Archive')");
+		jdbcTemplate.update("insert into taskcategory (taskid, categoryid) values (1, 1), (1, 2), (2, 1), (2, 3)");
+		jdbcTemplate.update("insert into comment (commentid, text, createdat, taskid, userid) values (?, ?, ?, ?, ?)",
+				1, "First comment", LocalDateTime.now(), 1, 1);
+		jdbcTemplate.update("insert into comment (commentid, text, createdat, taskid, userid) values (?, ?, ?, ?, ?)",
+				2, "Second comment", LocalDateTime.now(), 1, 2);
+		jdbcTemplate.update("insert into attachment (attachmentid, filename, filepath, taskid) values (1, 'spec.pdf', '/files/spec.pdf', 1), (2, 'mock.png', '/files/mock.png', 2)");
+		jdbcTemplate.update("insert into notification (notificationid, text, createdat, userid) values (?, ?, ?, ?)",
+				1, "Task 1 is overdue", LocalDateTime.now(), 1);
+		jdbcTemplate.update("insert into notification (notificationid, text, createdat, userid) values (?, ?, ?, ?)",
+				2, "Task 2 is due soon", LocalDateTime.now(), 1);
+		projectStatisticsService.rebuild();
+		searchIndexer.rebuild();
+	}
+
+	@AfterEach
+	void deleteAll() {
+		for (String table : List.of("searchoutbox", "taskcategory", "thumbnailjob", "attachmentblob", "attachment", "comment", "notification", "task", "project",
+				"userroles", "userrole", "category", "user"))
+			jdbcTemplate.update("delete from " + table);
+		entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+		tableExistenceCache.invalidate();
+		for (int i = 1; i <= 3; i++)
+			credentialCache.evict("user" + i);
+		unreadNotificationCountCache.clear();
+		projectStatisticsService.rebuild();
+	}
+
+	/**
+	 * Performs a request, completing it if it started async processing, and asserts it
+	 * executed at most {@code maxStatements} SQL statements.
+	 * @param maxStatements The upper bound on statements.
+	 * @param request The request to perform.
+	 * @return The result of the (last) dispatch, for further expectations.
+	 */
+	ResultActions assertStatements(int maxStatements, RequestBuilder request) throws Exception {
+		statementCounter.reset();
+		ResultActions actions = mockMvc.perform(request);
+		MvcResult result = actions.andReturn();
+		if (result.getRequest().isAsyncStarted())
+			actions = mockMvc.perform(asyncDispatch(result));
+		List<String> statements = statementCounter.statements();
+		assertTrue(statements.size() <= maxStatements, () -> "Expected at most " + maxStatements + " statements but "
+				+ statements.size() + " ran:\n" + String.join("\n", statements));
+		return actions;
+	}
+
+	/**
+	 * Adds a JSON body to a request.
+	 * @param request The request.
+	 * @param body The object to serialize.
+	 * @return The request, for chaining.
+	 */
+	MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws Exception {
+		return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.config.QueryCountFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks the service, repository and per-request query metrics, and the dev-mode
+ * query-count header, against a request that runs one query.
+ */
+@SpringBootTest(properties = "app.query-count.header.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsInstrumentationTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	void requestIsTimedAndCountsItsQueries() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(get("/api/users/all")).andReturn().getResponse();
+
+		assertEquals("1", response.getHeader(QueryCountFilter.HEADER));
+		assertEquals(1, meterRegistry.get("http.server.requests.queries").tag("uri", "/api/users/all")
+				.summary().count());
+		assertEquals(1, meterRegistry.get("app.service.invocations").tag("class", "UserServiceImpl")
+				.tag("method", "getListOfAllUsers").tag("exception", "UserListIsEmptyException").timer().count());
+		assertEquals(1, meterRegistry.get("spring.data.repository.invocations").tag("repository", "UserRepository")
+				.tag("method", "findAll").timer().count());
+		assertNotNull(meterRegistry.find("hibernate.query.executions").functionCounter());
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.demo.dto.NotificationUserDto;
+import com.example.demo.entity.Notification;
+import com.example.demo.exception.NotificationQueueFullException;
+import com.example.demo.repository.NotificationBatchRepository;
+import com.example.demo.service.NotificationDispatcher;
+import com.example.demo.service.TableExistenceCache;
+import com.example.demo.service.UnreadNotificationCountCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationBatchRepository notificationBatchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TableExistenceCache tableExistenceCache;
+
+    @Mock
+    private UnreadNotificationCountCache unreadNotificationCountCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NotificationDispatcher notificationDispatcher;
+
+    private final List<List<Integer>> insertedUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        notificationDispatcher = new NotificationDispatcher(notificationBatchRepository, transactionManager,
+                tableExistenceCache, unreadNotificationCountCache, meterRegistry, 5, 2);
+        doAnswer(invocation -> {
+            List<NotificationUserDto> rows = invocation.getArgument(0);
+            insertedUserIds.add(rows.stream().map(NotificationUserDto::getUserId).toList());
+            return null;
+        }).when(notificationBatchRepository).batchInsert(anyList(), anyInt());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.shutdown();
+    }
+
+    private List<NotificationUserDto> notificationsFor(int... userIds) {
+        List<NotificationUserDto> notifications = new ArrayList<>();
+        for (int userId : userIds)
+            notifications.add(new NotificationUserDto(0, "Deadline changed", null, userId));
+        return notifications;
+    }
+
+    @Test
+    void testDrainInsertsInBatches() throws NotificationQueueFullException {
+        notificationDispatcher.enqueueAll(notificationsFor(1, 2, 3, 4, 5));
+        assertEquals(5, notificationDispatcher.getQueueDepth());
+
+        assertEquals(5, notificationDispatcher.drainPending());
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), insertedUserIds);
+        assertEquals(0, notificationDispatcher.getQueueDepth());
+        assertEquals(3, meterRegistry.get("notification.drain.batch.size").summary().count());
+        assertEquals(5, meterRegistry.get("notification.delivery.latency").timer().count());
+        verify(tableExistenceCache, atLeastOnce()).markInserted(Notification.class);
+        verify(unreadNotificationCountCache).evict(5);
+    }
+
+    @Test
+    void testEnqueueAllIsRejectedWhenQueueIsFull() throws NotificationQueueFullException {
+        notificationDispatcher.enqueueAll(notificationsFor(1, 2, 3, 4));
+
+        assertThrows(NotificationQueueFullException.class, () -> notificationDispatcher.enqueueAll(notificationsFor(5, 6)));
+        assertEquals(4, notificationDispatcher.getQueueDepth());
+        assertEquals(2, meterRegistry.get("notification.queue.rejected").counter().count());
+    }
+
+    @Test
+    void testFailedBatchIsRetriedRowByRow() throws NotificationQueueFullException {
+        doThrow(new DataIntegrityViolationException("user 99 was deleted"))
+                .when(notificationBatchRepository).batchInsert(argThat(rows -> rows.stream().anyMatch(row -> row.getUserId() == 99)), anyInt());
+        notificationDispatcher.enqueueAll(notificationsFor(1, 99));
+
+        notificationDispatcher.drainPending();
+
+        assertEquals(List.of(List.of(1)), insertedUserIds);
+        assertEquals(1, meterRegistry.get("notification.delivery.failed").counter().count());
+        assertEquals(1, meterRegistry.get("notification.delivery.latency").timer().count());
+        verify(unreadNotificationCountCache, never()).evict(99);
+    }
+
+    @Test
+    void testStartedDispatcherDrainsInBackground() throws NotificationQueueFullException {
+        notificationDispatcher.start();
+        notificationDispatcher.enqueueAll(notificationsFor(1, 2, 3));
+
+        verify(notificationBatchRepository, timeout(5000).atLeast(2)).batchInsert(anyList(), anyInt());
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/notifications endpoints.
+ */
+class NotificationEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> notification(int notificationId, int userId) {
+		return Map.of("notificationId", notificationId, "text", "Notification " + notificationId,
+				"createdAt", LocalDateTime.now(), "userId", userId);
+	}
+
+	@Test
+	void createNotification() throws Exception {
+		assertStatements(4, json(post("/api/notifications/post"), notification(3, 2))).andExpect(status().isCreated());
+	}
+
+	@Test
+	void getAllNotifications() throws Exception {
+		assertStatements(1, get("/api/notifications/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getNotificationById() throws Exception {
+		assertStatements(1, get("/api/notifications/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getNotificationsByUserId() throws Exception {
+		assertStatements(2, get("/api/notifications/byUserId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateNotification() throws Exception {
+		assertStatements(3, json(put("/api/notifications/1"), notification(1, 2))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteNotification() throws Exception {
+		assertStatements(2, delete("/api/notifications/1")).andExpect(status().isNoContent());
+	}
+
+	@Test
+	void getInbox() throws Exception {
+		jdbcTemplate.update("update notification set isread = true where notificationid = 1");
+		// Notification 2 is unread, so it comes before the newer-or-equal but read notification 1
+		assertStatements(4, get("/api/notifications/inbox/1").param("limit", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].notificationId").value(2))
+				.andExpect(jsonPath("$.unreadCount").value(1))
+				.andExpect(jsonPath("$.nextCursor").isNotEmpty());
+	}
+
+	@Test
+	void getInboxNextPage() throws Exception {
+		jdbcTemplate.update("update notification set isread = true where notificationid = 1");
+		String cursor = objectMapper.readTree(mockMvc.perform(get("/api/notifications/inbox/1").param("limit", "1"))
+				.andReturn().getResponse().getContentAsString()).get("nextCursor").asText();
+		// The unread count comes from the cache on the second page
+		assertStatements(3, get("/api/notifications/inbox/1").param("cursor", cursor).param("limit", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(1))
+				.andExpect(jsonPath("$.items[0].notificationId").value(1))
+				.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+
+	@Test
+	void getInboxWithInvalidCursor() throws Exception {
+		assertStatements(1, get("/api/notifications/inbox/1").param("cursor", "not-a-cursor"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getUnreadCount() throws Exception {
+		assertStatements(2, get("/api/notifications/inbox/1/unread-count"))
+				.andExpect(status().isOk()).andExpect(content().string("2"));
+		assertStatements(1, get("/api/notifications/inbox/1/unread-count"))
+				.andExpect(status().isOk()).andExpect(content().string("2"));
+	}
+
+	@Test
+	void markAsRead() throws Exception {
+		mockMvc.perform(get("/api/notifications/inbox/1/unread-count")).andExpect(content().string("2"));
+		assertStatements(2, json(put("/api/notifications/inbox/1/read"), Map.of("notificationIds", List.of(1))))
+				.andExpect(status().isOk());
+		mockMvc.perform(get("/api/notifications/inbox/1/unread-count")).andExpect(content().string("1"));
+	}
+
+	@Test
+	void markAllAsRead() throws Exception {
+		mockMvc.perform(get("/api/notifications/inbox/1/unread-count")).andExpect(content().string("2"));
+		assertStatements(2, put("/api/notifications/inbox/1/read-all")).andExpect(status().isOk());
+		mockMvc.perform(get("/api/notifications/inbox/1/unread-count")).andExpect(content().string("0"));
+	}
+
+	@Test
+	void fanOutToProject() throws Exception {
+		// The request itself runs 2 statements; the background batch insert may land before the count is taken
+		assertStatements(3, json(post("/api/notifications/fanout/project/1"), Map.of("text", "Deadline moved")))
+				.andExpect(status().isAccepted());
+		// Project 1 is owned by user 1 and has tasks of users 1 and 3
+		long deadline = System.currentTimeMillis() + 5000;
+		while (jdbcTemplate.queryForObject("select count(*) from notification", Integer.class) < 4
+				&& System.currentTimeMillis() < deadline)
+			Thread.sleep(20);
+		assertEquals(List.of(1, 3), jdbcTemplate.queryForList(
+				"select userid from notification where text = 'Deadline moved' order by userid", Integer.class));
+	}
+
+}
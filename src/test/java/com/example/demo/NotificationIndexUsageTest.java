@@ -0,0 +1,92 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.Notification;
+import com.example.demo.repository.NotificationRepository;
+
+/**
+ * Runs EXPLAIN for the notification inbox queries against H2 in MySQL mode, with the
+ * schema built by the Flyway migrations, and checks that they are served by the inbox
+ * index, and that the keyset pages walk a section without gaps or repeats.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class NotificationIndexUsageTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	private final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+	@BeforeEach
+	void seed() {
+		for (int i = 1; i <= 20; i++)
+			jdbcTemplate.update("insert into user (userid, username, fullname, email, password) values (?, ?, ?, ?, ?)",
+					i, "user" + i, "User " + i, "user" + i + "@example.com", "secret");
+		List<Object[]> notifications = new ArrayList<>();
+		// Pairs of notifications share a timestamp so the ID tie-breaker is exercised
+		for (int i = 1; i <= 2000; i++)
+			notifications.add(new Object[] { i, "Notification " + i, start.plusMinutes(i / 2), i % 20 + 1, i % 3 == 0 });
+		jdbcTemplate.batchUpdate("insert into notification (notificationid, text, createdat, userid, isread) values (?, ?, ?, ?, ?)", notifications);
+	}
+
+	private String explain(String sql) {
+		return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+	}
+
+	@Test
+	void inboxPageUsesInboxIndex() {
+		String plan = explain("select * from notification n where n.userid = 3 and n.isread = false"
+				+ " and n.createdat <= timestamp '2024-01-01 12:00:00' and (n.createdat < timestamp '2024-01-01 12:00:00' or n.notificationid < 400)"
+				+ " order by n.createdat desc, n.notificationid desc limit 20");
+		assertTrue(plan.contains("IDX_NOTIFICATION_INBOX"), plan);
+	}
+
+	@Test
+	void unreadCountUsesInboxIndex() {
+		String plan = explain("select count(*) from notification n where n.userid = 3 and n.isread = false");
+		assertTrue(plan.contains("IDX_NOTIFICATION_INBOX"), plan);
+	}
+
+	@Test
+	void keysetPagesCoverSectionInOrder() {
+		List<Integer> seen = new ArrayList<>();
+		LocalDateTime createdAt = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+		int notificationId = Integer.MAX_VALUE;
+		while (true) {
+			List<Notification> page = notificationRepository
+					.getInboxPage(3, false, createdAt, notificationId, PageRequest.of(0, 7)).getContent();
+			if (page.isEmpty())
+				break;
+			for (Notification notification : page)
+				seen.add(notification.getNotificationId());
+			Notification last = page.get(page.size() - 1);
+			createdAt = last.getCreatedAt();
+			notificationId = last.getNotificationId();
+		}
+		List<Integer> expected = jdbcTemplate.queryForList(
+				"select notificationid from notification where userid = 3 and isread = false order by createdat desc, notificationid desc",
+				Integer.class);
+		assertEquals(expected, seen);
+		assertEquals(notificationRepository.countUnreadByUserId(3), seen.size());
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.example.demo;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/projects endpoints.
+ */
+class ProjectEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> project(int projectId, int userId) {
+		return Map.of("projectId", projectId, "projectName", "Project " + projectId, "description", "Project " + projectId,
+				"startDate", LocalDate.now(), "endDate", LocalDate.now().plusDays(90), "userId", userId);
+	}
+
+	@Test
+	void createProject() throws Exception {
+		assertStatements(5, json(post("/api/projects/post"), project(3, 1))).andExpect(status().is2xxSuccessful());
+	}
+
+	@Test
+	void getAllProjects() throws Exception {
+		assertStatements(1, get("/api/projects/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllProjectsWithUserId() throws Exception {
+		assertStatements(1, get("/api/projects/allWithUserId")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getProjectByProjectId() throws Exception {
+		assertStatements(1, get("/api/projects/project/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getProjectsByUserId() throws Exception {
+		assertStatements(2, get("/api/projects/byuserId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getOngoingProjects() throws Exception {
+		assertStatements(2, get("/api/projects/ongoing")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getProjectsByStatus() throws Exception {
+		assertStatements(1, get("/api/projects/status/Pending")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getProjectsWithHighPriorityTasks() throws Exception {
+		assertStatements(2, get("/api/projects/high-priority-tasks")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getProjectsInDateRange() throws Exception {
+		assertStatements(3, get("/api/projects/date-range/{startDate}/{endDate}", LocalDate.now().minusDays(30),
+				LocalDate.now().plusDays(90))).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateProject() throws Exception {
+		assertStatements(4, json(put("/api/projects/update/1"), project(1, 2))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteProject() throws Exception {
+		assertStatements(13, delete("/api/projects/delete/2")).andExpect(status().is2xxSuccessful());
+	}
+
+	@Test
+	void checkStatisticsConsistency() throws Exception {
+		assertStatements(1, get("/api/projects/statistics/consistency")).andExpect(status().isOk());
+	}
+
+	@Test
+	void rebuildStatistics() throws Exception {
+		assertStatements(2, post("/api/projects/statistics/rebuild")).andExpect(status().is2xxSuccessful());
+	}
+
+}
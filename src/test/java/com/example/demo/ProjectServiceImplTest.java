@@ -2,6 +2,8 @@ package com.example.demo;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,12 +12,14 @@ import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import com.example.demo.dto.ProjectUserDto;
 import com.example.demo.entity.Project;
@@ -27,6 +31,9 @@ import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.repository.ProjectRepository;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.service.ProjectServiceImpl;
+import com.example.demo.service.ProjectStatisticsService;
+import com.example.demo.service.SearchIndexer;
+import com.example.demo.service.TableExistenceCache;
 
 class ProjectServiceImplTest {
 
@@ -36,6 +43,15 @@ class ProjectServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private TableExistenceCache tableExistenceCache;
+
+    @Mock
+    private ProjectStatisticsService projectStatisticsService;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -102,8 +118,17 @@ class ProjectServiceImplTest {
         ProjectUserDto result = projectService.getProjectByProjectId(1);
 
         assertNotNull(result);
-        verify(projectRepository, times(1)).findById(1);
+        verify(projectRepository, never()).findById(1);
+        verify(projectRepository, times(1)).getProjectByProjectId(1);
+    }
+
+    @Test
+    void testGetProjectByProjectIdNotFound() {
+        when(projectRepository.getProjectByProjectId(1)).thenReturn(null);
+
+        assertThrows(ProjectDoesNotExistException.class, () -> projectService.getProjectByProjectId(1));
         verify(projectRepository, times(1)).getProjectByProjectId(1);
+        verify(projectRepository, never()).findById(1);
     }
     
     @Test
@@ -122,14 +147,13 @@ class ProjectServiceImplTest {
     void testGetProjectByUserId() throws ProjectListIsEmptyException {
         List<Project> projects = Arrays.asList(new Project(), new Project());
 
-        // Mock the findAll method to return a non-empty list
-        when(projectRepository.findAll()).thenReturn(projects);
+        when(projectRepository.existsAny()).thenReturn(true);
         when(projectRepository.getProjectByUserId(1)).thenReturn(projects);
 
         List<Project> result = projectService.getProjectByUserId(1);
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findAll();
+        verify(projectRepository, never()).findAll();
         verify(projectRepository, times(1)).getProjectByUserId(1);
     }
 
@@ -138,14 +162,13 @@ class ProjectServiceImplTest {
     void testGetCurrentlyOngoingProjects() throws ProjectListIsEmptyException {
         List<Project> projects = Arrays.asList(new Project(), new Project());
 
-        // Mock the findAll method to return a non-empty list
-        when(projectRepository.findAll()).thenReturn(projects);
+        when(projectRepository.existsAny()).thenReturn(true);
         when(projectRepository.findCurrentlyOngoingProjects()).thenReturn(projects);
 
         List<Project> result = projectService.getCurrentlyOngoingProjects();
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findAll();
+        verify(projectRepository, never()).findAll();
         verify(projectRepository, times(1)).findCurrentlyOngoingProjects();
     }
 
@@ -166,6 +189,7 @@ class ProjectServiceImplTest {
     void testGetProjectsWithHighPriorityTasks() throws ProjectListIsEmptyException {
         List<Project> projects = Arrays.asList(new Project(), new Project());
 
+        when(projectRepository.existsAny()).thenReturn(true);
         when(projectRepository.getProjectsWithHighPriorityTasks()).thenReturn(projects);
 
         List<Project> result = projectService.getProjectsWithHighPriorityTasks();
@@ -178,14 +202,13 @@ class ProjectServiceImplTest {
     void testGetProjectsInSpecificDateRange() throws ProjectListIsEmptyException {
         List<Project> projects = Arrays.asList(new Project(), new Project());
 
-        // Mock the findAll method to return a non-empty list
-        when(projectRepository.findAll()).thenReturn(projects);
+        when(projectRepository.existsAny()).thenReturn(true);
         when(projectRepository.getProjectsInSpecificDateRange(any(LocalDate.class), any(LocalDate.class))).thenReturn(projects);
 
         List<Project> result = projectService.getProjectsInSpecificDateRange(LocalDate.now(), LocalDate.now().plusDays(10));
 
         assertEquals(2, result.size());
-        verify(projectRepository, times(1)).findAll();
+        verify(projectRepository, never()).findAll();
         verify(projectRepository, times(1)).getProjectsInSpecificDateRange(any(LocalDate.class), any(LocalDate.class));
     }
 
@@ -222,4 +245,41 @@ class ProjectServiceImplTest {
         verify(projectRepository, times(1)).save(any(Project.class));
     }
 
+    @Test
+    void testDeleteProjectByProjectIdFetchesOnce() throws ProjectDoesNotExistException {
+        Project project = new Project();
+        project.setProjectId(1);
+        when(projectRepository.findById(1)).thenReturn(Optional.of(project));
+
+        Project result = projectService.deleteProjectByProjectId(1);
+
+        assertEquals(project, result);
+        verify(projectRepository, times(1)).findById(1);
+        verify(projectRepository, times(1)).deleteById(1);
+        verify(userRepository, times(1)).decrementTaskCountsForProject(1);
+    }
+
+    @Test
+    void testProjectLookupsServedFromStatistics() throws ProjectListIsEmptyException {
+        List<Project> projects = Arrays.asList(new Project());
+        when(projectRepository.existsAny()).thenReturn(true);
+        when(projectStatisticsService.isReady()).thenReturn(true);
+        when(projectStatisticsService.getProjectIdsWithStatus("Pending")).thenReturn(Set.of(1));
+        when(projectStatisticsService.getProjectIdsWithPriority("HIGH")).thenReturn(Set.of());
+        when(projectRepository.findAllById(Set.of(1))).thenReturn(projects);
+
+        assertEquals(projects, projectService.getProjectsByStatus("Pending"));
+        assertTrue(projectService.getProjectsWithHighPriorityTasks().isEmpty());
+        verify(projectRepository, never()).getProjectsByStatus(anyString());
+        verify(projectRepository, never()).getProjectsWithHighPriorityTasks();
+        verify(projectRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void testDeleteProjectDropsStatistics() throws ProjectDoesNotExistException {
+        when(projectRepository.findById(1)).thenReturn(Optional.of(new Project()));
+
+        projectService.deleteProjectByProjectId(1);
+        verify(projectStatisticsService, times(1)).projectRemoved(1);
+    }
 }
@@ -0,0 +1,121 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.example.demo.dto.ProjectStatisticsConsistencyDto;
+import com.example.demo.repository.TaskRepository;
+import com.example.demo.service.ProjectStatisticsServiceImpl;
+
+class ProjectStatisticsServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private ProjectStatisticsServiceImpl projectStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] { 1, "Pending", "High", 2L });
+        rows.add(new Object[] { 1, "Completed", "Low", 1L });
+        rows.add(new Object[] { 2, "Pending", "Low", 4L });
+        rows.add(new Object[] { null, "Pending", "High", 5L });
+        when(taskRepository.getTaskCountsByProjectStatusAndPriority()).thenReturn(rows);
+    }
+
+    @Test
+    void testNotReadyUntilRebuilt() {
+        assertFalse(projectStatisticsService.isReady());
+        projectStatisticsService.rebuild();
+        assertTrue(projectStatisticsService.isReady());
+    }
+
+    @Test
+    void testRebuildCountsPerProjectStatusAndPriority() {
+        projectStatisticsService.rebuild();
+
+        assertEquals(3, projectStatisticsService.getTaskCount(1));
+        assertEquals(4, projectStatisticsService.getTaskCount(2));
+        assertEquals(0, projectStatisticsService.getTaskCount(3));
+        assertEquals(Set.of(1, 2), projectStatisticsService.getProjectIdsWithStatus("pending"));
+        assertEquals(Set.of(1), projectStatisticsService.getProjectIdsWithStatus("Completed"));
+        assertEquals(Set.of(1), projectStatisticsService.getProjectIdsWithPriority("HIGH"));
+    }
+
+    @Test
+    void testTaskWritesAdjustCounts() {
+        projectStatisticsService.rebuild();
+
+        projectStatisticsService.taskAdded(2, "InProgress", "High");
+        assertEquals(5, projectStatisticsService.getTaskCount(2));
+        assertEquals(Set.of(1, 2), projectStatisticsService.getProjectIdsWithPriority("High"));
+
+        projectStatisticsService.taskRemoved(1, "Pending", "High");
+        projectStatisticsService.taskRemoved(1, "Pending", "High");
+        assertEquals(1, projectStatisticsService.getTaskCount(1));
+        assertEquals(Set.of(2), projectStatisticsService.getProjectIdsWithPriority("High"));
+        assertEquals(Set.of(2), projectStatisticsService.getProjectIdsWithStatus("Pending"));
+
+        projectStatisticsService.projectRemoved(2);
+        assertEquals(0, projectStatisticsService.getTaskCount(2));
+        assertTrue(projectStatisticsService.getProjectIdsWithPriority("High").isEmpty());
+    }
+
+    @Test
+    void testUserRemovedStopsCountingCascadedTasks() {
+        projectStatisticsService.rebuild();
+        List<Object[]> removed = new ArrayList<>();
+        removed.add(new Object[] { 1, "Pending", "High", 1L });
+        removed.add(new Object[] { 2, "Pending", "Low", 4L });
+        when(taskRepository.getTaskCountsOfUserByProjectStatusAndPriority(7)).thenReturn(removed);
+
+        projectStatisticsService.userRemoved(7);
+        assertEquals(2, projectStatisticsService.getTaskCount(1));
+        assertEquals(0, projectStatisticsService.getTaskCount(2));
+        assertEquals(Set.of(1), projectStatisticsService.getProjectIdsWithStatus("Pending"));
+        assertFalse(projectStatisticsService.getProjectIdsWithPriority("Low").contains(2));
+    }
+
+    @Test
+    void testReconcileRebuildsOnlyAfterDrift() {
+        projectStatisticsService.rebuild();
+        assertFalse(projectStatisticsService.reconcile());
+
+        projectStatisticsService.taskAdded(3, "Pending", "Low");
+        assertTrue(projectStatisticsService.reconcile());
+        assertEquals(0, projectStatisticsService.getTaskCount(3));
+        assertTrue(projectStatisticsService.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void testConsistencyCheckReportsDrift() {
+        projectStatisticsService.rebuild();
+        ProjectStatisticsConsistencyDto check = projectStatisticsService.checkConsistency();
+        assertTrue(check.isConsistent());
+        assertEquals(2, check.getProjectsChecked());
+
+        projectStatisticsService.taskAdded(3, "Pending", "Low");
+        projectStatisticsService.taskRemoved(2, "Pending", "Low");
+        check = projectStatisticsService.checkConsistency();
+        assertFalse(check.isConsistent());
+        assertEquals(Arrays.asList(2, 3), check.getMismatchedProjectIds());
+
+        projectStatisticsService.rebuild();
+        assertTrue(projectStatisticsService.checkConsistency().isConsistent());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Throughput under high concurrency of GET /api/tasks/all?limit=..., a real endpoint
+ * that pages tasks through JPA and so competes for the Hikari pool. Not part of the
+ * normal build; run it once per threading mode and compare the logged requests/second:
+ *
+ * <pre>
+ * mvn test -Dtest=RequestThroughputLoadTest -Dloadtest=true
+ * mvn test -Pjava21 -Dtest=RequestThroughputLoadTest -Dloadtest=true -Dspring.threads.virtual.enabled=true
+ * </pre>
+ *
+ * Tuning knobs: loadtest.requests, loadtest.concurrency, loadtest.tasks, loadtest.page-size,
+ * and the usual server.tomcat.threads.max and spring.datasource.hikari.maximum-pool-size.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class RequestThroughputLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger(RequestThroughputLoadTest.class);
+
+	@LocalServerPort
+	int port;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	boolean virtualThreads;
+
+	@Value("${loadtest.requests:20000}")
+	int requests;
+
+	@Value("${loadtest.concurrency:1000}")
+	int concurrency;
+
+	@Value("${loadtest.tasks:1000}")
+	int tasks;
+
+	@Value("${loadtest.page-size:20}")
+	int pageSize;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		deleteAll();
+		jdbcTemplate.update("insert into user (userid, username, fullname, email, password) values (1, 'load', 'Load Test', 'load@example.com', 'secret')");
+		jdbcTemplate.update("insert into project (projectid, projectname, description, startdate, enddate, userid) values (1, 'Load', 'Load', ?, ?, 1)",
+				LocalDate.now(), LocalDate.now().plusDays(30));
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 1; i <= tasks; i++)
+			rows.add(new Object[] { i, "Task " + i, "Task " + i, LocalDate.now().plusDays(i % 30) });
+		jdbcTemplate.batchUpdate("insert into task (taskid, taskname, description, duedate, priority, status, userid, projectid) values (?, ?, ?, ?, 'High', 'Pending', 1, 1)", rows);
+	}
+
+	@AfterEach
+	void deleteAll() {
+		for (String table : List.of("searchoutbox", "task", "project", "user"))
+			jdbcTemplate.update("delete from " + table);
+	}
+
+	@Test
+	void throughputAtHighConcurrency() throws Exception {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(10)).build();
+		// Spread requests over the pages so they don't all read the same rows
+		int pages = Math.max(1, tasks / pageSize);
+		List<HttpRequest> pageRequests = new ArrayList<>(pages);
+		for (int page = 0; page < pages; page++)
+			pageRequests.add(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/all?limit=" + pageSize
+					+ "&after=" + page * pageSize)).timeout(Duration.ofSeconds(60)).GET().build());
+
+		// Warm up the JIT, the connection pool and the HTTP client
+		for (int i = 0; i < 200; i++)
+			client.send(pageRequests.get(i % pages), HttpResponse.BodyHandlers.discarding());
+
+		Semaphore inFlight = new Semaphore(concurrency);
+		AtomicInteger failures = new AtomicInteger();
+		long[] latencies = new long[requests];
+		List<CompletableFuture<Void>> futures = new ArrayList<>(requests);
+		long start = System.nanoTime();
+		for (int i = 0; i < requests; i++) {
+			inFlight.acquire();
+			int index = i;
+			long sent = System.nanoTime();
+			futures.add(client.sendAsync(pageRequests.get(i % pages), HttpResponse.BodyHandlers.discarding())
+					.handle((response, error) -> {
+						latencies[index] = System.nanoTime() - sent;
+						if (error != null || response.statusCode() != 200)
+							failures.incrementAndGet();
+						inFlight.release();
+						return null;
+					}));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		Arrays.sort(latencies);
+		log.info(String.format("%s threads: %d requests at concurrency %d in %.2fs = %.0f req/s, p50 %d ms, p99 %d ms, %d failed",
+				virtualThreads ? "virtual" : "platform", requests, concurrency, seconds, requests / seconds,
+				latencies[requests / 2] / 1_000_000, latencies[(int) (requests * 0.99)] / 1_000_000, failures.get()));
+		assertEquals(0, failures.get());
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.example.demo;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.example.demo.service.SearchIndexer;
+
+/**
+ * Statement-count bounds for the /api/search endpoint, which reads only the search
+ * index, and checks that task, comment and project writes reach the index through the
+ * outbox. The test profile turns off draining on commit, so each test drains it itself.
+ */
+class SearchEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	@Autowired
+	SearchIndexer searchIndexer;
+
+	@Test
+	void searchReadsNoRows() throws Exception {
+		assertStatements(0, get("/api/search").param("q", "task"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalHits").value(6))
+				.andExpect(jsonPath("$.hits.length()").value(6));
+	}
+
+	@Test
+	void searchRanksBestMatchFirst() throws Exception {
+		assertStatements(0, get("/api/search").param("q", "task 3"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalHits").value(1))
+				.andExpect(jsonPath("$.hits[0].type").value("task"))
+				.andExpect(jsonPath("$.hits[0].id").value(3));
+	}
+
+	@Test
+	void searchPages() throws Exception {
+		assertStatements(0, get("/api/search").param("q", "task").param("page", "2").param("size", "4"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalHits").value(6))
+				.andExpect(jsonPath("$.hits.length()").value(0));
+		assertStatements(0, get("/api/search").param("q", "task").param("page", "1").param("size", "4"))
+				.andExpect(jsonPath("$.hits.length()").value(2));
+	}
+
+	@Test
+	void searchByType() throws Exception {
+		assertStatements(0, get("/api/search").param("q", "comment").param("type", "comment"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalHits").value(2))
+				.andExpect(jsonPath("$.hits[*].taskId", everyItem(is(1))));
+	}
+
+	@Test
+	void searchProjects() throws Exception {
+		assertStatements(0, get("/api/search").param("q", "project").param("type", "project"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalHits").value(2))
+				.andExpect(jsonPath("$.hits[0].taskId").doesNotExist());
+	}
+
+	@Test
+	void searchRejectsBlankQuery() throws Exception {
+		assertStatements(0, get("/api/search").param("q", " ")).andExpect(status().isBadRequest());
+		assertStatements(0, get("/api/search").param("q", "task").param("type", "user"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void createdTaskIsSearchable() throws Exception {
+		mockMvc.perform(json(post("/api/tasks/post"), Map.of("taskId", 7, "taskName", "Migrate billing",
+				"description", "Move invoices to the new ledger", "priority", "High", "status", "Pending",
+				"dueDate", LocalDate.now().plusDays(7), "projectId", 1, "userId", 1)))
+				.andExpect(status().isCreated());
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from searchoutbox", Integer.class));
+		assertStatements(0, get("/api/search").param("q", "Ledger"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+		assertEquals(1, searchIndexer.drain());
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from searchoutbox", Integer.class));
+		assertStatements(0, get("/api/search").param("q", "Ledger"))
+				.andExpect(jsonPath("$.totalHits").value(1))
+				.andExpect(jsonPath("$.hits[0].id").value(7))
+				.andExpect(jsonPath("$.hits[0].title").value("Migrate billing"));
+	}
+
+	@Test
+	void updatedCommentIsSearchable() throws Exception {
+		mockMvc.perform(json(put("/api/comments/update/2"), Map.of("commentId", 2, "text", "Blocked on the ledger",
+				"createdAt", LocalDateTime.now(), "taskId", 1, "userId", 2)))
+				.andExpect(status().isOk());
+		searchIndexer.drain();
+		assertStatements(0, get("/api/search").param("q", "ledger"))
+				.andExpect(jsonPath("$.totalHits").value(1))
+				.andExpect(jsonPath("$.hits[0].type").value("comment"))
+				.andExpect(jsonPath("$.hits[0].id").value(2));
+		assertStatements(0, get("/api/search").param("q", "second"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+	}
+
+	@Test
+	void deletedTaskIsNotSearchable() throws Exception {
+		mockMvc.perform(delete("/api/tasks/6")).andExpect(status().is2xxSuccessful());
+		searchIndexer.drain();
+		assertStatements(0, get("/api/search").param("q", "task 6"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+	}
+
+	@Test
+	void deletedProjectTakesItsTasksOutOfTheIndex() throws Exception {
+		mockMvc.perform(delete("/api/projects/delete/2")).andExpect(status().is2xxSuccessful());
+		assertEquals(4, searchIndexer.drain());
+		assertStatements(0, get("/api/search").param("q", "task"))
+				.andExpect(jsonPath("$.totalHits").value(3));
+		assertStatements(0, get("/api/search").param("q", "project 2"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+	}
+
+	@Test
+	void deletedUserTakesTheirProjectsTasksAndCommentsOutOfTheIndex() throws Exception {
+		jdbcTemplate.update("delete from userroles where userid = 2");
+		mockMvc.perform(delete("/api/users/delete/2")).andExpect(status().is2xxSuccessful());
+		assertEquals(5, searchIndexer.drain());
+		assertStatements(0, get("/api/search").param("q", "task"))
+				.andExpect(jsonPath("$.totalHits").value(3));
+		assertStatements(0, get("/api/search").param("q", "project 2"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+		assertStatements(0, get("/api/search").param("q", "second comment"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+	}
+
+	@Test
+	void repeatedChangesCollapseIntoOneUpdate() throws Exception {
+		for (String text : new String[] { "Draft", "Final ledger" })
+			mockMvc.perform(json(put("/api/comments/update/1"), Map.of("commentId", 1, "text", text,
+					"createdAt", LocalDateTime.now(), "taskId", 1, "userId", 1)))
+					.andExpect(status().isOk());
+		assertEquals(2, searchIndexer.drain());
+		assertStatements(0, get("/api/search").param("q", "draft"))
+				.andExpect(jsonPath("$.totalHits").value(0));
+		assertStatements(0, get("/api/search").param("q", "final ledger"))
+				.andExpect(jsonPath("$.hits[0].id").value(1));
+	}
+
+	@Test
+	void rebuild() throws Exception {
+		mockMvc.perform(post("/api/search/rebuild"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.message").value("10 documents indexed"));
+		assertStatements(0, get("/api/search").param("q", "task"))
+				.andExpect(jsonPath("$.totalHits").value(6));
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.dto.SearchPageDto;
+import com.example.demo.repository.SearchSourceRepository;
+import com.example.demo.service.SearchIndex;
+
+class SearchIndexTest {
+
+	@TempDir
+	Path dir;
+
+	private SearchIndex searchIndex;
+
+	@BeforeEach
+	void open() throws IOException {
+		searchIndex = new SearchIndex(dir);
+		searchIndex.index(SearchSourceRepository.TASK, 1, 1, "Fix login page", "The login form rejects valid passwords");
+		searchIndex.index(SearchSourceRepository.TASK, 2, 2, "Write release notes", "Mention the login fix");
+		searchIndex.index(SearchSourceRepository.COMMENT, 10, 2, null, "Notes are in the wiki");
+		searchIndex.index(SearchSourceRepository.PROJECT, 1, null, "Accounts", "Login and billing");
+		searchIndex.commit();
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		searchIndex.close();
+	}
+
+	@Test
+	void testTitleMatchesRankFirst() throws IOException {
+		SearchPageDto page = searchIndex.search("login", null, 0, 10);
+		assertEquals(3, page.getTotalHits());
+		assertEquals(SearchSourceRepository.TASK, page.getHits().get(0).getType());
+		assertEquals(1, page.getHits().get(0).getId());
+		assertEquals("Fix login page", page.getHits().get(0).getTitle());
+	}
+
+	@Test
+	void testAllWordsMustMatch() throws IOException {
+		assertEquals(1, searchIndex.search("release LOGIN", null, 0, 10).getTotalHits());
+		assertEquals(0, searchIndex.search("release wiki", null, 0, 10).getTotalHits());
+	}
+
+	@Test
+	void testSearchByType() throws IOException {
+		assertEquals(1, searchIndex.search("notes", SearchSourceRepository.COMMENT, 0, 10).getTotalHits());
+		SearchPageDto projects = searchIndex.search("login", SearchSourceRepository.PROJECT, 0, 10);
+		assertEquals(1, projects.getTotalHits());
+		assertNull(projects.getHits().get(0).getTaskId());
+	}
+
+	@Test
+	void testChangesAreSearchableOnceCommitted() throws IOException {
+		searchIndex.index(SearchSourceRepository.COMMENT, 10, 2, null, "Draft is on the shared drive");
+		searchIndex.delete(SearchSourceRepository.TASK, 1);
+		assertEquals(1, searchIndex.search("wiki", null, 0, 10).getTotalHits());
+		assertEquals(0, searchIndex.search("drive", null, 0, 10).getTotalHits());
+
+		searchIndex.commit();
+		assertEquals(0, searchIndex.search("wiki", null, 0, 10).getTotalHits());
+		assertEquals(1, searchIndex.search("drive", null, 0, 10).getTotalHits());
+		assertEquals(0, searchIndex.search("passwords", null, 0, 10).getTotalHits());
+		assertEquals(3, searchIndex.size());
+	}
+
+	@Test
+	void testRollbackKeepsCommittedDocuments() throws IOException {
+		searchIndex.deleteAll();
+		searchIndex.index(SearchSourceRepository.TASK, 3, 3, "Rotate keys", null);
+		assertEquals(3, searchIndex.search("login", null, 0, 10).getTotalHits());
+
+		searchIndex.rollback();
+		assertEquals(4, searchIndex.size());
+		assertEquals(3, searchIndex.search("login", null, 0, 10).getTotalHits());
+		assertEquals(0, searchIndex.search("keys", null, 0, 10).getTotalHits());
+
+		searchIndex.index(SearchSourceRepository.TASK, 3, 3, "Rotate keys", null);
+		searchIndex.commit();
+		assertEquals(1, searchIndex.search("keys", null, 0, 10).getTotalHits());
+	}
+
+	@Test
+	void testCommittedChangesSurviveReopen() throws IOException {
+		searchIndex.index(SearchSourceRepository.TASK, 3, 3, "Rotate keys", null);
+		searchIndex.commit();
+		searchIndex.close();
+		searchIndex = new SearchIndex(dir);
+		assertEquals(5, searchIndex.size());
+		assertEquals(1, searchIndex.search("keys", null, 0, 10).getTotalHits());
+	}
+
+}
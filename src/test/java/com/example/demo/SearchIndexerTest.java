@@ -0,0 +1,77 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.repository.SearchOutboxRepository;
+import com.example.demo.repository.SearchSourceRepository;
+import com.example.demo.service.SearchIndex;
+import com.example.demo.service.SearchIndexer;
+
+class SearchIndexerTest {
+
+	@TempDir
+	Path dir;
+
+	private SearchSourceRepository searchSourceRepository;
+
+	private SearchIndex searchIndex;
+
+	private SearchIndexer searchIndexer;
+
+	@BeforeEach
+	void open() throws IOException {
+		searchSourceRepository = mock(SearchSourceRepository.class);
+		searchIndex = new SearchIndex(dir);
+		searchIndex.index(SearchSourceRepository.TASK, 1, 1, "Fix login page", null);
+		searchIndex.commit();
+		searchIndexer = new SearchIndexer(mock(SearchOutboxRepository.class), searchSourceRepository, searchIndex,
+				500, false, 2);
+		when(searchSourceRepository.findIdRange(SearchSourceRepository.TASK)).thenReturn(new int[] { 1, 2 });
+	}
+
+	@AfterEach
+	void close() throws IOException {
+		searchIndex.close();
+	}
+
+	@Test
+	void testRebuildReplacesTheIndex() throws IOException {
+		doAnswer(invocation -> {
+			SearchSourceRepository.RowHandler handler = invocation.getArgument(3);
+			handler.handle(invocation.getArgument(1), invocation.getArgument(1), "Rotate keys", null);
+			return null;
+		}).when(searchSourceRepository).forEachInRange(eq(SearchSourceRepository.TASK), anyInt(), anyInt(), any());
+
+		assertEquals(2, searchIndexer.rebuild());
+		assertEquals(0, searchIndex.search("login", null, 0, 10).getTotalHits());
+		assertEquals(2, searchIndex.search("keys", null, 0, 10).getTotalHits());
+	}
+
+	@Test
+	void testFailedRebuildKeepsThePreviousIndex() throws IOException {
+		doAnswer(invocation -> {
+			int fromId = invocation.getArgument(1);
+			if (fromId == 2)
+				throw new IllegalStateException("Connection lost");
+			SearchSourceRepository.RowHandler handler = invocation.getArgument(3);
+			handler.handle(fromId, fromId, "Rotate keys", null);
+			return null;
+		}).when(searchSourceRepository).forEachInRange(eq(SearchSourceRepository.TASK), anyInt(), anyInt(), any());
+
+		assertThrows(IOException.class, searchIndexer::rebuild);
+		assertEquals(1, searchIndex.size());
+		assertEquals(1, searchIndex.search("login", null, 0, 10).getTotalHits());
+		assertEquals(0, searchIndex.search("keys", null, 0, 10).getTotalHits());
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Records every statement executed through the application's DataSource, whether it
+ * comes from Hibernate or JdbcTemplate and from whichever thread. A JDBC batch counts as
+ * one statement, since it is one round trip. Import {@link Config} to install it.
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+	private final List<String> statements = new ArrayList<>();
+
+	@TestConfiguration
+	public static class Config {
+
+		@Bean
+		public StatementCounter statementCounter() {
+			return new StatementCounter();
+		}
+
+		@Bean
+		public static BeanPostProcessor statementCountingDataSource(
+				ObjectProvider<StatementCounter> statementCounter) {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource dataSource)
+						return ProxyDataSourceBuilder.create(dataSource).name(beanName)
+								.listener(statementCounter.getObject()).build();
+					return bean;
+				}
+			};
+		}
+
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+		statements.add(execInfo.isBatch() ? sql + " [batch of " + execInfo.getBatchSize() + "]" : sql);
+	}
+
+	/**
+	 * Forgets the statements recorded so far.
+	 */
+	public synchronized void reset() {
+		statements.clear();
+	}
+
+	/**
+	 * @return The number of statements executed since the last reset.
+	 */
+	public synchronized int count() {
+		return statements.size();
+	}
+
+	/**
+	 * @return The statements executed since the last reset, in order.
+	 */
+	public synchronized List<String> statements() {
+		return new ArrayList<>(statements);
+	}
+
+}
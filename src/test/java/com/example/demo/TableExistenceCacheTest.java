@@ -0,0 +1,51 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.entity.Task;
+import com.example.demo.service.TableExistenceCache;
+
+class TableExistenceCacheTest {
+
+    private final TableExistenceCache tableExistenceCache = new TableExistenceCache();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testMarkInsertedWithoutTransactionAppliesAtOnce() {
+        tableExistenceCache.markInserted(Task.class);
+        assertFalse(tableExistenceCache.isEmpty(Task.class, () -> false));
+    }
+
+    @Test
+    void testMarkInsertedAppliesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        tableExistenceCache.markInserted(Task.class);
+        assertTrue(tableExistenceCache.isEmpty(Task.class, () -> false));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            synchronization.afterCommit();
+        assertFalse(tableExistenceCache.isEmpty(Task.class, () -> false));
+    }
+
+    @Test
+    void testMarkInsertedIsDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        tableExistenceCache.markInserted(Task.class);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertTrue(tableExistenceCache.isEmpty(Task.class, () -> false));
+    }
+
+}
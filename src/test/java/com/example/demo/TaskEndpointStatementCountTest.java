@@ -0,0 +1,149 @@
+package com.example.demo;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/tasks endpoints.
+ */
+class TaskEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> task(int taskId, int projectId, int userId) {
+		return Map.of("taskId", taskId, "taskName", "Task " + taskId, "description", "Task " + taskId,
+				"dueDate", LocalDate.now().plusDays(7), "priority", "High", "status", "Pending",
+				"projectId", projectId, "userId", userId);
+	}
+
+	@Test
+	void createTask() throws Exception {
+		assertStatements(7, json(post("/api/tasks/post"), task(7, 1, 1))).andExpect(status().isCreated());
+	}
+
+	@Test
+	void createTasks() throws Exception {
+		assertStatements(8, json(post("/api/tasks/bulk"), List.of(task(7, 1, 1), task(8, 1, 2), task(9, 2, 3))))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllTasks() throws Exception {
+		assertStatements(1, get("/api/tasks/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllTasksPage() throws Exception {
+		assertStatements(2, get("/api/tasks/all").param("limit", "2")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskSummaries() throws Exception {
+		assertStatements(2, get("/api/tasks/all").param("view", "summary")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskByTaskId() throws Exception {
+		assertStatements(1, get("/api/tasks/taskId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByProject() throws Exception {
+		assertStatements(2, get("/api/tasks/byprojectId/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByProjectPage() throws Exception {
+		assertStatements(2, get("/api/tasks/byprojectId/1").param("limit", "2")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskSummariesByProject() throws Exception {
+		assertStatements(2, get("/api/tasks/byprojectId/1").param("view", "summary")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskCountOfProject() throws Exception {
+		assertStatements(1, get("/api/tasks/countByproject/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getOverdueTasks() throws Exception {
+		assertStatements(2, get("/api/tasks/overdue")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByStatus() throws Exception {
+		assertStatements(2, get("/api/tasks/status/Pending")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByStatusPage() throws Exception {
+		assertStatements(2, get("/api/tasks/status/Pending").param("limit", "2")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskSummariesByStatus() throws Exception {
+		assertStatements(2, get("/api/tasks/status/Pending").param("view", "summary")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByPriority() throws Exception {
+		assertStatements(2, get("/api/tasks/priority/High")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksDueSoon() throws Exception {
+		assertStatements(2, get("/api/tasks/due-soon")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByUserAndStatus() throws Exception {
+		assertStatements(2, get("/api/tasks/user/1/status/Pending")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByUserId() throws Exception {
+		assertStatements(2, get("/api/tasks/user/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByUserIdPage() throws Exception {
+		assertStatements(2, get("/api/tasks/user/1").param("limit", "2")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTaskSummariesByUserId() throws Exception {
+		assertStatements(2, get("/api/tasks/user/1").param("view", "summary")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTasksByCategory() throws Exception {
+		assertStatements(2, get("/api/tasks/category/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateTask() throws Exception {
+		assertStatements(7, json(put("/api/tasks/update/1"), task(1, 2, 2))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteTask() throws Exception {
+		assertStatements(5, delete("/api/tasks/6")).andExpect(status().is2xxSuccessful());
+	}
+
+	@Test
+	void exportTasks() throws Exception {
+		assertStatements(1, get("/api/tasks/export")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllTaskIds() throws Exception {
+		assertStatements(2, get("/api/tasks/getAllTaskIds")).andExpect(status().isOk());
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs EXPLAIN for the TaskRepository filters against H2 in MySQL mode, with the
+ * schema built by the Flyway migrations, and checks that each one is served by an index.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class TaskIndexUsageTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 1; i <= 20; i++) {
+			jdbcTemplate.update("insert into user (userid, username, fullname, email, password) values (?, ?, ?, ?, ?)",
+					i, "user" + i, "User " + i, "user" + i + "@example.com", "secret");
+			jdbcTemplate.update("insert into project (projectid, projectname, description, startdate, enddate, userid) values (?, ?, ?, ?, ?, ?)",
+					i, "Project " + i, "Project " + i, LocalDate.now(), LocalDate.now().plusDays(30), i);
+		}
+		String[] statuses = { "Pending", "InProgress", "Completed" };
+		String[] priorities = { "Low", "Medium", "High" };
+		List<Object[]> tasks = new ArrayList<>();
+		for (int i = 1; i <= 2000; i++)
+			tasks.add(new Object[] { i, "Task " + i, LocalDate.now().plusDays(i % 60 - 30), priorities[i % 3],
+					statuses[i % 3], i % 20 + 1, (i * 7) % 20 + 1 });
+		jdbcTemplate.batchUpdate("insert into task (taskid, taskname, duedate, priority, status, userid, projectid) values (?, ?, ?, ?, ?, ?, ?)", tasks);
+	}
+
+	private String explain(String sql) {
+		return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class));
+	}
+
+	@Test
+	void userAndStatusFilterUsesCompositeIndex() {
+		String plan = explain("select * from task t where t.userid = 3 and t.status = 'Pending'");
+		assertTrue(plan.contains("IDX_TASK_USERID_STATUS"), plan);
+	}
+
+	@Test
+	void projectFilterUsesIndex() {
+		String plan = explain("select * from task t where t.projectid = 3");
+		assertFalse(plan.contains("tableScan"), plan);
+	}
+
+	@Test
+	void overdueFilterUsesDueDateIndex() {
+		String plan = explain("select * from task t where t.duedate < CURRENT_DATE - 25");
+		assertTrue(plan.contains("IDX_TASK_DUEDATE_STATUS"), plan);
+	}
+
+	@Test
+	void statusKeysetPageUsesStatusIndex() {
+		String plan = explain("select * from task t where t.status = 'Pending' and t.taskid > 100 order by t.taskid limit 50");
+		assertTrue(plan.contains("IDX_TASK_STATUS"), plan);
+	}
+
+	@Test
+	void priorityFilterUsesPriorityIndex() {
+		String plan = explain("select * from task t where t.priority = 'High'");
+		assertTrue(plan.contains("IDX_TASK_PRIORITY"), plan);
+	}
+
+}
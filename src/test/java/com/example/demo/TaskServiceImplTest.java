@@ -4,19 +4,40 @@ import static org.junit.jupiter.api.Assertions.*;
  
 import static org.mockito.Mockito.*;
  
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
  
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
- 
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+ 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.example.demo.dto.AssociateTaskWithCategoryDto;
+import com.example.demo.dto.CursorPageDto;
+import com.example.demo.dto.TaskCategoryAssociationResultDto;
+import com.example.demo.dto.TaskCreationResultDto;
 import com.example.demo.dto.TaskProjectUserDto;
+import com.example.demo.dto.TaskSummaryDto;
 import com.example.demo.entity.Category;
 import com.example.demo.entity.Project;
 import com.example.demo.entity.Task;
@@ -29,11 +50,22 @@ import com.example.demo.exception.TaskListIsEmptyException;
 import com.example.demo.exception.UserDoesNotExistException;
 import com.example.demo.repository.CategoryRepository;
 import com.example.demo.repository.ProjectRepository;
+import com.example.demo.repository.TaskCategoryBatchRepository;
 import com.example.demo.repository.TaskRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.service.ProjectStatisticsService;
+import com.example.demo.service.SearchIndexer;
+import com.example.demo.service.TableExistenceCache;
 import com.example.demo.service.TaskServiceImpl;
  
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+ 
 @SpringBootTest
+@ActiveProfiles("test")
 public class TaskServiceImplTest {
  
     @Mock
@@ -47,6 +79,31 @@ public class TaskServiceImplTest {
     
     @Mock
     private CategoryRepository categoryRepository;
+
+    @Mock
+    private TaskCategoryBatchRepository taskCategoryBatchRepository;
+ 
+    @Spy
+    private TableExistenceCache tableExistenceCache;
+ 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+ 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProjectStatisticsService projectStatisticsService;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
  
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -54,6 +111,8 @@ public class TaskServiceImplTest {
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskService, "bulkBatchSize", 1000);
+        ReflectionTestUtils.setField(taskService, "bulkChunkSize", 2);
     }
  
     @Test
@@ -87,22 +146,46 @@ public class TaskServiceImplTest {
  
         assertFalse(tasks.isEmpty());
         assertEquals(2, tasks.size());
+        verify(taskRepository, times(1)).findAll();
     }
  
     @Test
     public void testGetOverdueTasks() throws TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         when(taskRepository.getOverdueTasks()).thenReturn(Arrays.asList(new Task()));
  
         List<Task> tasks = taskService.getOverdueTasks();
  
         assertFalse(tasks.isEmpty());
         assertEquals(1, tasks.size());
+        verify(taskRepository, never()).findAll();
+    }
+ 
+    @Test
+    public void testGetOverdueTasks_TaskListIsEmpty() {
+        when(taskRepository.existsAny()).thenReturn(false);
+ 
+        assertThrows(TaskListIsEmptyException.class, () -> taskService.getOverdueTasks());
+        verify(taskRepository, never()).getOverdueTasks();
+    }
+ 
+    @Test
+    public void testExistenceProbeIsCachedUntilDelete() throws TaskListIsEmptyException, TaskDoesntExistException {
+        when(taskRepository.existsAny()).thenReturn(true);
+        when(taskRepository.deleteByTaskId(1)).thenReturn(1);
+ 
+        taskService.getTasksDueSoon();
+        taskService.getTasksByUserId(1);
+        verify(taskRepository, times(1)).existsAny();
+ 
+        taskService.deleteTaskById(1);
+        taskService.getTasksDueSoon();
+        verify(taskRepository, times(2)).existsAny();
     }
  
     @Test
     public void testGetTasksByPriorityAndStatus() throws TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         when(taskRepository.getTasksByPriorityAndStatus("Medium")).thenReturn(Arrays.asList(new Task()));
  
         List<Task> tasks = taskService.getTasksByPriorityAndStatus("Medium");
@@ -113,7 +196,7 @@ public class TaskServiceImplTest {
  
     @Test
     public void testGetTasksDueSoon() throws TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         when(taskRepository.getTasksDueSoon()).thenReturn(Arrays.asList(new Task()));
  
         List<Task> tasks = taskService.getTasksDueSoon();
@@ -124,7 +207,7 @@ public class TaskServiceImplTest {
  
     @Test
     public void testGetTasksByUserAndStatus() throws TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         when(taskRepository.getTasksByUserAndStatus("1", "Pending")).thenReturn(Arrays.asList(new Task()));
  
         List<Task> tasks = taskService.getTasksByUserAndStatus("1", "Pending");
@@ -135,7 +218,7 @@ public class TaskServiceImplTest {
  
     @Test
     public void testGetTasksByCategory() throws TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         when(taskRepository.getTasksByCategory("1")).thenReturn(Arrays.asList(new Task()));
  
         List<Task> tasks = taskService.getTasksByCategory("1");
@@ -186,7 +269,7 @@ public class TaskServiceImplTest {
  
     @Test
     public void testGetAllTaskForCategory() throws CategoryDoesntExistException, TaskListIsEmptyException {
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(new Task(), new Task()));
+        when(taskRepository.existsAny()).thenReturn(true);
         
         Category mockCategory = new Category();
         when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
@@ -207,4 +290,300 @@ public class TaskServiceImplTest {
  
         verify(taskRepository, times(3)).associateTaskWithCategory(eq(1), anyInt());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAllTasksPage_ReturnsNextCursorWhenMoreRemain() throws TaskListIsEmptyException {
+        Task first = new Task(11, "First", null, null, "Low", "Pending");
+        Task second = new Task(12, "Second", null, null, "Low", "Pending");
+        when(taskRepository.existsAny()).thenReturn(true);
+        when(taskRepository.getTasksAfter(eq(10), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(first, second), PageRequest.of(0, 2), true));
+ 
+        CursorPageDto<Task> page = taskService.getAllTasks(10, 2);
+ 
+        assertEquals(2, page.getItems().size());
+        assertEquals(12, page.getNextCursor());
+    }
+ 
+    @Test
+    public void testGetTasksByProjectPage_LastPageHasNoCursorAndLimitIsClamped() throws TaskListIsEmptyException {
+        when(taskRepository.existsAny()).thenReturn(true);
+        when(taskRepository.getTasksByProjectAfter(eq(1), eq(0), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Arrays.asList(new Task())));
+ 
+        CursorPageDto<Task> page = taskService.getTasksByProject(1, 0, 100000);
+ 
+        assertNull(page.getNextCursor());
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).getTasksByProjectAfter(eq(1), eq(0), pageable.capture());
+        assertEquals(0, pageable.getValue().getPageNumber());
+        assertTrue(pageable.getValue().getPageSize() <= 500);
+    }
+
+    @Test
+    public void testExportTasks_WritesOneJsonLinePerTask() throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 2500; i++) {
+            tasks.add(new Task(i, "Task " + i, null, LocalDate.of(2030, 1, 1), "Low", "Pending"));
+        }
+        when(taskRepository.streamAllTasks()).thenReturn(tasks.stream());
+ 
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        taskService.exportTasks(out);
+ 
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2500, lines.length);
+        assertTrue(lines[0].startsWith("{\"taskId\":1,"));
+        assertTrue(lines[0].contains("\"dueDate\":\"2030-01-01\""));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    public void testAssociateTasksWithCategoriesReportsEachPair() {
+        AssociateTaskWithCategoryDto first = new AssociateTaskWithCategoryDto();
+        first.setTaskId(1);
+        first.setCategoryId(Arrays.asList(10, 11, 12, 10));
+        AssociateTaskWithCategoryDto second = new AssociateTaskWithCategoryDto();
+        second.setTaskId(2);
+        second.setCategoryId(Arrays.asList(10));
+        when(taskCategoryBatchRepository.findExistingTaskIds(anyCollection())).thenReturn(new HashSet<>(Arrays.asList(1)));
+        when(taskCategoryBatchRepository.findExistingCategoryIds(anyCollection())).thenReturn(new HashSet<>(Arrays.asList(10, 11)));
+        when(taskCategoryBatchRepository.findExistingPairs(anyCollection()))
+                .thenReturn(new HashSet<>(Arrays.asList(TaskCategoryBatchRepository.pairKey(1, 11))));
+
+        List<TaskCategoryAssociationResultDto> results = taskService.associateTasksWithCategories(Arrays.asList(first, second));
+
+        assertEquals(5, results.size());
+        assertEquals(TaskCategoryAssociationResultDto.CREATED, results.get(0).getStatus());
+        assertEquals(TaskCategoryAssociationResultDto.DUPLICATE, results.get(1).getStatus());
+        assertEquals(TaskCategoryAssociationResultDto.CATEGORY_NOT_FOUND, results.get(2).getStatus());
+        assertEquals(TaskCategoryAssociationResultDto.DUPLICATE, results.get(3).getStatus());
+        assertEquals(TaskCategoryAssociationResultDto.TASK_NOT_FOUND, results.get(4).getStatus());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<int[]>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(taskCategoryBatchRepository, times(1)).batchInsert(inserted.capture(), eq(1000));
+        assertEquals(1, inserted.getValue().size());
+        assertArrayEquals(new int[] {1, 10}, inserted.getValue().get(0));
+        verify(taskRepository, never()).associateTaskWithCategory(anyInt(), anyInt());
+    }
+
+    private TaskProjectUserDto bulkTask(int taskId, int projectId, int userId) {
+        TaskProjectUserDto dto = new TaskProjectUserDto();
+        dto.setTaskId(taskId);
+        dto.setTaskName("Task " + taskId);
+        dto.setProjectId(projectId);
+        dto.setUserId(userId);
+        return dto;
+    }
+
+    @Test
+    public void testCreateTasksValidatesOnceAndPersistsInChunks() {
+        List<TaskProjectUserDto> dtos = Arrays.asList(bulkTask(1, 1, 1), bulkTask(2, 1, 1), bulkTask(3, 9, 1),
+                bulkTask(4, 1, 9), bulkTask(5, 1, 1), bulkTask(2, 1, 1), bulkTask(6, 1, 1));
+        when(taskRepository.getExistingTaskIds(anyCollection())).thenReturn(Arrays.asList(5));
+        when(projectRepository.getExistingProjectIds(anyCollection())).thenReturn(Arrays.asList(1));
+        when(userRepository.getExistingUserIds(anyCollection())).thenReturn(Arrays.asList(1));
+
+        List<TaskCreationResultDto> results = taskService.createTasks(dtos);
+
+        assertEquals(7, results.size());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(0).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(1).getStatus());
+        assertEquals(TaskCreationResultDto.PROJECT_NOT_FOUND, results.get(2).getStatus());
+        assertEquals(TaskCreationResultDto.USER_NOT_FOUND, results.get(3).getStatus());
+        assertEquals(TaskCreationResultDto.ALREADY_EXISTS, results.get(4).getStatus());
+        assertEquals(TaskCreationResultDto.DUPLICATE_IN_REQUEST, results.get(5).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(6).getStatus());
+        verify(taskRepository, times(1)).getExistingTaskIds(anyCollection());
+        verify(projectRepository, times(1)).getExistingProjectIds(anyCollection());
+        verify(userRepository, times(1)).getExistingUserIds(anyCollection());
+        verify(taskRepository, never()).findById(anyInt());
+        verify(entityManager, times(3)).persist(any(Task.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void testCreateTasksReportsFailedChunk() {
+        List<TaskProjectUserDto> dtos = Arrays.asList(bulkTask(1, 1, 1), bulkTask(2, 1, 1), bulkTask(3, 1, 1));
+        when(taskRepository.getExistingTaskIds(anyCollection())).thenReturn(new ArrayList<>());
+        when(projectRepository.getExistingProjectIds(anyCollection())).thenReturn(Arrays.asList(1));
+        when(userRepository.getExistingUserIds(anyCollection())).thenReturn(Arrays.asList(1));
+        doThrow(new PersistenceException("constraint violation")).when(entityManager)
+                .persist(argThat((Task task) -> task.getTaskId() == 2));
+
+        List<TaskCreationResultDto> results = taskService.createTasks(dtos);
+
+        assertEquals(TaskCreationResultDto.FAILED, results.get(0).getStatus());
+        assertEquals(TaskCreationResultDto.FAILED, results.get(1).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(2).getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    public void testCreateTasksReportsInvalidItemInSecondChunk() {
+        TaskProjectUserDto invalid = bulkTask(3, 1, 1);
+        invalid.setPriority("Urgent");
+        List<TaskProjectUserDto> dtos = Arrays.asList(bulkTask(1, 1, 1), bulkTask(2, 1, 1), invalid, bulkTask(4, 1, 1));
+        when(taskRepository.getExistingTaskIds(anyCollection())).thenReturn(new ArrayList<>());
+        when(projectRepository.getExistingProjectIds(anyCollection())).thenReturn(Arrays.asList(1));
+        when(userRepository.getExistingUserIds(anyCollection())).thenReturn(Arrays.asList(1));
+
+        List<TaskCreationResultDto> results = taskService.createTasks(dtos);
+
+        assertEquals(TaskCreationResultDto.CREATED, results.get(0).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(1).getStatus());
+        assertEquals(TaskCreationResultDto.INVALID, results.get(2).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(3).getStatus());
+        verify(entityManager, never()).persist(argThat((Task task) -> task.getTaskId() == 3));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void testCreateTasksReportsConstraintViolationAsFailedChunk() {
+        List<TaskProjectUserDto> dtos = Arrays.asList(bulkTask(1, 1, 1), bulkTask(2, 1, 1), bulkTask(3, 1, 1));
+        when(taskRepository.getExistingTaskIds(anyCollection())).thenReturn(new ArrayList<>());
+        when(projectRepository.getExistingProjectIds(anyCollection())).thenReturn(Arrays.asList(1));
+        when(userRepository.getExistingUserIds(anyCollection())).thenReturn(Arrays.asList(1));
+        doThrow(new ConstraintViolationException("constraint violation", null)).when(entityManager)
+                .persist(argThat((Task task) -> task.getTaskId() == 3));
+
+        List<TaskCreationResultDto> results = taskService.createTasks(dtos);
+
+        assertEquals(TaskCreationResultDto.CREATED, results.get(0).getStatus());
+        assertEquals(TaskCreationResultDto.CREATED, results.get(1).getStatus());
+        assertEquals(TaskCreationResultDto.FAILED, results.get(2).getStatus());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    public void testGetTasksByTaskIdFetchesOnce() throws TaskDoesntExistException {
+        Task task = new Task();
+        task.setTaskId(1);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(task));
+
+        assertEquals(task, taskService.getTasksByTaskId(1));
+        verify(taskRepository, times(1)).findById(1);
+        verify(taskRepository, never()).getTasksByTaskId(anyInt());
+    }
+
+    @Test
+    public void testDeleteTaskByIdUsesSingleStatement() {
+        when(taskRepository.deleteByTaskId(1)).thenReturn(0);
+
+        assertThrows(TaskDoesntExistException.class, () -> taskService.deleteTaskById(1));
+        verify(taskRepository, times(1)).deleteByTaskId(1);
+        verify(taskRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    public void testCreateTaskIncrementsUserTaskCount() throws TaskAlreadyExistsException, ProjectDoesNotExistException, UserDoesNotExistException {
+        User user = new User();
+        user.setUserId(7);
+        when(taskRepository.findById(1)).thenReturn(Optional.empty());
+        when(projectRepository.findById(1)).thenReturn(Optional.of(new Project()));
+        when(userRepository.findById(7)).thenReturn(Optional.of(user));
+        when(taskRepository.save(any(Task.class))).thenReturn(new Task());
+
+        taskService.createTask(bulkTask(1, 1, 7));
+        verify(userRepository, times(1)).adjustTaskCount(7, 1);
+    }
+
+    @Test
+    public void testUpdateTaskMovesTaskCountToNewUser() throws TaskDoesntExistException, ProjectDoesNotExistException, UserDoesNotExistException {
+        User previousUser = new User();
+        previousUser.setUserId(3);
+        User newUser = new User();
+        newUser.setUserId(7);
+        Task existing = new Task();
+        existing.setUser(previousUser);
+        when(taskRepository.findById(1)).thenReturn(Optional.of(existing));
+        when(projectRepository.findById(1)).thenReturn(Optional.of(new Project()));
+        when(userRepository.findById(7)).thenReturn(Optional.of(newUser));
+        when(userRepository.findById(3)).thenReturn(Optional.of(previousUser));
+
+        taskService.updateTaskDetailsById(1, bulkTask(1, 1, 7));
+        verify(userRepository, times(1)).adjustTaskCount(3, -1);
+        verify(userRepository, times(1)).adjustTaskCount(7, 1);
+
+        existing.setUser(newUser);
+        taskService.updateTaskDetailsById(1, bulkTask(1, 1, 7));
+        verify(userRepository, times(2)).adjustTaskCount(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testDeleteTaskDecrementsOwnerTaskCount() throws TaskDoesntExistException {
+        when(taskRepository.deleteByTaskId(1)).thenReturn(1);
+
+        taskService.deleteTaskById(1);
+        verify(userRepository, times(1)).decrementTaskCountOfTaskOwner(1);
+    }
+
+    @Test
+    public void testCreateTasksAdjustsTaskCountOncePerUserPerChunk() {
+        List<TaskProjectUserDto> dtos = Arrays.asList(bulkTask(1, 1, 2), bulkTask(2, 1, 2), bulkTask(3, 1, 1));
+        when(taskRepository.getExistingTaskIds(anyCollection())).thenReturn(new ArrayList<>());
+        when(projectRepository.getExistingProjectIds(anyCollection())).thenReturn(Arrays.asList(1));
+        when(userRepository.getExistingUserIds(anyCollection())).thenReturn(Arrays.asList(1, 2));
+
+        taskService.createTasks(dtos);
+        verify(userRepository, times(1)).adjustTaskCount(2, 2);
+        verify(userRepository, times(1)).adjustTaskCount(1, 1);
+    }
+
+    @Test
+    public void testTaskWritesUpdateProjectStatistics() throws TaskAlreadyExistsException, TaskDoesntExistException, ProjectDoesNotExistException, UserDoesNotExistException {
+        Project project = new Project();
+        project.setProjectId(4);
+        Project previousProject = new Project();
+        previousProject.setProjectId(2);
+        Task existing = new Task();
+        existing.setProject(previousProject);
+        existing.setStatus("Pending");
+        existing.setPriority("Low");
+        when(taskRepository.findById(1)).thenReturn(Optional.empty()).thenReturn(Optional.of(existing));
+        when(projectRepository.findById(4)).thenReturn(Optional.of(project));
+        when(userRepository.findById(1)).thenReturn(Optional.of(new User()));
+        when(taskRepository.save(any(Task.class))).thenReturn(new Task());
+
+        TaskProjectUserDto dto = bulkTask(1, 4, 1);
+        taskService.createTask(dto);
+        verify(projectStatisticsService).taskAdded(4, dto.getStatus(), dto.getPriority());
+
+        taskService.updateTaskDetailsById(1, dto);
+        verify(projectStatisticsService).taskRemoved(2, "Pending", "Low");
+        verify(projectStatisticsService, times(2)).taskAdded(4, dto.getStatus(), dto.getPriority());
+
+        when(taskRepository.getTaskSummaryByTaskId(1)).thenReturn(new TaskSummaryDto(1, "Task 1", "Completed", "High", null, 4, 1));
+        when(taskRepository.deleteByTaskId(1)).thenReturn(1);
+        taskService.deleteTaskById(1);
+        verify(projectStatisticsService).taskRemoved(4, "Completed", "High");
+    }
+
+    @Test
+    public void testGetTaskCountOfProjectServedFromStatistics() throws TaskListIsEmptyException {
+        when(taskRepository.existsAny()).thenReturn(true);
+        when(projectStatisticsService.isReady()).thenReturn(true);
+        when(projectStatisticsService.getTaskCount(3)).thenReturn(12);
+
+        assertEquals(12, taskService.getTaskCountOfProject(3));
+        verify(taskRepository, never()).getTaskCountOfProject(anyInt());
+    }
+
+    @Test
+    public void testGetTaskSummariesReturnsProjectionPage() throws TaskListIsEmptyException {
+        List<TaskSummaryDto> summaries = Arrays.asList(
+                new TaskSummaryDto(4, "Task 4", "OPEN", "HIGH", LocalDate.now(), 1, 2),
+                new TaskSummaryDto(9, "Task 9", "OPEN", "LOW", null, null, 2));
+        when(taskRepository.existsAny()).thenReturn(true);
+        when(taskRepository.getTaskSummariesBystatusAfter(eq("OPEN"), eq(3), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(summaries, PageRequest.of(0, 2), true));
+
+        CursorPageDto<TaskSummaryDto> page = taskService.getTaskSummariesBystatus("OPEN", 3, 2);
+
+        assertEquals(summaries, page.getItems());
+        assertEquals(9, page.getNextCursor());
+        verify(taskRepository, never()).getTaskBystatusAfter(anyString(), anyInt(), any(Pageable.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.demo.service.ThumbnailGenerator;
+
+class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    private final ThumbnailGenerator thumbnailGenerator = new ThumbnailGenerator(256, 10_000_000);
+
+    private Path image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.dispose();
+        Path path = dir.resolve("image." + format);
+        assertTrue(ImageIO.write(image, format, path.toFile()));
+        return path;
+    }
+
+    @Test
+    void testLargeImageIsScaledToFit() throws IOException {
+        Path thumbnail = dir.resolve("thumb.png");
+
+        assertTrue(thumbnailGenerator.generate(image(2000, 1000, "jpg"), thumbnail));
+
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertEquals(256, result.getWidth());
+        assertEquals(128, result.getHeight());
+        Color left = new Color(result.getRGB(10, 64));
+        assertTrue(left.getRed() > 200 && left.getGreen() < 60, "left half stays red: " + left);
+    }
+
+    @Test
+    void testSmallImageIsNotEnlarged() throws IOException {
+        Path thumbnail = dir.resolve("thumb.png");
+
+        assertTrue(thumbnailGenerator.generate(image(100, 50, "png"), thumbnail));
+
+        BufferedImage result = ImageIO.read(thumbnail.toFile());
+        assertEquals(100, result.getWidth());
+        assertEquals(50, result.getHeight());
+    }
+
+    @Test
+    void testNonImageIsSkipped() throws IOException {
+        Path text = Files.writeString(dir.resolve("notes.txt"), "not an image");
+        Path thumbnail = dir.resolve("thumb.png");
+
+        assertFalse(thumbnailGenerator.generate(text, thumbnail));
+        assertFalse(Files.exists(thumbnail));
+    }
+
+    @Test
+    void testImageAbovePixelLimitIsRefused() throws IOException {
+        ThumbnailGenerator limited = new ThumbnailGenerator(256, 1000);
+
+        assertThrows(IOException.class, () -> limited.generate(image(100, 50, "png"), dir.resolve("thumb.png")));
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.service.UnreadNotificationCountCache;
+
+class UnreadNotificationCountCacheTest {
+
+    private UnreadNotificationCountCache unreadNotificationCountCache;
+
+    @BeforeEach
+    void setUp() {
+        unreadNotificationCountCache = new UnreadNotificationCountCache(100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testGetCachesLoadedCount() {
+        unreadNotificationCountCache.get(1, userId -> 3);
+
+        assertEquals(3, unreadNotificationCountCache.get(1, userId -> fail("should be cached")));
+    }
+
+    @Test
+    void testLoadOvertakenByEvictIsNotCached() {
+        long loaded = unreadNotificationCountCache.get(1, userId -> {
+            // A notification is marked read and evicted while the old count is being read
+            unreadNotificationCountCache.evict(1);
+            return 3;
+        });
+
+        assertEquals(3, loaded);
+        assertEquals(2, unreadNotificationCountCache.get(1, userId -> 2));
+    }
+
+    @Test
+    void testLoadOvertakenByClearIsNotCached() {
+        unreadNotificationCountCache.get(1, userId -> {
+            unreadNotificationCountCache.clear();
+            return 3;
+        });
+
+        assertEquals(0, unreadNotificationCountCache.get(1, userId -> 0));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that the EMAILDOMAIN column is maintained on save/update and that the
+ * domain lookup is an indexed equality match.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserEmailDomainTest {
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Test
+	void emailDomainIsDerivedOnSaveAndUpdate() {
+		userRepository.saveAndFlush(new User(1, "alice", "Secret@1", "alice@Example.COM", "Alice"));
+		userRepository.saveAndFlush(new User(2, "bob", "Secret@1", "bob@other.org", "Bob"));
+		entityManager.clear();
+
+		List<User> users = userRepository.getUsersWithSpecificEmailDomain("example.com");
+		assertEquals(1, users.size());
+		assertEquals("alice", users.get(0).getUserName());
+
+		userRepository.saveAndFlush(new User(2, "bob", "Secret@1", "bob@example.com", "Bob"));
+		entityManager.clear();
+
+		assertEquals(2, userRepository.getUsersWithSpecificEmailDomain("example.com").size());
+		assertTrue(userRepository.getUsersWithSpecificEmailDomain("other.org").isEmpty());
+	}
+
+	@Test
+	void emailDomainLookupUsesIndex() {
+		String plan = String.join("\n",
+				jdbcTemplate.queryForList("explain select * from user u where u.emaildomain = 'example.com'", String.class));
+		assertTrue(plan.contains("IDX_USER_EMAILDOMAIN"), plan);
+	}
+
+	@Test
+	void domainOfNormalisesEmailsAndDomains() {
+		assertEquals("example.com", User.domainOf("someone@Example.com"));
+		assertEquals("example.com", User.domainOf("@EXAMPLE.com"));
+		assertEquals("example.com", User.domainOf("example.com"));
+		assertNull(User.domainOf(null));
+	}
+
+}
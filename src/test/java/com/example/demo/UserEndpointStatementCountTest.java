@@ -0,0 +1,110 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/users endpoints.
+ */
+class UserEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	private Map<String, Object> user(int userId, String userName) {
+		return Map.of("userId", userId, "userName", userName, "fullName", "User " + userId,
+				"email", userName + "@example.com", "password", "Secret@1");
+	}
+
+	@Test
+	void addUser() throws Exception {
+		assertStatements(3, json(post("/api/users/post"), user(4, "user4"))).andExpect(status().is2xxSuccessful());
+	}
+
+	@Test
+	void getAllUsers() throws Exception {
+		assertStatements(1, get("/api/users/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUserIdByUserName() throws Exception {
+		assertStatements(2, get("/api/users/userName/user1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUserById() throws Exception {
+		assertStatements(1, get("/api/users/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUsersWithEmailDomain() throws Exception {
+		assertStatements(1, get("/api/users/email-domain/example.com")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUsersByFullName() throws Exception {
+		assertStatements(1, get("/api/users/search/User 1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUsersWithMostTasks() throws Exception {
+		assertStatements(2, get("/api/users/most-tasks")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getTopUsersByTaskCount() throws Exception {
+		assertStatements(2, get("/api/users/most-tasks").param("limit", "2")).andExpect(status().isOk());
+	}
+
+	@Test
+	void authenticateUser() throws Exception {
+		assertStatements(2, json(post("/api/users/authenticate"), Map.of("userName", "user1", "password", "secret")))
+				.andExpect(status().isOk());
+		// Credentials are cached after the first login
+		assertStatements(0, json(post("/api/users/authenticate"), Map.of("userName", "user1", "password", "secret")))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void updateUser() throws Exception {
+		assertStatements(2, json(put("/api/users/update/2"), user(2, "user2b"))).andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteUser() throws Exception {
+		assertStatements(12, delete("/api/users/delete/3")).andExpect(status().is2xxSuccessful());
+		assertEquals(2, projectStatisticsService.getTaskCount(1));
+		assertTrue(projectStatisticsService.checkConsistency().isConsistent());
+	}
+
+	@Test
+	void deleteUserUpdatesTaskCountsOfCascadedTasks() throws Exception {
+		jdbcTemplate.update("delete from userroles where userid = 2");
+		mockMvc.perform(delete("/api/users/delete/2")).andExpect(status().is2xxSuccessful());
+		// Task 3 of user 1 was in user 2's project 2
+		assertEquals(2, jdbcTemplate.queryForObject("select taskcount from user where userid = 1", Integer.class));
+	}
+
+	@Test
+	void getUserRoleIdsByUserName() throws Exception {
+		assertStatements(2, get("/api/users/login/user1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUserRolesOfUser() throws Exception {
+		assertStatements(2, get("/api/users/userRoles/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllUsersWithUserRoles() throws Exception {
+		assertStatements(3, get("/api/users/allUsers")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllUserIds() throws Exception {
+		assertStatements(1, get("/api/users/allIds")).andExpect(status().isOk());
+	}
+
+}
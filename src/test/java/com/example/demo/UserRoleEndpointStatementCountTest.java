@@ -0,0 +1,68 @@
+package com.example.demo;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Statement-count bounds for the /api/userrole and /api/userroles endpoints.
+ */
+class UserRoleEndpointStatementCountTest extends EndpointStatementCountTestSupport {
+
+	@Test
+	void createUserRole() throws Exception {
+		assertStatements(3, json(post("/api/userrole/post"), Map.of("userRoleId", 4, "roleName", "VIEWER")))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void getAllUserRoles() throws Exception {
+		assertStatements(1, get("/api/userrole/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getUserRoleById() throws Exception {
+		assertStatements(1, get("/api/userrole/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void updateUserRole() throws Exception {
+		assertStatements(3, json(put("/api/userrole/update/2"), Map.of("userRoleId", 2, "roleName", "CONTRIBUTOR")))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void deleteUserRole() throws Exception {
+		assertStatements(3, delete("/api/userrole/delete/3")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllRoleIds() throws Exception {
+		assertStatements(1, get("/api/userrole/allRoleIds")).andExpect(status().isOk());
+	}
+
+	@Test
+	void assignRoleToUser() throws Exception {
+		assertStatements(3, json(post("/api/userroles/assign"), Map.of("userId", 3, "userRoleId", 2)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void getAllUserRoleAssociations() throws Exception {
+		assertStatements(3, get("/api/userroles/all")).andExpect(status().isOk());
+	}
+
+	@Test
+	void getRolesOfUser() throws Exception {
+		assertStatements(3, get("/api/userroles/user/1")).andExpect(status().isOk());
+	}
+
+	@Test
+	void revokeRoleFromUser() throws Exception {
+		assertStatements(4, delete("/api/userroles/revoke/2/1")).andExpect(status().isOk());
+	}
+
+}
@@ -1,19 +1,30 @@
 package com.example.demo;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.example.demo.dto.UserUserRoleDto;
 import com.example.demo.entity.User;
@@ -25,6 +36,11 @@ import com.example.demo.exception.UserListIsEmptyException;
 import com.example.demo.exception.UserRoleListIsEmptyException;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.repository.UserRoleRepository;
+import com.example.demo.service.CredentialCache;
+import com.example.demo.service.PasswordHasher;
+import com.example.demo.service.ProjectStatisticsService;
+import com.example.demo.service.SearchIndexer;
+import com.example.demo.service.TableExistenceCache;
 import com.example.demo.service.UserServiceImpl;
 
 class UserServiceImplTest {
@@ -38,6 +54,21 @@ class UserServiceImplTest {
     @Mock
     UserRoleRepository userRoleRepository;
 
+    @Mock
+    ProjectStatisticsService projectStatisticsService;
+
+    @Mock
+    SearchIndexer searchIndexer;
+
+    @Spy
+    TableExistenceCache tableExistenceCache;
+
+    @Spy
+    CredentialCache credentialCache = new CredentialCache(100, Duration.ofMinutes(5));
+
+    @Spy
+    PasswordHasher passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), Runnable::run);
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -73,6 +104,16 @@ class UserServiceImplTest {
 
         User result = userService.getDetailsOfSpecificUserById(1);
         assertEquals(user, result);
+        verify(userRepository, times(1)).findById(1);
+        verify(userRepository, never()).getDetailsOfSpecificUserById(anyInt());
+    }
+
+    @Test
+    void testGetDetailsOfSpecificUserByIdNotFound() {
+        when(userRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThrows(UserDoesNotExistException.class, () -> userService.getDetailsOfSpecificUserById(1));
+        verify(userRepository, times(1)).findById(1);
     }
 
     @Test
@@ -94,6 +135,18 @@ class UserServiceImplTest {
 
         List<User> result = userService.getUsersWithSpecificEmailDomain("example.com");
         assertFalse(result.isEmpty());
+        verify(userRepository, times(1)).getUsersWithSpecificEmailDomain("example.com");
+    }
+
+    @Test
+    void testGetUsersWithSpecificEmailDomainNormalisesDomain() throws UserDoesNotExistException {
+        List<User> users = new ArrayList<>();
+        users.add(new User());
+        when(userRepository.getUsersWithSpecificEmailDomain("example.com")).thenReturn(users);
+
+        List<User> result = userService.getUsersWithSpecificEmailDomain("@Example.COM");
+        assertFalse(result.isEmpty());
+        verify(userRepository, times(1)).getUsersWithSpecificEmailDomain("example.com");
     }
 
     @Test
@@ -111,7 +164,7 @@ class UserServiceImplTest {
     void testGetUsersWithMostTasks() throws UserListIsEmptyException {
         List<User> users = new ArrayList<>();
         users.add(new User());
-        when(userRepository.findAll()).thenReturn(users); // Mocking findAll to return a non-empty list
+        when(userRepository.existsAny()).thenReturn(true);
         when(userRepository.getUsersWithMostTasks()).thenReturn(users);
 
         List<User> result = userService.getUsersWithMostTasks();
@@ -139,6 +192,10 @@ class UserServiceImplTest {
         when(userRepository.findById(1)).thenReturn(Optional.of(user));
 
         userService.deleteUserByUserId(1);
+        verify(userRepository, times(1)).findById(1);
+        verify(userRepository, times(1)).decrementTaskCountsForProjectsOfUser(1);
+        verify(projectStatisticsService, times(1)).userRemoved(1);
+        verify(searchIndexer, times(1)).recordCascadeOfUser(1);
         verify(userRepository, times(1)).deleteById(1);
     }
 
@@ -147,7 +204,7 @@ class UserServiceImplTest {
     void testGetUserWithCompletedTasks() throws UserListIsEmptyException {
         List<User> users = new ArrayList<>();
         users.add(new User());
-        when(userRepository.findAll()).thenReturn(users); // Mocking findAll to return a non-empty list
+        when(userRepository.existsAny()).thenReturn(true);
         when(userRepository.getUserWithCompletedTasks()).thenReturn(users);
 
         List<User> result = userService.getUserWithCompletedTasks();
@@ -155,6 +212,17 @@ class UserServiceImplTest {
     }
 
 
+    @Test
+    void testGetTopUsersByTaskCountClampsLimit() throws UserListIsEmptyException {
+        List<User> users = new ArrayList<>();
+        users.add(new User());
+        when(userRepository.existsAny()).thenReturn(true);
+        when(userRepository.getTopUsersByTaskCount(any(Pageable.class))).thenReturn(users);
+
+        assertFalse(userService.getTopUsersByTaskCount(100000).isEmpty());
+        verify(userRepository).getTopUsersByTaskCount(PageRequest.of(0, 500));
+    }
+
     @Test
     void testGetUserIdByUserName() throws UserDoesNotExistException {
         when(userRepository.findByUserName("testUser")).thenReturn(new User());
@@ -192,14 +260,34 @@ class UserServiceImplTest {
         users.add(new User());
         List<UserRole> roles = new ArrayList<>();
         roles.add(new UserRole());
-        when(userRepository.findAll()).thenReturn(users);
-        when(userRoleRepository.findAll()).thenReturn(roles);
+        when(userRepository.existsAny()).thenReturn(true);
+        when(userRoleRepository.existsAny()).thenReturn(true);
         when(userRepository.getAllUserWithUserRole()).thenReturn(new ArrayList<>());
 
         List<UserUserRoleDto> result = userService.getAllUserWithUserRole();
         assertNotNull(result);
     }
 
+    @Test
+    void testGetAllUserWithUserRoleGroupsRolesInOneQuery() throws UserListIsEmptyException, UserRoleListIsEmptyException {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1, "Alice", "alice@example.com", "ADMIN"});
+        rows.add(new Object[] {1, "Alice", "alice@example.com", "USER"});
+        rows.add(new Object[] {2, "Bob", "bob@example.com", "USER"});
+        when(userRepository.existsAny()).thenReturn(true);
+        when(userRoleRepository.existsAny()).thenReturn(true);
+        when(userRepository.getAllUserWithUserRole()).thenReturn(rows);
+
+        List<UserUserRoleDto> result = userService.getAllUserWithUserRole();
+        assertEquals(2, result.size());
+        assertEquals(1, result.get(0).getUserId());
+        assertEquals(List.of("ADMIN", "USER"), result.get(0).getRoleName());
+        assertEquals("Bob", result.get(1).getFullName());
+        assertEquals(List.of("USER"), result.get(1).getRoleName());
+        verify(userRepository, times(1)).getAllUserWithUserRole();
+        verify(userRoleRepository, never()).getAllUserRoleNameWithUserId(anyInt());
+    }
+
     @Test
     void testGetAllUserIds()  {
         int[] userIds = {1, 2, 3};
@@ -209,4 +297,95 @@ class UserServiceImplTest {
         assertArrayEquals(userIds, result);
     }
 
+    @Test
+    void testCreateANewUserStoresHashedPassword() throws UserAlreadyExistsException {
+        User user = new User();
+        user.setUserId(1);
+        user.setPassword("Secret@1");
+        when(userRepository.findById(1)).thenReturn(Optional.empty());
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.createANewUser(user);
+        assertTrue(passwordHasher.isHashed(user.getPassword()));
+        assertTrue(passwordHasher.matches("Secret@1", user.getPassword()));
+    }
+
+    @Test
+    void testAuthenticateUserLooksUpOnceAndCaches() throws UserDoesNotExistException, InvalidUserException {
+        User user = new User();
+        user.setUserId(1);
+        user.setUserName("testUser");
+        user.setPassword(passwordHasher.hash("Secret@1"));
+        when(userRepository.findByUserName("testUser")).thenReturn(user);
+
+        assertTrue(userService.authenticateUser("testUser", "Secret@1"));
+        assertTrue(userService.authenticateUser("testUser", "Secret@1"));
+        verify(userRepository, times(1)).findByUserName("testUser");
+        verify(userRepository, never()).updatePassword(anyInt(), anyString());
+    }
+
+    @Test
+    void testAuthenticateUserRejectsWrongPassword() {
+        User user = new User();
+        user.setUserId(1);
+        user.setUserName("testUser");
+        user.setPassword(passwordHasher.hash("Secret@1"));
+        when(userRepository.findByUserName("testUser")).thenReturn(user);
+
+        assertThrows(InvalidUserException.class, () -> userService.authenticateUser("testUser", "Wrong@1"));
+    }
+
+    @Test
+    void testAuthenticateUserUnknownUserIsNotCached() {
+        when(userRepository.findByUserName("ghost")).thenReturn(null);
+
+        assertThrows(UserDoesNotExistException.class, () -> userService.authenticateUser("ghost", "Secret@1"));
+        assertThrows(UserDoesNotExistException.class, () -> userService.authenticateUser("ghost", "Secret@1"));
+        verify(userRepository, times(2)).findByUserName("ghost");
+    }
+
+    @Test
+    void testAuthenticateUserUpgradesLegacyPlaintextPassword() throws UserDoesNotExistException, InvalidUserException {
+        User user = new User();
+        user.setUserId(1);
+        user.setUserName("legacy");
+        user.setPassword("Secret@1");
+        when(userRepository.findByUserName("legacy")).thenReturn(user);
+
+        assertTrue(userService.authenticateUser("legacy", "Secret@1"));
+
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, times(1)).updatePassword(eq(1), hash.capture());
+        assertTrue(passwordHasher.isHashed(hash.getValue()));
+        assertTrue(passwordHasher.matches("Secret@1", hash.getValue()));
+
+        assertTrue(userService.authenticateUser("legacy", "Secret@1"));
+        verify(userRepository, times(1)).findByUserName("legacy");
+        verify(userRepository, times(1)).updatePassword(anyInt(), anyString());
+    }
+
+    @Test
+    void testUpdateAndDeleteEvictCachedCredential() throws UserDoesNotExistException, InvalidUserException {
+        User user = new User();
+        user.setUserId(1);
+        user.setUserName("testUser");
+        user.setPassword(passwordHasher.hash("Secret@1"));
+        when(userRepository.findByUserName("testUser")).thenReturn(user);
+        when(userRepository.findById(1)).thenReturn(Optional.of(user));
+
+        userService.authenticateUser("testUser", "Secret@1");
+        User updatedUser = new User();
+        updatedUser.setUserId(1);
+        updatedUser.setUserName("testUser");
+        updatedUser.setPassword("Changed@1");
+        userService.updateUserDetailsByUserId(1, updatedUser);
+        assertTrue(passwordHasher.isHashed(updatedUser.getPassword()));
+
+        userService.authenticateUser("testUser", "Secret@1");
+        verify(userRepository, times(2)).findByUserName("testUser");
+
+        userService.deleteUserByUserId(1);
+        userService.authenticateUser("testUser", "Secret@1");
+        verify(userRepository, times(3)).findByUserName("testUser");
+    }
 }
@@ -0,0 +1,116 @@
+package com.example.demo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+
+/**
+ * Runs the TASKCOUNT maintenance queries against H2 in MySQL mode, with the
+ * schema built by the Flyway migrations.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserTaskCountTest {
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void seed() {
+		for (int i = 1; i <= 3; i++) {
+			jdbcTemplate.update("insert into user (userid, username, fullname, email, password) values (?, ?, ?, ?, ?)",
+					i, "user" + i, "User " + i, "user" + i + "@example.com", "secret");
+			jdbcTemplate.update("insert into project (projectid, projectname, description, startdate, enddate, userid) values (?, ?, ?, ?, ?, ?)",
+					i, "Project " + i, "Project " + i, LocalDate.now(), LocalDate.now().plusDays(30), i);
+		}
+		// user 1: three tasks, user 2: two tasks, user 3: none; project 2 holds tasks of both users
+		int[][] tasks = { { 1, 1, 1 }, { 2, 1, 2 }, { 3, 1, 2 }, { 4, 2, 1 }, { 5, 2, 2 } };
+		for (int[] task : tasks)
+			jdbcTemplate.update("insert into task (taskid, taskname, duedate, priority, status, userid, projectid) values (?, ?, ?, ?, ?, ?, ?)",
+					task[0], "Task " + task[0], LocalDate.now().plusDays(5), "High", "Pending", task[1], task[2]);
+	}
+
+	private int taskCountOf(int userId) {
+		return jdbcTemplate.queryForObject("select taskcount from user where userid = ?", Integer.class, userId);
+	}
+
+	@Test
+	void reconcileRecomputesDriftedCountsOnly() {
+		assertEquals(2, userRepository.reconcileTaskCounts());
+		assertEquals(3, taskCountOf(1));
+		assertEquals(2, taskCountOf(2));
+		assertEquals(0, taskCountOf(3));
+		assertEquals(0, userRepository.reconcileTaskCounts());
+	}
+
+	@Test
+	void countsFollowTaskAndProjectDeletes() {
+		userRepository.reconcileTaskCounts();
+
+		assertEquals(1, userRepository.decrementTaskCountOfTaskOwner(4));
+		assertEquals(1, taskCountOf(2));
+		assertEquals(0, userRepository.decrementTaskCountOfTaskOwner(99));
+
+		assertEquals(2, userRepository.decrementTaskCountsForProject(2));
+		assertEquals(1, taskCountOf(1));
+		assertEquals(0, taskCountOf(2));
+	}
+
+	@Test
+	void countsFollowUserDeletes() {
+		userRepository.reconcileTaskCounts();
+
+		// Deleting user 2 removes project 2 and with it tasks 2 and 3 of user 1
+		assertEquals(1, userRepository.decrementTaskCountsForProjectsOfUser(2));
+		assertEquals(1, taskCountOf(1));
+		assertEquals(2, taskCountOf(2));
+		assertEquals(0, userRepository.decrementTaskCountsForProjectsOfUser(3));
+	}
+
+	@Test
+	void leaderboardReadsMaintainedCount() {
+		userRepository.reconcileTaskCounts();
+		userRepository.adjustTaskCount(2, 1);
+
+		List<User> most = userRepository.getUsersWithMostTasks();
+		assertEquals(2, most.size());
+
+		List<User> top = userRepository.getTopUsersByTaskCount(PageRequest.of(0, 2));
+		assertEquals(2, top.get(0).getUserId());
+		assertEquals(3, top.get(0).getTaskCount());
+		assertEquals(1, top.get(1).getUserId());
+	}
+
+	@Test
+	void topUsersQueryUsesTaskCountIndex() {
+		String plan = String.join("\n", jdbcTemplate.queryForList(
+				"explain select * from user u order by u.taskcount desc, u.userid desc limit 10", String.class));
+		assertTrue(plan.contains("IDX_USER_TASKCOUNT"), plan);
+	}
+
+	@Test
+	void mostTasksQueryUsesTaskCountIndex() {
+		String plan = String.join("\n", jdbcTemplate.queryForList(
+				"explain select * from user u where u.taskcount = (select max(u2.taskcount) from user u2)", String.class));
+		assertTrue(plan.contains("IDX_USER_TASKCOUNT"), plan);
+		assertFalse(plan.contains("tableScan"), plan);
+	}
+
+}